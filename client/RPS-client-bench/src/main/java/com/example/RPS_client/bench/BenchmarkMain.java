@@ -0,0 +1,57 @@
+package com.example.RPS_client.bench;
+
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @file BenchmarkMain.java
+ * @brief Runs the client benchmarks in throughput mode with the GC profiler.
+ * @details Accepts the usual JMH command-line options, e.g. a benchmark name pattern or "-f 1 -wi 2 -i 3",
+ *          which take precedence over the defaults
+ *          below. The GC profiler is always added so every run reports the allocation rate.
+ */
+public final class BenchmarkMain {
+
+    private BenchmarkMain() {
+    }
+
+    /**
+     * @brief Entry point of the benchmark jar.
+     * @param args JMH command-line options.
+     * @throws CommandLineOptionException If the options are invalid.
+     * @throws RunnerException If a benchmark fails.
+     */
+    public static void main(String[] args) throws CommandLineOptionException, RunnerException {
+        CommandLineOptions commandLine = new CommandLineOptions(args);
+        ChainedOptionsBuilder builder = new OptionsBuilder()
+                .parent(commandLine)
+                .addProfiler(GCProfiler.class);
+        if (commandLine.getBenchModes().isEmpty()) {
+            builder.mode(Mode.Throughput);
+        }
+        if (!commandLine.getTimeUnit().hasValue()) {
+            builder.timeUnit(TimeUnit.SECONDS);
+        }
+        if (!commandLine.getForkCount().hasValue()) {
+            builder.forks(1);
+        }
+        if (!commandLine.getWarmupIterations().hasValue()) {
+            builder.warmupIterations(3).warmupTime(TimeValue.seconds(1));
+        }
+        if (!commandLine.getMeasurementIterations().hasValue()) {
+            builder.measurementIterations(5).measurementTime(TimeValue.seconds(1));
+        }
+        Options options = builder.build();
+        new Runner(options).run();
+    }
+}
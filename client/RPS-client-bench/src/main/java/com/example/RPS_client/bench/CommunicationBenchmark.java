@@ -0,0 +1,46 @@
+package com.example.RPS_client.bench;
+
+import com.example.RPS_client.communication.Communication;
+import com.example.RPS_client.communication.StreamTransport;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * @file CommunicationBenchmark.java
+ * @brief Measures sending a request and receiving a delimited response.
+ */
+@State(Scope.Thread)
+public class CommunicationBenchmark {
+
+    /**
+     * @brief Communication over a stand-in stream answering with a result frame.
+     */
+    private Communication communication;
+
+    @Setup
+    public void setUp() {
+        communication = new Communication(new StreamTransport(
+                new LoopingInputStream("DRAW,ROCK,ROCK|"), OutputStream.nullOutputStream()));
+    }
+
+    @TearDown
+    public void tearDown() {
+        communication.close();
+    }
+
+    @Benchmark
+    public String receiveMessageUntil() throws IOException {
+        return communication.receiveMessageUntil("|");
+    }
+
+    @Benchmark
+    public void sendMessage() throws IOException {
+        communication.sendMessage("MAN_VS_MAN,ROCK,PAPER\n");
+    }
+}
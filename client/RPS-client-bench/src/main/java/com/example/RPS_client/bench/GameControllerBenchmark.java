@@ -0,0 +1,58 @@
+package com.example.RPS_client.bench;
+
+import com.example.RPS_client.DTO.GameDTO;
+import com.example.RPS_client.RPSGame.Outcome;
+import com.example.RPS_client.RPSGame.RPSPlayer;
+import com.example.RPS_client.communication.StreamTransport;
+import com.example.RPS_client.controller.GameController;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.io.OutputStream;
+
+/**
+ * @file GameControllerBenchmark.java
+ * @brief Measures parsing of round results and creation of their DTOs.
+ */
+@State(Scope.Thread)
+public class GameControllerBenchmark {
+
+    /**
+     * @brief Controller over a stand-in stream answering with a result frame.
+     */
+    private GameController gameController;
+
+    /**
+     * @brief Move passed to the DTO benchmark, read from a field so it is not constant-folded.
+     */
+    private RPSPlayer.Move move = RPSPlayer.Move.PAPER;
+
+    /**
+     * @brief Result passed to the DTO benchmark, read from a field so it is not constant-folded.
+     */
+    private Outcome result = Outcome.PLAYER_1;
+
+    @Setup
+    public void setUp() {
+        gameController = new GameController(new StreamTransport(
+                new LoopingInputStream("Player 1,PAPER,ROCK|"), OutputStream.nullOutputStream()));
+    }
+
+    @TearDown
+    public void tearDown() {
+        gameController.close();
+    }
+
+    @Benchmark
+    public GameDTO receiveResult() {
+        return gameController.receiveResult();
+    }
+
+    @Benchmark
+    public GameDTO createGameDTO() {
+        return GameDTO.of(result, move, RPSPlayer.Move.ROCK);
+    }
+}
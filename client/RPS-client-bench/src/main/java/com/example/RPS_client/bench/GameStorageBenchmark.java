@@ -0,0 +1,103 @@
+package com.example.RPS_client.bench;
+
+import com.example.RPS_client.DTO.SavedGameDTO;
+import com.example.RPS_client.storage.GameStorage;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * @file GameStorageBenchmark.java
+ * @brief Measures the JSON save and load of a game, in memory and through a temporary file, and the streaming of
+ *        a multi-game archive per game.
+ */
+@State(Scope.Thread)
+public class GameStorageBenchmark {
+
+    /**
+     * @brief Number of games in the streamed archive.
+     */
+    private static final int ARCHIVE_GAMES = 10_000;
+
+    /**
+     * @brief The storage under test.
+     */
+    private final GameStorage gameStorage = new GameStorage();
+
+    /**
+     * @brief The saved game.
+     */
+    private final SavedGameDTO game = new SavedGameDTO("Player 1", "Player 2", "ROCK", "SCISSORS", "Player 1");
+
+    /**
+     * @brief JSON of the saved game.
+     */
+    private String json;
+
+    /**
+     * @brief JSON array of ARCHIVE_GAMES games.
+     */
+    private String archive;
+
+    /**
+     * @brief Temporary file the game is saved to and loaded from.
+     */
+    private Path file;
+
+    @Setup
+    public void setUp() throws IOException {
+        StringWriter writer = new StringWriter();
+        gameStorage.save(writer, game);
+        json = writer.toString();
+        StringBuilder builder = new StringBuilder("[");
+        for (int i = 0; i < ARCHIVE_GAMES; i++) {
+            builder.append(i == 0 ? "" : ",").append(json);
+        }
+        archive = builder.append(']').toString();
+        file = Files.createTempFile("rps-bench", ".json");
+        gameStorage.save(file, game);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(file);
+    }
+
+    @Benchmark
+    public String saveToString() throws IOException {
+        StringWriter writer = new StringWriter(256);
+        gameStorage.save(writer, game);
+        return writer.toString();
+    }
+
+    @Benchmark
+    public SavedGameDTO loadFromString() throws IOException {
+        return gameStorage.load(new StringReader(json));
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ARCHIVE_GAMES)
+    public long loadArchive(Blackhole blackhole) throws IOException {
+        return gameStorage.loadArchive(new StringReader(archive), blackhole::consume, (index, problem) -> { }).loaded();
+    }
+
+    @Benchmark
+    public void saveToFile() throws IOException {
+        gameStorage.save(file, game);
+    }
+
+    @Benchmark
+    public SavedGameDTO loadFromFile() throws IOException {
+        return gameStorage.load(file);
+    }
+}
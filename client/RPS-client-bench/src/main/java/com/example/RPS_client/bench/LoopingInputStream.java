@@ -0,0 +1,50 @@
+package com.example.RPS_client.bench;
+
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * @file LoopingInputStream.java
+ * @brief Stand-in for the serial port that endlessly repeats the same response.
+ * @details Never blocks and never reaches end of stream, so benchmarks measure the client code only.
+ */
+public class LoopingInputStream extends InputStream {
+
+    /**
+     * @brief The repeated bytes.
+     */
+    private final byte[] data;
+
+    /**
+     * @brief Index of the next byte to return.
+     */
+    private int position;
+
+    /**
+     * @brief Creates a stream repeating a message.
+     * @param message The message, encoded as UTF-8.
+     */
+    public LoopingInputStream(String message) {
+        data = message.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public int read() {
+        int value = data[position] & 0xFF;
+        position = (position + 1) % data.length;
+        return value;
+    }
+
+    @Override
+    public int read(byte[] destination, int offset, int length) {
+        int count = Math.min(length, data.length - position);
+        System.arraycopy(data, position, destination, offset, count);
+        position = (position + count) % data.length;
+        return count;
+    }
+
+    @Override
+    public int available() {
+        return data.length - position;
+    }
+}
@@ -0,0 +1,89 @@
+package com.example.RPS_client.bench;
+
+import com.example.RPS_client.DTO.RoundDTO;
+import com.example.RPS_client.RPSGame.RPSMode;
+import com.example.RPS_client.RPSGame.RPSPlayer;
+import com.example.RPS_client.communication.CaptureTransport;
+import com.example.RPS_client.communication.RPSServerEmulator;
+import com.example.RPS_client.communication.ReplayTransport;
+import com.example.RPS_client.controller.GameController;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * @file ReplayBenchmark.java
+ * @brief Measures result parsing on a replayed traffic capture.
+ * @details The capture is recorded once from the firmware emulator. A capture taken on a real device can be
+ *          benchmarked instead by passing its path with -Drps.bench.capture=FILE; it must hold at least ROUNDS results.
+ */
+@State(Scope.Thread)
+public class ReplayBenchmark {
+
+    /**
+     * @brief Number of rounds in the recorded capture.
+     */
+    private static final int ROUNDS = 1000;
+
+    /**
+     * @brief Capture replayed by the benchmark.
+     */
+    private Path captureFile;
+
+    /**
+     * @brief Flag set if the capture was recorded by the benchmark and must be deleted.
+     */
+    private boolean temporary;
+
+    @Setup
+    public void setUp() throws IOException {
+        String external = System.getProperty("rps.bench.capture");
+        if (external != null) {
+            captureFile = Path.of(external);
+            return;
+        }
+
+        captureFile = Files.createTempFile("rps-bench", ".rpscap");
+        temporary = true;
+        RPSMode[] modes = RPSMode.values();
+        RPSPlayer.Move[] moves = RPSPlayer.Move.values();
+        List<RoundDTO> rounds = new ArrayList<>(ROUNDS);
+        for (int i = 0; i < ROUNDS; i++) {
+            rounds.add(new RoundDTO(modes[i % modes.length], moves[i % 3], moves[i / 3 % 3]));
+        }
+        GameController recording = new GameController(new CaptureTransport(new RPSServerEmulator(1), captureFile));
+        recording.playBatch(rounds);
+        recording.close();
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        if (temporary) {
+            Files.deleteIfExists(captureFile);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROUNDS)
+    public void replayResults(Blackhole blackhole) throws IOException {
+        GameController gameController = new GameController(new ReplayTransport(captureFile,
+                ReplayTransport.Pace.AS_FAST_AS_POSSIBLE));
+        try {
+            for (int i = 0; i < ROUNDS; i++) {
+                blackhole.consume(gameController.receiveResult());
+            }
+        } finally {
+            gameController.close();
+        }
+    }
+}
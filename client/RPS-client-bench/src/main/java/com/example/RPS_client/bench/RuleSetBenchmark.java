@@ -0,0 +1,76 @@
+package com.example.RPS_client.bench;
+
+import com.example.RPS_client.engine.RPSRules;
+import com.example.RPS_client.engine.RuleSet;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.SplittableRandom;
+
+/**
+ * @file RuleSetBenchmark.java
+ * @brief Compares resolving rounds with the bit matrix of a RuleSet of 3, 5 and 101 moves and with the RPSRules table.
+ */
+@State(Scope.Thread)
+public class RuleSetBenchmark {
+
+    /**
+     * @brief Number of precomputed move pairs; a power of two.
+     */
+    private static final int PAIRS = 1024;
+
+    /**
+     * @brief Name of the rule set to resolve rounds of.
+     */
+    @Param({"RPS", "RPSLS", "RPS-101"})
+    private String ruleSet;
+
+    /**
+     * @brief The rule set.
+     */
+    private RuleSet rules;
+
+    /**
+     * @brief Random first moves.
+     */
+    private final int[] moves1 = new int[PAIRS];
+
+    /**
+     * @brief Random second moves.
+     */
+    private final int[] moves2 = new int[PAIRS];
+
+    /**
+     * @brief Index of the next pair.
+     */
+    private int next;
+
+    @Setup
+    public void setUp() {
+        rules = switch (ruleSet) {
+            case "RPSLS" -> RuleSet.RPSLS;
+            case "RPS-101" -> RuleSet.RPS_101;
+            default -> RuleSet.CLASSIC;
+        };
+        SplittableRandom random = new SplittableRandom(42);
+        for (int i = 0; i < PAIRS; i++) {
+            moves1[i] = random.nextInt(rules.size());
+            moves2[i] = random.nextInt(rules.size());
+        }
+    }
+
+    @Benchmark
+    public int ruleSetOutcome() {
+        int i = next++ & (PAIRS - 1);
+        return rules.outcome(moves1[i], moves2[i]);
+    }
+
+    @Benchmark
+    public int rpsRulesOutcome() {
+        int i = next++ & (PAIRS - 1);
+        return RPSRules.outcome(moves1[i] % RPSRules.MOVES, moves2[i] % RPSRules.MOVES);
+    }
+}
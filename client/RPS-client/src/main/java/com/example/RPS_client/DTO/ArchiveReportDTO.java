@@ -0,0 +1,24 @@
+package com.example.RPS_client.DTO;
+
+/**
+ * @record ArchiveReportDTO
+ * @brief Represents the outcome of streaming a game archive.
+ */
+public record ArchiveReportDTO(
+        /**
+         * @brief The number of games handed to the callback.
+         */
+        long loaded,
+
+        /**
+         * @brief The number of malformed records that were skipped.
+         */
+        long skipped,
+
+        /**
+         * @brief Whether the whole file was read.
+         * @details False if a JSON syntax error made the rest of the file unreadable.
+         */
+        boolean complete
+) {
+}
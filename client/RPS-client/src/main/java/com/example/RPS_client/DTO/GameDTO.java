@@ -1,17 +1,19 @@
 package com.example.RPS_client.DTO;
 
+import com.example.RPS_client.RPSGame.Outcome;
 import com.example.RPS_client.RPSGame.RPSPlayer;
+
 /**
  * @record GameDTO
  * @brief Represents the data transfer object for a Rock-Paper-Scissors game.
- * @details Holds the game result and the moves made by both players.
+ * @details Holds the game result and the moves made by both players. As there are only a few distinct results,
+ *          decoders share the instances returned by of() instead of allocating one per round.
  */
 public record GameDTO(
         /**
-         * @brief The result of the game.
-         * @details Could represent outcomes such as "Player 1 Wins", "Player 2 Wins", or "Draw".
+         * @brief The outcome of the game.
          */
-        String gameResult,
+        Outcome outcome,
 
         /**
          * @brief The move made by Player 1.
@@ -25,5 +27,65 @@ public record GameDTO(
          */
         RPSPlayer.Move player2Move
 ) {
-}
 
+    /**
+     * @brief Number of moves.
+     */
+    private static final int MOVES = RPSPlayer.Move.values().length;
+
+    /**
+     * @brief Shared instances indexed by (outcome * MOVES + move1) * MOVES + move2.
+     */
+    private static final GameDTO[] INSTANCES = new GameDTO[Outcome.values().length * MOVES * MOVES];
+
+    static {
+        for (Outcome outcome : Outcome.values()) {
+            for (RPSPlayer.Move move1 : RPSPlayer.Move.values()) {
+                for (RPSPlayer.Move move2 : RPSPlayer.Move.values()) {
+                    INSTANCES[index(outcome, move1, move2)] = new GameDTO(outcome, move1, move2);
+                }
+            }
+        }
+    }
+
+    /**
+     * @brief Creates a result from the result string of the text protocol.
+     * @param gameResult The result, "DRAW", "Player 1", "Player 2" or "AI".
+     * @param player1Move The move made by Player 1.
+     * @param player2Move The move made by Player 2.
+     * @throws IllegalArgumentException If the result is unknown.
+     */
+    public GameDTO(String gameResult, RPSPlayer.Move player1Move, RPSPlayer.Move player2Move) {
+        this(Outcome.fromWireName(gameResult), player1Move, player2Move);
+    }
+
+    /**
+     * @brief Returns the shared result instance.
+     * @param outcome The outcome of the game.
+     * @param player1Move The move made by Player 1.
+     * @param player2Move The move made by Player 2.
+     * @return The result.
+     */
+    public static GameDTO of(Outcome outcome, RPSPlayer.Move player1Move, RPSPlayer.Move player2Move) {
+        return INSTANCES[index(outcome, player1Move, player2Move)];
+    }
+
+    /**
+     * @brief Returns the result string of the text protocol.
+     * @return The wire name of the outcome, e.g. "Player 1".
+     */
+    public String gameResult() {
+        return outcome.wireName();
+    }
+
+    /**
+     * @brief Computes the index of a result in INSTANCES.
+     * @param outcome The outcome.
+     * @param move1 The move made by Player 1.
+     * @param move2 The move made by Player 2.
+     * @return The index.
+     */
+    private static int index(Outcome outcome, RPSPlayer.Move move1, RPSPlayer.Move move2) {
+        return (outcome.ordinal() * MOVES + move1.ordinal()) * MOVES + move2.ordinal();
+    }
+}
@@ -0,0 +1,30 @@
+package com.example.RPS_client.DTO;
+
+import com.example.RPS_client.RPSGame.RPSMode;
+
+/**
+ * @record JournalEntryDTO
+ * @brief Represents a round read back from the round journal.
+ */
+public record JournalEntryDTO(
+        /**
+         * @brief The round number, counted from 0 since the journal was created.
+         */
+        long roundNumber,
+
+        /**
+         * @brief The time the round was recorded, in milliseconds since the epoch.
+         */
+        long timestampMillis,
+
+        /**
+         * @brief The game mode of the round.
+         */
+        RPSMode mode,
+
+        /**
+         * @brief The result and moves of the round.
+         */
+        GameDTO result
+) {
+}
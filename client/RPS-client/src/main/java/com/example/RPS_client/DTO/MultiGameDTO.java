@@ -0,0 +1,61 @@
+package com.example.RPS_client.DTO;
+
+import java.util.BitSet;
+
+/**
+ * @record MultiGameDTO
+ * @brief Result of a round in which any number of players throw at once.
+ * @details The winners are the players whose move beats at least one move thrown and is beaten by none; if there is
+ *          no such move, the round is a draw. The bit set and the counts are owned by the result.
+ */
+public record MultiGameDTO(
+        /**
+         * @brief Number of players in the round.
+         */
+        int players,
+
+        /**
+         * @brief Number of players that threw each move, indexed by move.
+         */
+        long[] moveCounts,
+
+        /**
+         * @brief Bit i is set if player i won.
+         */
+        BitSet winners
+) {
+
+    /**
+     * @brief Returns the number of winners.
+     * @return The winner count, 0 for a draw.
+     */
+    public int winnerCount() {
+        return winners.cardinality();
+    }
+
+    /**
+     * @brief Tells whether a player won.
+     * @param player The player's index in the round.
+     * @return True if the player won.
+     */
+    public boolean isWinner(int player) {
+        return winners.get(player);
+    }
+
+    /**
+     * @brief Tells whether the round was a draw.
+     * @return True if nobody won.
+     */
+    public boolean isDraw() {
+        return winners.isEmpty();
+    }
+
+    /**
+     * @brief Returns the number of players that threw a move.
+     * @param move The move index.
+     * @return The count.
+     */
+    public long moveCount(int move) {
+        return moveCounts[move];
+    }
+}
@@ -0,0 +1,88 @@
+package com.example.RPS_client.DTO;
+
+import com.example.RPS_client.RPSGame.RPSPlayer;
+
+/**
+ * @record PlayerStatsDTO
+ * @brief Consistent snapshot of one player's statistics.
+ * @details The arrays are indexed by move ordinal and owned by the snapshot.
+ */
+public record PlayerStatsDTO(
+        /**
+         * @brief The player's name.
+         */
+        String name,
+
+        /**
+         * @brief Number of rounds won.
+         */
+        long wins,
+
+        /**
+         * @brief Number of rounds lost.
+         */
+        long losses,
+
+        /**
+         * @brief Number of drawn rounds.
+         */
+        long draws,
+
+        /**
+         * @brief Current streak: the number of consecutive wins if positive, of consecutive losses if negative.
+         */
+        long currentStreak,
+
+        /**
+         * @brief Longest run of consecutive wins.
+         */
+        long longestWinStreak,
+
+        /**
+         * @brief Longest run of consecutive losses.
+         */
+        long longestLossStreak,
+
+        /**
+         * @brief Number of times each move was played.
+         */
+        long[] moveCounts,
+
+        /**
+         * @brief Number of rounds played against each opponent move.
+         */
+        long[] roundsAgainstMove,
+
+        /**
+         * @brief Number of rounds won against each opponent move.
+         */
+        long[] winsAgainstMove
+) {
+
+    /**
+     * @brief Returns the number of rounds played.
+     * @return The sum of wins, losses and draws.
+     */
+    public long rounds() {
+        return wins + losses + draws;
+    }
+
+    /**
+     * @brief Returns how often the player played a move.
+     * @param move The move.
+     * @return The number of rounds the move was played in.
+     */
+    public long moveCount(RPSPlayer.Move move) {
+        return moveCounts[move.ordinal()];
+    }
+
+    /**
+     * @brief Returns the share of rounds won when the opponent played a move.
+     * @param opponentMove The opponent's move.
+     * @return The win rate between 0 and 1, or 0 if the opponent never played the move.
+     */
+    public double winRateAgainst(RPSPlayer.Move opponentMove) {
+        long rounds = roundsAgainstMove[opponentMove.ordinal()];
+        return rounds == 0 ? 0 : (double) winsAgainstMove[opponentMove.ordinal()] / rounds;
+    }
+}
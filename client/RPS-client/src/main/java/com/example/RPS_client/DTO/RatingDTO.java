@@ -0,0 +1,23 @@
+package com.example.RPS_client.DTO;
+
+/**
+ * @record RatingDTO
+ * @brief Leaderboard entry of one player.
+ */
+public record RatingDTO(
+        /**
+         * @brief The player's name.
+         */
+        String name,
+
+        /**
+         * @brief The player's Elo rating.
+         */
+        double rating,
+
+        /**
+         * @brief Number of rated rounds the player has played.
+         */
+        long games
+) {
+}
@@ -0,0 +1,29 @@
+package com.example.RPS_client.DTO;
+
+import com.example.RPS_client.RPSGame.RPSMode;
+import com.example.RPS_client.RPSGame.RPSPlayer;
+
+/**
+ * @record RoundDTO
+ * @brief Represents a single round request sent to the server.
+ * @details Holds the game mode and the moves submitted by both players.
+ */
+public record RoundDTO(
+        /**
+         * @brief The game mode of the round.
+         */
+        RPSMode mode,
+
+        /**
+         * @brief The move made by Player 1.
+         * @details Ignored by the server in AI_VS_AI mode.
+         */
+        RPSPlayer.Move player1Move,
+
+        /**
+         * @brief The move made by Player 2.
+         * @details Ignored by the server in MAN_VS_AI and AI_VS_AI modes.
+         */
+        RPSPlayer.Move player2Move
+) {
+}
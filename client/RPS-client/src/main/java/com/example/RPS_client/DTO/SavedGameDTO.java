@@ -0,0 +1,42 @@
+package com.example.RPS_client.DTO;
+
+import com.google.gson.annotations.SerializedName;
+
+/**
+ * @record SavedGameDTO
+ * @brief Represents a game as it is saved to and loaded from a JSON file.
+ * @details Moves are kept as strings so that files with unknown or missing moves can still be loaded.
+ */
+public record SavedGameDTO(
+        /**
+         * @brief The name of Player 1.
+         */
+        @SerializedName("Player1Name")
+        String player1Name,
+
+        /**
+         * @brief The name of Player 2.
+         */
+        @SerializedName("Player2Name")
+        String player2Name,
+
+        /**
+         * @brief The move made by Player 1, or null if no move was made.
+         */
+        @SerializedName("Player1Move")
+        String player1Move,
+
+        /**
+         * @brief The move made by Player 2, or null if no move was made.
+         */
+        @SerializedName("Player2Move")
+        String player2Move,
+
+        /**
+         * @brief The winner of the game.
+         * @details Can be null or empty if the game is ongoing.
+         */
+        @SerializedName("Winner")
+        String winner
+) {
+}
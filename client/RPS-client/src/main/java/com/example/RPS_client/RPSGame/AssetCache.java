@@ -0,0 +1,142 @@
+package com.example.RPS_client.RPSGame;
+
+import javafx.scene.image.Image;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.URL;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * @file AssetCache.java
+ * @brief Cache of the decoded images and the stylesheet URL used by the game windows.
+ * @details The move images and the logo are decoded once, already scaled to the width they are shown at, on a
+ *          background thread started with the cache. Image views share the cached Image instances; asking for an
+ *          image that is still being decoded waits for it.
+ */
+final class AssetCache {
+
+    /**
+     * @brief Width of the move images shown after a round, in pixels.
+     */
+    static final double MOVE_WIDTH = 100;
+
+    /**
+     * @brief Width of the logo in the main menu, in pixels.
+     */
+    static final double LOGO_WIDTH = 300;
+
+    /**
+     * @brief Resource path of the logo image.
+     */
+    private static final String LOGO_PATH = "/images/Logo.png";
+
+    /**
+     * @brief Resource path of the application stylesheet.
+     */
+    private static final String STYLESHEET_PATH = "/styles/main.css";
+
+    /**
+     * @brief Resource paths of the move images.
+     */
+    private static final Map<RPSPlayer.Move, String> MOVE_PATHS = new EnumMap<>(Map.of(
+            RPSPlayer.Move.ROCK, "/images/Rock.png",
+            RPSPlayer.Move.PAPER, "/images/Paper.png",
+            RPSPlayer.Move.SCISSORS, "/images/Scissors.png"));
+
+    /**
+     * @brief Decoded images by resource path and width.
+     */
+    private final Map<String, CompletableFuture<Image>> images = new ConcurrentHashMap<>();
+
+    /**
+     * @brief External form of the stylesheet URL.
+     */
+    private final String stylesheet;
+
+    /**
+     * @brief Creates the cache and starts decoding the images in the background.
+     */
+    AssetCache() {
+        URL stylesheetUrl = Objects.requireNonNull(AssetCache.class.getResource(STYLESHEET_PATH));
+        stylesheet = stylesheetUrl.toExternalForm();
+
+        ExecutorService loader = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "rps-asset-loader");
+            thread.setDaemon(true);
+            return thread;
+        });
+        images.put(key(LOGO_PATH, LOGO_WIDTH), CompletableFuture.supplyAsync(() -> decode(LOGO_PATH, LOGO_WIDTH), loader));
+        for (String path : MOVE_PATHS.values()) {
+            images.put(key(path, MOVE_WIDTH), CompletableFuture.supplyAsync(() -> decode(path, MOVE_WIDTH), loader));
+        }
+        loader.shutdown();
+    }
+
+    /**
+     * @brief Returns the image of a move at the width shown after a round.
+     * @param move The move.
+     * @return The shared image.
+     */
+    Image moveImage(RPSPlayer.Move move) {
+        return image(MOVE_PATHS.get(move), MOVE_WIDTH);
+    }
+
+    /**
+     * @brief Returns the logo at the width shown in the main menu.
+     * @return The shared image.
+     */
+    Image logo() {
+        return image(LOGO_PATH, LOGO_WIDTH);
+    }
+
+    /**
+     * @brief Returns the URL of the application stylesheet, as added to a scene's stylesheets.
+     * @return The stylesheet URL.
+     */
+    String stylesheet() {
+        return stylesheet;
+    }
+
+    /**
+     * @brief Returns an image scaled to a width, decoding it on the calling thread if it was not preloaded.
+     * @param path The resource path.
+     * @param width The width in pixels.
+     * @return The shared image.
+     */
+    private Image image(String path, double width) {
+        return images.computeIfAbsent(key(path, width),
+                key -> CompletableFuture.completedFuture(decode(path, width))).join();
+    }
+
+    /**
+     * @brief Decodes an image resource scaled to a width.
+     * @param path The resource path.
+     * @param width The width in pixels; the aspect ratio is preserved.
+     * @return The decoded image.
+     */
+    private static Image decode(String path, double width) {
+        try (InputStream inputStream = Objects.requireNonNull(AssetCache.class.getResourceAsStream(path), path)) {
+            return new Image(inputStream, width, 0, true, true);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to load image " + path, e);
+        }
+    }
+
+    /**
+     * @brief Builds the cache key of a scaled image.
+     * @param path The resource path.
+     * @param width The width in pixels.
+     * @return The cache key.
+     */
+    private static String key(String path, double width) {
+        return path + '@' + width;
+    }
+}
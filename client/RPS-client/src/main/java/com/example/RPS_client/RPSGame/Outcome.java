@@ -0,0 +1,88 @@
+package com.example.RPS_client.RPSGame;
+
+import com.example.RPS_client.engine.RPSRules;
+
+/**
+ * @brief Outcome of a round as reported by the server.
+ * @details The ordinal of each outcome is its code in the binary protocol, and the wire name is the result string
+ *          of the text protocol.
+ */
+public enum Outcome {
+    DRAW("DRAW"),
+    PLAYER_1("Player 1"),
+    PLAYER_2("Player 2"),
+    AI("AI");
+
+    /**
+     * @brief Outcomes indexed by code.
+     */
+    private static final Outcome[] BY_CODE = values();
+
+    /**
+     * @brief Result string of the text protocol.
+     */
+    private final String wireName;
+
+    Outcome(String wireName) {
+        this.wireName = wireName;
+    }
+
+    /**
+     * @brief Returns the result string of the text protocol.
+     * @return The wire name, e.g. "Player 1".
+     */
+    public String wireName() {
+        return wireName;
+    }
+
+    /**
+     * @brief Returns the outcome code of the binary protocol.
+     * @return The code.
+     */
+    public int code() {
+        return ordinal();
+    }
+
+    /**
+     * @brief Converts an outcome code of the binary protocol.
+     * @param code The code.
+     * @return The outcome.
+     * @throws IllegalArgumentException If the code is unknown.
+     */
+    public static Outcome fromCode(int code) {
+        if (code < 0 || code >= BY_CODE.length) {
+            throw new IllegalArgumentException("Unknown outcome code: " + code);
+        }
+        return BY_CODE[code];
+    }
+
+    /**
+     * @brief Converts an outcome code of RPSRules or RuleSet.
+     * @param rulesOutcome RPSRules.DRAW, RPSRules.PLAYER_1 or RPSRules.PLAYER_2.
+     * @return DRAW, PLAYER_1 or PLAYER_2; the rules do not know whether the second player is the AI.
+     * @throws IllegalArgumentException If the code is unknown.
+     */
+    public static Outcome fromRulesCode(int rulesOutcome) {
+        return switch (rulesOutcome) {
+            case RPSRules.DRAW -> DRAW;
+            case RPSRules.PLAYER_1 -> PLAYER_1;
+            case RPSRules.PLAYER_2 -> PLAYER_2;
+            default -> throw new IllegalArgumentException("Unknown rules outcome: " + rulesOutcome);
+        };
+    }
+
+    /**
+     * @brief Converts a result string of the text protocol.
+     * @param wireName The result string, e.g. "Player 1".
+     * @return The outcome.
+     * @throws IllegalArgumentException If the result is unknown.
+     */
+    public static Outcome fromWireName(String wireName) {
+        for (Outcome outcome : BY_CODE) {
+            if (outcome.wireName.equals(wireName)) {
+                return outcome;
+            }
+        }
+        throw new IllegalArgumentException("Unknown result: " + wireName);
+    }
+}
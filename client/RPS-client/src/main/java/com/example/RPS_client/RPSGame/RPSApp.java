@@ -1,15 +1,36 @@
 package com.example.RPS_client.RPSGame;
 
 import java.io.*;
-import java.util.HashMap;
-import java.util.Map;
-import java.util.Objects;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import com.example.RPS_client.communication.CaptureTransport;
+import com.example.RPS_client.communication.ReplayTransport;
+import com.example.RPS_client.communication.SerialTransport;
+import com.example.RPS_client.communication.Transport;
+import com.example.RPS_client.controller.FairRoundScheduler;
 import com.example.RPS_client.controller.GameController;
+import com.example.RPS_client.controller.LinkState;
+import com.example.RPS_client.controller.LinkSupervisor;
+import com.example.RPS_client.controller.RoundPlayer;
 import com.example.RPS_client.DTO.GameDTO;
-import com.google.gson.Gson;
-import com.google.gson.GsonBuilder;
-import com.google.gson.JsonSyntaxException;
+import com.example.RPS_client.metrics.RPSMetrics;
+import com.example.RPS_client.strategy.AIStrategies;
+import com.example.RPS_client.strategy.AIStrategy;
+import com.example.RPS_client.DTO.ArchiveReportDTO;
+import com.example.RPS_client.DTO.SavedGameDTO;
+import com.example.RPS_client.storage.GameStorage;
+import com.example.RPS_client.storage.RoundJournal;
+import com.example.RPS_client.stats.EloRatings;
+import com.example.RPS_client.stats.PlayerStatistics;
+import com.example.RPS_client.DTO.PlayerStatsDTO;
+import com.example.RPS_client.DTO.RatingDTO;
+import com.fazecast.jSerialComm.SerialPort;
 import javafx.application.Application;
+import javafx.application.Platform;
 import javafx.scene.Scene;
 import javafx.scene.control.Alert;
 import javafx.scene.control.Button;
@@ -19,7 +40,6 @@ import javafx.scene.control.Menu;
 import javafx.scene.control.MenuBar;
 import javafx.scene.control.MenuItem;
 import javafx.scene.control.TextField;
-import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
 import javafx.scene.layout.GridPane;
 import javafx.scene.layout.HBox;
@@ -27,6 +47,8 @@ import javafx.scene.layout.VBox;
 import javafx.stage.FileChooser;
 import javafx.stage.Stage;
 
+import javax.management.JMException;
+
 
 /**
  * @file RPSApp.java
@@ -35,6 +57,53 @@ import javafx.stage.Stage;
  */
 public class RPSApp extends Application {
 
+    /**
+     * @brief Choice of the AI strategy selection meaning the server's own random moves.
+     */
+    private static final String SERVER_AI_STRATEGY = "SERVER";
+
+    /**
+     * @brief Time a Play click waits for its result, including any reconnect, in seconds.
+     */
+    private static final long ROUND_TIMEOUT_SECONDS = 10;
+
+    /**
+     * @brief File every played round is journaled to.
+     */
+    private static final Path JOURNAL_FILE = Path.of(System.getProperty("user.home"), ".rps-client", "rounds.journal");
+
+    /**
+     * @brief System property naming a file the serial traffic of each connection is captured to.
+     * @details Every connection writes its own capture, named after the property value and the connection time.
+     */
+    private static final String CAPTURE_PROPERTY = "rps.capture";
+
+    /**
+     * @brief System property naming a capture that is replayed instead of connecting to a device.
+     */
+    private static final String REPLAY_PROPERTY = "rps.replay";
+
+    /**
+     * @brief System property selecting the replay pace, ORIGINAL (default) or AS_FAST_AS_POSSIBLE.
+     */
+    private static final String REPLAY_PACE_PROPERTY = "rps.replay.pace";
+
+    /**
+     * @brief System property enabling local resolution of MAN_VS_MAN rounds on a device.
+     * @details Its value is the verification interval passed to GameController.setLocalResolution().
+     */
+    private static final String LOCAL_RESOLUTION_PROPERTY = "rps.local.verify";
+
+    /**
+     * @brief Saves and loads games as JSON files.
+     */
+    private final GameStorage gameStorage = new GameStorage();
+
+    /**
+     * @brief Decoded images and stylesheet URL shared by all windows; preloaded in the background.
+     */
+    private final AssetCache assetCache = new AssetCache();
+
     /**
      * @brief Player 1 instance.
      * @details Represents the first player in the game.
@@ -48,22 +117,109 @@ public class RPSApp extends Application {
     private RPSPlayer player2;
 
     /**
-     * @brief The game controller for managing server communication.
+     * @brief Supervised link to the server; connects in the background and reconnects after device resets.
+     * @details Null while a capture is replayed, which needs neither heartbeats nor reconnects.
      */
-    private GameController gameController;
+    private final LinkSupervisor gameLink;
+
+    /**
+     * @brief Controller replaying the capture named by -Drps.replay, or null when playing on a device.
+     */
+    private final GameController replayController;
+
+    /**
+     * @brief Bounded queue in front of the link or replay, sharing the device fairly between game modes.
+     */
+    private final FairRoundScheduler roundScheduler;
+
+    /**
+     * @brief Statistics of every player, updated with each round result.
+     */
+    private final PlayerStatistics playerStatistics = new PlayerStatistics();
+
+    /**
+     * @brief Number of players shown on the leaderboard.
+     */
+    private static final int LEADERBOARD_SIZE = 10;
+
+    /**
+     * @brief Elo rating of every player, updated with each round result.
+     */
+    private final EloRatings eloRatings = new EloRatings();
+
+    /**
+     * @brief Journal every played round is appended to; null if it could not be opened.
+     */
+    private RoundJournal roundJournal;
 
     /**
      * @brief Constructor for the RPSApp class.
-     * @details Attempts to initialize the game controller by connecting to the server. Logs an error if the connection fails.
+     * @details Starts connecting to the server on a background thread, so the main menu does not wait for the device.
+     * With -Drps.replay=FILE the captured server responses are replayed instead, so the UI can run without a device.
+     * Opens the round journal in the user's home directory and publishes the link metrics over JMX.
      */
     public RPSApp() {
         try {
-            gameController = new GameController(0);
-        } catch (Exception ex) {
-            System.err.println("Connection with server failed!");
+            RPSMetrics.instance().register();
+        } catch (JMException ex) {
+            System.err.println("Link metrics unavailable: " + ex.getMessage());
+        }
+        replayController = openReplay();
+        if (replayController != null) {
+            gameLink = null;
+            roundScheduler = new FairRoundScheduler(replayController);
+        } else {
+            gameLink = new LinkSupervisor(RPSApp::connect);
+            roundScheduler = new FairRoundScheduler(gameLink);
+            gameLink.start();
+        }
+        try {
+            Files.createDirectories(JOURNAL_FILE.getParent());
+            roundJournal = new RoundJournal(JOURNAL_FILE);
+        } catch (IOException ex) {
+            System.err.println("Round journal unavailable: " + ex.getMessage());
         }
     }
 
+    /**
+     * @brief Opens the capture named by -Drps.replay, if any.
+     * @return The replaying controller, or null to play on a device.
+     * @details Results are assigned to the rounds in order, whatever moves are played, and the replay runs at the
+     * pace given by -Drps.replay.pace. A replay that reaches its end fails every later round. A capture that cannot
+     * be opened is reported and the device is used instead.
+     */
+    private static GameController openReplay() {
+        String replay = System.getProperty(REPLAY_PROPERTY);
+        if (replay == null) {
+            return null;
+        }
+        try {
+            return GameController.replay(Path.of(replay), ReplayTransport.Pace.valueOf(
+                    System.getProperty(REPLAY_PACE_PROPERTY, ReplayTransport.Pace.ORIGINAL.name())));
+        } catch (IOException | IllegalArgumentException ex) {
+            System.err.println("Replay unavailable: " + ex.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * @brief Opens a game controller on the first serial port.
+     * @return The connected controller.
+     * @throws IOException If the capture file cannot be created.
+     * @details With -Drps.capture=FILE the traffic is recorded to FILE suffixed with the connection time. With
+     * -Drps.local.verify=N MAN_VS_MAN rounds are resolved locally and every Nth one is verified.
+     */
+    private static GameController connect() throws IOException {
+        Transport transport = new SerialTransport(SerialPort.getCommPorts()[0]);
+        String capture = System.getProperty(CAPTURE_PROPERTY);
+        if (capture != null) {
+            transport = new CaptureTransport(transport, Path.of(capture + "." + System.currentTimeMillis()));
+        }
+        GameController controller = new GameController(transport);
+        controller.setLocalResolution(Integer.getInteger(LOCAL_RESOLUTION_PROPERTY, 0));
+        return controller;
+    }
+
     /**
      * @brief Starts the JavaFX application.
      * @param primaryStage The main stage of the JavaFX application.
@@ -74,9 +230,8 @@ public class RPSApp extends Application {
         primaryStage.setTitle("Rock Paper Scissors Menu");
 
         // Logo setup
-        Image logoImage = new Image(Objects.requireNonNull(RPSApp.class.getResourceAsStream("/images/Logo.png")));
-        ImageView logoImageView = new ImageView(logoImage);
-        logoImageView.setFitWidth(300);
+        ImageView logoImageView = new ImageView(assetCache.logo());
+        logoImageView.setFitWidth(AssetCache.LOGO_WIDTH);
         logoImageView.setPreserveRatio(true);
         logoImageView.setSmooth(true);
 
@@ -85,8 +240,9 @@ public class RPSApp extends Application {
         Menu gameMenu = new Menu("Game");
         MenuItem newGameItem = new MenuItem("New Game");
         MenuItem loadGameItem = new MenuItem("Load Game");
+        MenuItem statisticsItem = new MenuItem("Statistics");
 
-        gameMenu.getItems().addAll(newGameItem, loadGameItem);
+        gameMenu.getItems().addAll(newGameItem, loadGameItem, statisticsItem);
         menuBar.getMenus().add(gameMenu);
 
         // Event handlers for menu items
@@ -109,12 +265,24 @@ public class RPSApp extends Application {
             }
         });
 
+        statisticsItem.setOnAction(e -> showStatistics());
+
+        // Connection state, updated on every change of the link state
+        Label connectionLabel = new Label();
+        if (gameLink != null) {
+            gameLink.setStateListener(state ->
+                    Platform.runLater(() -> connectionLabel.setText(describeLinkState(state))));
+            connectionLabel.setText(describeLinkState(gameLink.state()));
+        } else {
+            connectionLabel.setText("Replaying capture");
+        }
+
         // Layout and scene setup
-        VBox vbox = new VBox(10, logoImageView, menuBar);
+        VBox vbox = new VBox(10, logoImageView, menuBar, connectionLabel);
         Scene scene = new Scene(vbox, 300, 350);
 
         // Adding CSS styles
-        scene.getStylesheets().add(Objects.requireNonNull(RPSApp.class.getResource("/styles/main.css")).toExternalForm());
+        scene.getStylesheets().add(assetCache.stylesheet());
 
         primaryStage.setScene(scene);
         primaryStage.setResizable(false);
@@ -125,48 +293,45 @@ public class RPSApp extends Application {
      * @brief Loads game data from a JSON file.
      * @param file The file containing the saved game data.
      * @throws IOException If an error occurs while reading the file.
-     * @details Parses the JSON file to extract game information such as player names, moves, and winner.
+     * @details Streams the JSON file, which holds a single game or an array of games, and prints the player names,
+     * moves, and winner of each game. Malformed games are skipped and reported.
      */
     private void loadGame(File file) throws IOException {
-        Gson gson = new Gson();
-
-        // Inner class to represent game data structure
-        class GameData {
-            String Player1Name;
-            String Player2Name;
-            String Player1Move;
-            String Player2Move;
-            String Winner; // Can be null or empty if the game is ongoing
-        }
-
         // Check if file exists
         if (file == null || !file.exists()) {
             System.out.println("File does not exist: " + (file != null ? file.getAbsolutePath() : "null"));
             return;
         }
 
-        try (Reader reader = new FileReader(file)) {
-            GameData gameData = gson.fromJson(reader, GameData.class);
+        try {
+            ArchiveReportDTO report = gameStorage.loadArchive(file.toPath(), this::printGame,
+                    (index, problem) -> System.out.println("Skipped game " + index + ": " + problem));
 
-            if (gameData == null) {
+            if (report.loaded() == 0) {
                 System.out.println("No game data found or JSON is malformed.");
-                return;
+            } else if (report.loaded() > 1 || report.skipped() > 0) {
+                System.out.println("Loaded " + report.loaded() + " games, skipped " + report.skipped()
+                        + (report.complete() ? "" : ", rest of file unreadable"));
             }
-
-            System.out.println("Player 1 Name: " + (gameData.Player1Name != null ? gameData.Player1Name : "Not Provided"));
-            System.out.println("Player 2 Name: " + (gameData.Player2Name != null ? gameData.Player2Name : "Not Provided"));
-            System.out.println("Player 1 Move: " + (gameData.Player1Move != null && !gameData.Player1Move.isEmpty() ? gameData.Player1Move : "Not Made"));
-            System.out.println("Player 2 Move: " + (gameData.Player2Move != null && !gameData.Player2Move.isEmpty() ? gameData.Player2Move : "Not Made"));
-            System.out.println("Winner: " + (gameData.Winner != null && !gameData.Winner.isEmpty() ? gameData.Winner : "Game Ongoing"));
         } catch (IOException e) {
             System.out.println("Error reading file: " + e.getMessage());
-        } catch (JsonSyntaxException e) {
-            System.out.println("Error parsing JSON: " + e.getMessage());
         } catch (Exception e) {
             System.out.println("An error occurred while processing the file: " + e.getMessage());
         }
     }
 
+    /**
+     * @brief Prints a loaded game.
+     * @param gameData The game.
+     */
+    private void printGame(SavedGameDTO gameData) {
+        System.out.println("Player 1 Name: " + (gameData.player1Name() != null ? gameData.player1Name() : "Not Provided"));
+        System.out.println("Player 2 Name: " + (gameData.player2Name() != null ? gameData.player2Name() : "Not Provided"));
+        System.out.println("Player 1 Move: " + (gameData.player1Move() != null && !gameData.player1Move().isEmpty() ? gameData.player1Move() : "Not Made"));
+        System.out.println("Player 2 Move: " + (gameData.player2Move() != null && !gameData.player2Move().isEmpty() ? gameData.player2Move() : "Not Made"));
+        System.out.println("Winner: " + (gameData.winner() != null && !gameData.winner().isEmpty() ? gameData.winner() : "Game Ongoing"));
+    }
+
     /**
      * @brief Displays the game mode selection menu.
      * @details Allows the user to select a game mode: Player vs Player, Player vs AI, or AI vs AI.
@@ -200,7 +365,7 @@ public class RPSApp extends Application {
 
         VBox modeLayout = new VBox(10, manVsManButton, manVsAIButton, aiVsAIButton);
         Scene modeScene = new Scene(modeLayout, 300, 200);
-        modeScene.getStylesheets().add(Objects.requireNonNull(RPSApp.class.getResource("/styles/main.css")).toExternalForm());
+        modeScene.getStylesheets().add(assetCache.stylesheet());
         modeStage.setScene(modeScene);
         modeStage.show();
     }
@@ -235,32 +400,25 @@ public class RPSApp extends Application {
         Label resultLabel = new Label();
         grid.add(resultLabel, 0, 3, 3, 1);
 
-        playButton.setOnAction(e -> {
-            try {
-                gameController.sendModeAndMoves(RPSMode.AI_VS_AI.name(), RPSPlayer.Move.ROCK, RPSPlayer.Move.ROCK);
-                GameDTO gameResponseDto = gameController.receiveResult();
-
-                String resultText = gameResponseDto.gameResult().equals("DRAW") ? "Draw"
-                        : (gameResponseDto.gameResult().equals("Player 1") ? "AI1" : "AI2");
+        playButton.setOnAction(e -> playRound(playButton, RPSMode.AI_VS_AI, RPSPlayer.Move.ROCK, RPSPlayer.Move.ROCK,
+                gameResponseDto -> {
+                    String resultText = switch (gameResponseDto.outcome()) {
+                        case DRAW -> "Draw";
+                        case PLAYER_1 -> "AI1";
+                        case PLAYER_2, AI -> "AI2";
+                    };
 
-                String movesHistory = "AI 1 put " + gameResponseDto.player1Move().name() + ". "
-                        + "AI 2 put " + gameResponseDto.player2Move().name();
-                resultLabel.setText("Result: " + resultText + "\nMoves: " + movesHistory);
+                    String movesHistory = "AI 1 put " + gameResponseDto.player1Move().name() + ". "
+                            + "AI 2 put " + gameResponseDto.player2Move().name();
+                    resultLabel.setText("Result: " + resultText + "\nMoves: " + movesHistory);
 
-                moveImages.getChildren().clear();
-                moveImages.getChildren().add(createMoveImage(gameResponseDto.player1Move()));
-                moveImages.getChildren().add(createMoveImage(gameResponseDto.player2Move()));
-            } catch (Exception ex) {
-                Alert alert = new Alert(Alert.AlertType.ERROR);
-                alert.setTitle("Connection Error");
-                alert.setHeaderText(null);
-                alert.setContentText("Server connection failed");
-                alert.showAndWait();
-            }
-        });
+                    moveImages.getChildren().clear();
+                    moveImages.getChildren().add(createMoveImage(gameResponseDto.player1Move()));
+                    moveImages.getChildren().add(createMoveImage(gameResponseDto.player2Move()));
+                }));
 
         Scene gameScene = new Scene(grid, 500, 300);
-        gameScene.getStylesheets().add(Objects.requireNonNull(RPSApp.class.getResource("/styles/main.css")).toExternalForm());
+        gameScene.getStylesheets().add(assetCache.stylesheet());
         gameStage.setScene(gameScene);
         gameStage.show();
     }
@@ -297,7 +455,7 @@ public class RPSApp extends Application {
 
         VBox nicknameLayout = new VBox(10, player1NameField, player2NameField, confirmButton);
         Scene nicknameScene = new Scene(nicknameLayout, 300, 200);
-        nicknameScene.getStylesheets().add(Objects.requireNonNull(RPSApp.class.getResource("/styles/main.css")).toExternalForm());
+        nicknameScene.getStylesheets().add(assetCache.stylesheet());
         nicknameStage.setScene(nicknameScene);
         nicknameStage.show();
     }
@@ -330,6 +488,17 @@ public class RPSApp extends Application {
         grid.add(player2Label, 0, 1);
         grid.add(player2MoveLabel, 1, 1);
 
+        // AI strategy selection: the server's random move or a client-side strategy.
+        ChoiceBox<String> aiStrategyChoice = new ChoiceBox<>();
+        aiStrategyChoice.getItems().add(SERVER_AI_STRATEGY);
+        aiStrategyChoice.getItems().addAll(AIStrategies.names());
+        aiStrategyChoice.setValue(SERVER_AI_STRATEGY);
+        grid.add(aiStrategyChoice, 2, 1);
+
+        AIStrategy[] aiStrategyHolder = new AIStrategy[1];
+        aiStrategyChoice.setOnAction(e -> aiStrategyHolder[0] = SERVER_AI_STRATEGY.equals(aiStrategyChoice.getValue())
+                ? null : AIStrategies.create(aiStrategyChoice.getValue(), System.nanoTime()));
+
         Button playButton = new Button("Play");
         grid.add(playButton, 0, 2, 3, 1);
         Label resultLabel = new Label();
@@ -350,16 +519,15 @@ public class RPSApp extends Application {
         // Button to play the game: sends moves to the server, receives the result, and updates UI.
         playButton.setOnAction(e -> {
             if (player1.getMove() != null) {
-                try {
-                    gameController.sendModeAndMoves(RPSMode.MAN_VS_AI.name(), player1.getMove(), RPSPlayer.Move.ROCK);
-                    GameDTO gameResponseDto = gameController.receiveResult();
-
-                    String resultText;
-                    if (gameResponseDto.gameResult().equals("DRAW")) {
-                        resultText = "Draw";
-                    } else {
-                        resultText = gameResponseDto.gameResult().equals("Player 1") ? player1.getName() : "AI";
-                    }
+                AIStrategy aiStrategy = aiStrategyHolder[0];
+                playRound(playButton, RPSMode.MAN_VS_AI, player -> aiStrategy == null
+                        ? player.playAsync(RPSMode.MAN_VS_AI, player1.getMove(), RPSPlayer.Move.ROCK)
+                        : player.playAgainstAsync(aiStrategy, player1.getMove()), gameResponseDto -> {
+                    String resultText = switch (gameResponseDto.outcome()) {
+                        case DRAW -> "Draw";
+                        case PLAYER_1 -> player1.getName();
+                        case PLAYER_2, AI -> "AI";
+                    };
 
                     String movesHistory = player1.getName() + " put " + gameResponseDto.player1Move().name() + ". "
                             + player2.getName() + " put " + gameResponseDto.player2Move().name();
@@ -368,13 +536,7 @@ public class RPSApp extends Application {
                     moveImages.getChildren().clear();
                     moveImages.getChildren().add(createMoveImage(gameResponseDto.player1Move()));
                     moveImages.getChildren().add(createMoveImage(gameResponseDto.player2Move()));
-                } catch (Exception ex) {
-                    Alert alert = new Alert(Alert.AlertType.ERROR);
-                    alert.setTitle("Connection Error");
-                    alert.setHeaderText(null);
-                    alert.setContentText("Server connection failed");
-                    alert.showAndWait();
-                }
+                });
             } else {
                 resultLabel.setText("Player 1 must make a move!");
             }
@@ -382,7 +544,7 @@ public class RPSApp extends Application {
 
         // Apply styles and display the game stage.
         Scene gameScene = new Scene(grid, 500, 300);
-        gameScene.getStylesheets().add(Objects.requireNonNull(RPSApp.class.getResource("/styles/main.css")).toExternalForm());
+        gameScene.getStylesheets().add(assetCache.stylesheet());
         gameStage.setScene(gameScene);
         gameStage.show();
 
@@ -467,29 +629,26 @@ public class RPSApp extends Application {
 
         // Button to play the game: sends moves to the server, receives the result, and updates UI.
         playButton.setOnAction(e -> {
-            try {
-                gameController.sendModeAndMoves(RPSMode.MAN_VS_MAN.name(), player1.getMove(), player2.getMove());
-                GameDTO gameResponseDto = gameController.receiveResult();
-
-                if (gameResponseDto.gameResult().equals("DRAW")) {
-                    gameResultHolder[0] = "Draw";
-                } else {
-                    gameResultHolder[0] = gameResponseDto.gameResult().equals("Player 1") ? player1.getName() : player2.getName();
-                }
+            if (player1.getMove() == null) {
+                resultLabel.setText("Player 1 must make a move!");
+            } else if (player2.getMove() == null) {
+                resultLabel.setText("Player 2 must make a move!");
+            } else {
+                playRound(playButton, RPSMode.MAN_VS_MAN, player1.getMove(), player2.getMove(), gameResponseDto -> {
+                    gameResultHolder[0] = switch (gameResponseDto.outcome()) {
+                        case DRAW -> "Draw";
+                        case PLAYER_1 -> player1.getName();
+                        case PLAYER_2, AI -> player2.getName();
+                    };
 
-                String movesHistory = player1.getName() + " put " + gameResponseDto.player1Move().name() + ". "
-                        + player2.getName() + " put " + gameResponseDto.player2Move().name();
-                resultLabel.setText("Result: " + gameResultHolder[0] + " wins!\n Moves: " + movesHistory);
+                    String movesHistory = player1.getName() + " put " + gameResponseDto.player1Move().name() + ". "
+                            + player2.getName() + " put " + gameResponseDto.player2Move().name();
+                    resultLabel.setText("Result: " + gameResultHolder[0] + " wins!\n Moves: " + movesHistory);
 
-                moveImages.getChildren().clear();
-                moveImages.getChildren().add(createMoveImage(gameResponseDto.player1Move()));
-                moveImages.getChildren().add(createMoveImage(gameResponseDto.player2Move()));
-            } catch (Exception ex) {
-                Alert alert = new Alert(Alert.AlertType.ERROR);
-                alert.setTitle("Connection Error");
-                alert.setHeaderText(null);
-                alert.setContentText("Server connection failed");
-                alert.showAndWait();
+                    moveImages.getChildren().clear();
+                    moveImages.getChildren().add(createMoveImage(gameResponseDto.player1Move()));
+                    moveImages.getChildren().add(createMoveImage(gameResponseDto.player2Move()));
+                });
             }
         });
         // Button to save the game result to a JSON file.
@@ -518,12 +677,176 @@ public class RPSApp extends Application {
         });
         // Apply styles and display the game stage.
         Scene gameScene = new Scene(grid, 500, 300);
-        gameScene.getStylesheets().add(Objects.requireNonNull(RPSApp.class.getResource("/styles/main.css")).toExternalForm());
+        gameScene.getStylesheets().add(assetCache.stylesheet());
         gameStage.setScene(gameScene);
         gameStage.show();
     }
 
 
+    /**
+     * @brief Plays a round in the background and shows its result.
+     * @param playButton The button that started the round; disabled until the result arrives.
+     * @param mode The game mode.
+     * @param move1 The first player's move.
+     * @param move2 The second player's move.
+     * @param onResult Callback updating the UI with the result, invoked on the JavaFX Application Thread.
+     * @details The round trip to the server runs on the game controller's I/O thread, so the UI stays responsive.
+     */
+    private void playRound(Button playButton, RPSMode mode, RPSPlayer.Move move1, RPSPlayer.Move move2,
+                           Consumer<GameDTO> onResult) {
+        playRound(playButton, mode, player -> player.playAsync(mode, move1, move2), onResult);
+    }
+
+    /**
+     * @brief Plays a round started by a custom request in the background and shows its result.
+     * @param playButton The button that started the round; disabled until the result arrives.
+     * @param mode The game mode the round is recorded with.
+     * @param request Starts the round on the supervised link.
+     * @param onResult Callback updating the UI with the result, invoked on the JavaFX Application Thread.
+     * @details Waits for the link if it is still being made or is reconnecting, up to ROUND_TIMEOUT_SECONDS. Every
+     * completed round is appended to the round journal and counted in the player statistics before the UI is updated.
+     */
+    private void playRound(Button playButton, RPSMode mode, Function<RoundPlayer, CompletableFuture<GameDTO>> request,
+                           Consumer<GameDTO> onResult) {
+        playButton.setDisable(true);
+        String player1Name = mode == RPSMode.AI_VS_AI ? "AI1" : statisticsName(player1, "Player 1");
+        String player2Name = mode == RPSMode.MAN_VS_MAN ? statisticsName(player2, "Player 2")
+                : (mode == RPSMode.AI_VS_AI ? "AI2" : "AI");
+        request.apply(roundScheduler).orTimeout(ROUND_TIMEOUT_SECONDS, TimeUnit.SECONDS).whenComplete((gameResponseDto, error) -> {
+            if (error == null) {
+                recordRound(mode, gameResponseDto);
+                recordStatistics(player1Name, player2Name, gameResponseDto);
+            }
+            Platform.runLater(() -> {
+                playButton.setDisable(false);
+                if (error != null) {
+                    showConnectionError();
+                } else {
+                    onResult.accept(gameResponseDto);
+                }
+            });
+        });
+    }
+
+    /**
+     * @brief Appends a round to the round journal, if it could be opened.
+     * @param mode The game mode.
+     * @param result The result and moves of the round.
+     */
+    private void recordRound(RPSMode mode, GameDTO result) {
+        if (roundJournal == null) {
+            return;
+        }
+        try {
+            roundJournal.append(mode, result);
+        } catch (IOException | RuntimeException e) {
+            System.err.println("Failed to record round: " + e.getMessage());
+        }
+    }
+
+    /**
+     * @brief Counts a round in the player statistics and rates it.
+     * @param player1Name The first player's statistics name.
+     * @param player2Name The second player's statistics name.
+     * @param result The result and moves of the round.
+     */
+    private void recordStatistics(String player1Name, String player2Name, GameDTO result) {
+        try {
+            playerStatistics.record(player1Name, player2Name, result);
+            eloRatings.record(player1Name, player2Name, result);
+        } catch (RuntimeException e) {
+            System.err.println("Failed to count round: " + e.getMessage());
+        }
+    }
+
+    /**
+     * @brief Returns the name a player's rounds are counted under.
+     * @param player The player, or null in AI modes.
+     * @param fallback The name used if the player has none.
+     * @return The statistics name.
+     */
+    private static String statisticsName(RPSPlayer player, String fallback) {
+        return player != null && player.getName() != null && !player.getName().isBlank() ? player.getName() : fallback;
+    }
+
+    /**
+     * @brief Shows the leaderboard and the statistics of every player of this session.
+     */
+    private void showStatistics() {
+        StringBuilder text = new StringBuilder();
+        int rank = 1;
+        for (RatingDTO rating : eloRatings.top(LEADERBOARD_SIZE)) {
+            text.append(String.format("%d. %s %.0f (%d rounds)%n", rank++, rating.name(), rating.rating(), rating.games()));
+        }
+        if (text.length() > 0) {
+            text.append(System.lineSeparator());
+        }
+        for (PlayerStatsDTO stats : playerStatistics.snapshots()) {
+            text.append(String.format("%s: %d W / %d L / %d D, streak %d (best %d)%n", stats.name(), stats.wins(),
+                    stats.losses(), stats.draws(), stats.currentStreak(), stats.longestWinStreak()));
+            for (RPSPlayer.Move move : RPSPlayer.Move.values()) {
+                text.append(String.format("    %s played %d times, %.0f%% wins against it%n", move,
+                        stats.moveCount(move), 100 * stats.winRateAgainst(move)));
+            }
+        }
+
+        Alert alert = new Alert(Alert.AlertType.INFORMATION);
+        alert.setTitle("Statistics");
+        alert.setHeaderText(null);
+        alert.setContentText(text.length() == 0 ? "No rounds played yet" : text.toString());
+        alert.showAndWait();
+    }
+
+    /**
+     * @brief Stops the application.
+     * @details Closes the link to the server and syncs the round journal to disk and closes it.
+     */
+    @Override
+    public void stop() {
+        roundScheduler.close();
+        if (gameLink != null) {
+            gameLink.close();
+        } else {
+            replayController.close();
+        }
+        if (roundJournal != null) {
+            try {
+                roundJournal.close();
+            } catch (IOException e) {
+                System.err.println("Failed to close round journal: " + e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * @brief Describes a link state for the main menu.
+     * @param state The link state.
+     * @return The text shown under the menu.
+     */
+    private static String describeLinkState(LinkState state) {
+        switch (state) {
+            case UP:
+                return "Server connected";
+            case DEGRADED:
+                return "Server not responding...";
+            case DOWN:
+                return "Server unavailable, retrying...";
+            default:
+                return "Connecting to server...";
+        }
+    }
+
+    /**
+     * @brief Shows the alert reporting a failed server connection.
+     */
+    private void showConnectionError() {
+        Alert alert = new Alert(Alert.AlertType.ERROR);
+        alert.setTitle("Connection Error");
+        alert.setHeaderText(null);
+        alert.setContentText("Server connection failed");
+        alert.showAndWait();
+    }
+
     /**
      * @brief Saves the game result to a JSON file.
      * @param file The file to save the game result to.
@@ -534,23 +857,14 @@ public class RPSApp extends Application {
      * @details Generates a JSON representation of the game data and saves it in a user-specified file.
      */
     private void saveGameResult(File file, String result, RPSPlayer player1, RPSPlayer player2) throws IOException {
-        // Create a GsonBuilder to enable pretty printing
-        Gson gson = new GsonBuilder().setPrettyPrinting().create();
-        Map<String, Object> gameData = new HashMap<>();
-
-        gameData.put("Player1Name", player1.getName());
-        gameData.put("Player2Name", player2.getName());
-        gameData.put("Player1Move", player1.getMove() != null ? player1.getMove().name() : null);
-        gameData.put("Player2Move", player2.getMove() != null ? player2.getMove().name() : null);
-        gameData.put("Winner", result);
-
-        // Convert the game data to a pretty-printed JSON string
-        String json = gson.toJson(gameData);
-
-        // Write the pretty-printed JSON to the specified file
-        try (BufferedWriter writer = new BufferedWriter(new FileWriter(file))) {
-            writer.write(json);
-        }
+        SavedGameDTO gameData = new SavedGameDTO(
+                player1.getName(),
+                player2.getName(),
+                player1.getMove() != null ? player1.getMove().name() : null,
+                player2.getMove() != null ? player2.getMove().name() : null,
+                result);
+
+        gameStorage.save(file.toPath(), gameData);
     }
 
 
@@ -558,26 +872,11 @@ public class RPSApp extends Application {
      * @brief Creates an ImageView for the given move.
      * @param move The player's move (ROCK, PAPER, or SCISSORS).
      * @return An ImageView displaying the corresponding move image.
-     * @details Maps the move to its corresponding image resource and configures
-     * the image view with a fixed width and aspect ratio preservation.
+     * @details Shows the cached image of the move, already scaled to the fixed width, with aspect ratio preservation.
      */
     private ImageView createMoveImage(RPSPlayer.Move move) {
-        String imagePath = "";
-
-        switch (move) {
-            case ROCK:
-                imagePath = "/images/Rock.png";
-                break;
-            case PAPER:
-                imagePath = "/images/Paper.png";
-                break;
-            case SCISSORS:
-                imagePath = "/images/Scissors.png";
-                break;
-        }
-        Image image = new Image(RPSApp.class.getResourceAsStream(imagePath));
-        ImageView imageView = new ImageView(image);
-        imageView.setFitWidth(100);
+        ImageView imageView = new ImageView(assetCache.moveImage(move));
+        imageView.setFitWidth(AssetCache.MOVE_WIDTH);
         imageView.setPreserveRatio(true);
         return imageView;
     }
@@ -0,0 +1,131 @@
+package com.example.RPS_client.communication;
+
+import com.example.RPS_client.DTO.GameDTO;
+import com.example.RPS_client.RPSGame.Outcome;
+import com.example.RPS_client.RPSGame.RPSMode;
+import com.example.RPS_client.RPSGame.RPSPlayer;
+
+/**
+ * @file BinaryProtocol.java
+ * @brief Compact one-byte encoding of rounds and results.
+ * @details Negotiated with the "BIN?" handshake; the text protocol remains the fallback. Every binary byte has its
+ *          high bit set so the server can tell it apart from ASCII text:
+ *          - request:  1 | 0 | mode(2) | move1(2) | move2(2)
+ *          - response: 1 | 0 | outcome(2) | move1(2) | move2(2)
+ *          The outcome bits hold the Outcome code.
+ */
+public final class BinaryProtocol {
+
+    /**
+     * @brief Handshake request asking the server whether it supports binary frames.
+     */
+    public static final String HANDSHAKE_REQUEST = "BIN?\n";
+
+    /**
+     * @brief Handshake response of a server supporting binary frames.
+     */
+    public static final String HANDSHAKE_RESPONSE = "BIN";
+
+    /**
+     * @brief Marker bit set on every binary byte.
+     */
+    public static final int MARKER = 0x80;
+
+    /**
+     * @brief Cached move values indexed by ordinal.
+     */
+    private static final RPSPlayer.Move[] MOVES = RPSPlayer.Move.values();
+
+    private BinaryProtocol() {
+    }
+
+    /**
+     * @brief Encodes a round request.
+     * @param mode The game mode.
+     * @param move1 The first player's move.
+     * @param move2 The second player's move.
+     * @return The request byte.
+     */
+    public static byte encodeRequest(RPSMode mode, RPSPlayer.Move move1, RPSPlayer.Move move2) {
+        return (byte) (MARKER | mode.ordinal() << 4 | move1.ordinal() << 2 | move2.ordinal());
+    }
+
+    /**
+     * @brief Encodes a round result.
+     * @param outcome The outcome code.
+     * @param move1 The first player's move.
+     * @param move2 The second player's move.
+     * @return The response byte.
+     */
+    public static byte encodeResult(int outcome, RPSPlayer.Move move1, RPSPlayer.Move move2) {
+        return (byte) (MARKER | outcome << 4 | move1.ordinal() << 2 | move2.ordinal());
+    }
+
+    /**
+     * @brief Checks whether a byte is a binary frame.
+     * @param value The byte.
+     * @return True if the marker bit is set.
+     */
+    public static boolean isBinary(int value) {
+        return (value & MARKER) != 0;
+    }
+
+    /**
+     * @brief Extracts the game mode from a request byte.
+     * @param request The request byte.
+     * @return The game mode.
+     * @throws IllegalArgumentException If the mode bits are invalid.
+     */
+    public static RPSMode requestMode(byte request) {
+        int ordinal = (request >> 4) & 0x03;
+        if (ordinal >= RPSMode.values().length) {
+            throw new IllegalArgumentException("Invalid mode in binary request: " + ordinal);
+        }
+        return RPSMode.values()[ordinal];
+    }
+
+    /**
+     * @brief Extracts the first player's move from a request or response byte.
+     * @param frame The frame byte.
+     * @return The move.
+     * @throws IllegalArgumentException If the move bits are invalid.
+     */
+    public static RPSPlayer.Move move1(byte frame) {
+        return move((frame >> 2) & 0x03);
+    }
+
+    /**
+     * @brief Extracts the second player's move from a request or response byte.
+     * @param frame The frame byte.
+     * @return The move.
+     * @throws IllegalArgumentException If the move bits are invalid.
+     */
+    public static RPSPlayer.Move move2(byte frame) {
+        return move(frame & 0x03);
+    }
+
+    /**
+     * @brief Decodes a response byte.
+     * @param response The response byte.
+     * @return The game result.
+     * @throws IllegalArgumentException If the byte is not a valid binary response.
+     */
+    public static GameDTO decodeResult(byte response) {
+        if (!isBinary(response)) {
+            throw new IllegalArgumentException("Not a binary response: " + (response & 0xFF));
+        }
+        return GameDTO.of(Outcome.fromCode((response >> 4) & 0x03), move1(response), move2(response));
+    }
+
+    /**
+     * @brief Converts move bits into a move.
+     * @param ordinal The move bits.
+     * @return The move.
+     */
+    private static RPSPlayer.Move move(int ordinal) {
+        if (ordinal >= MOVES.length) {
+            throw new IllegalArgumentException("Invalid move in binary frame: " + ordinal);
+        }
+        return MOVES[ordinal];
+    }
+}
@@ -0,0 +1,103 @@
+package com.example.RPS_client.communication;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+/**
+ * @file CaptureFormat.java
+ * @brief Layout of the traffic capture files written by CaptureTransport and read by ReplayTransport.
+ * @details A capture starts with the MAGIC bytes and a version byte, followed by one record per chunk of traffic:
+ *          a direction byte, the nanoseconds elapsed since the previous record, the chunk length and the chunk
+ *          bytes. Times and lengths are unsigned LEB128 variable-length integers, so a typical one-byte binary
+ *          result costs four bytes.
+ */
+final class CaptureFormat {
+
+    /**
+     * @brief Bytes identifying a capture file.
+     */
+    static final byte[] MAGIC = {'R', 'P', 'S', 'C'};
+
+    /**
+     * @brief Version of the record layout.
+     */
+    static final int VERSION = 1;
+
+    /**
+     * @brief Direction of bytes received from the server.
+     */
+    static final int INBOUND = 0;
+
+    /**
+     * @brief Direction of bytes sent to the server.
+     */
+    static final int OUTBOUND = 1;
+
+    private CaptureFormat() {
+    }
+
+    /**
+     * @brief Writes the file header.
+     * @param output The capture stream.
+     * @throws IOException If an error occurs during writing.
+     */
+    static void writeHeader(OutputStream output) throws IOException {
+        output.write(MAGIC);
+        output.write(VERSION);
+    }
+
+    /**
+     * @brief Reads and checks the file header.
+     * @param input The capture stream.
+     * @throws IOException If the stream is not a capture of a supported version.
+     */
+    static void readHeader(InputStream input) throws IOException {
+        byte[] header = input.readNBytes(MAGIC.length + 1);
+        for (int i = 0; i < MAGIC.length; i++) {
+            if (header.length <= MAGIC.length || header[i] != MAGIC[i]) {
+                throw new IOException("Not a traffic capture");
+            }
+        }
+        if (header[MAGIC.length] != VERSION) {
+            throw new IOException("Unsupported capture version " + header[MAGIC.length]);
+        }
+    }
+
+    /**
+     * @brief Writes a non-negative value as an unsigned LEB128 integer.
+     * @param output The capture stream.
+     * @param value The value.
+     * @throws IOException If an error occurs during writing.
+     */
+    static void writeVarLong(OutputStream output, long value) throws IOException {
+        while ((value & ~0x7FL) != 0) {
+            output.write((int) (value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        output.write((int) value);
+    }
+
+    /**
+     * @brief Reads an unsigned LEB128 integer.
+     * @param input The capture stream.
+     * @return The value.
+     * @throws EOFException If the stream ends within the value.
+     * @throws IOException If an error occurs during reading or the value is too long.
+     */
+    static long readVarLong(InputStream input) throws IOException {
+        long value = 0;
+        for (int shift = 0; shift < Long.SIZE; shift += 7) {
+            int next = input.read();
+            if (next < 0) {
+                throw new EOFException("Truncated capture record");
+            }
+            value |= (long) (next & 0x7F) << shift;
+            if ((next & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("Malformed capture record");
+    }
+}
@@ -0,0 +1,165 @@
+package com.example.RPS_client.communication;
+
+import java.io.BufferedOutputStream;
+import java.io.FilterInputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * @file CaptureTransport.java
+ * @brief Transport recording the traffic of another transport to a capture file.
+ * @details Every chunk read from or written to the wrapped transport is appended to the capture with the time
+ *          elapsed since the previous chunk, whether it arrives through the input stream or a DataListener.
+ *          The capture can be played back with ReplayTransport. Recording is meant for diagnosing real devices:
+ *          it serialises the reading and writing threads on the capture file, and if the capture cannot be
+ *          written, recording stops while the link itself keeps working; the failure is reported by close().
+ */
+public class CaptureTransport implements Transport {
+
+    /**
+     * @brief The transport whose traffic is recorded.
+     */
+    private final Transport transport;
+
+    /**
+     * @brief Buffered stream of the capture file.
+     */
+    private final OutputStream capture;
+
+    /**
+     * @brief Input stream of the wrapped transport, recording every chunk read.
+     */
+    private final InputStream inputStream;
+
+    /**
+     * @brief Output stream of the wrapped transport, recording every chunk written.
+     */
+    private final OutputStream outputStream;
+
+    /**
+     * @brief Time of the previous record, from System.nanoTime().
+     */
+    private long lastRecordNanos = System.nanoTime();
+
+    /**
+     * @brief First failure writing the capture, or null while recording works.
+     */
+    private IOException captureFailure;
+
+    /**
+     * @brief Constructor of the class.
+     * @param transport The transport whose traffic is recorded; it is closed with this transport.
+     * @param captureFile The capture file to create or replace.
+     * @throws IOException If the capture file cannot be created.
+     */
+    public CaptureTransport(Transport transport, Path captureFile) throws IOException {
+        this.transport = transport;
+        capture = new BufferedOutputStream(Files.newOutputStream(captureFile));
+        CaptureFormat.writeHeader(capture);
+
+        inputStream = new FilterInputStream(transport.getInputStream()) {
+            @Override
+            public int read() throws IOException {
+                int value = super.read();
+                if (value >= 0) {
+                    record(CaptureFormat.INBOUND, new byte[]{(byte) value}, 0, 1);
+                }
+                return value;
+            }
+
+            @Override
+            public int read(byte[] data, int offset, int length) throws IOException {
+                int read = super.read(data, offset, length);
+                if (read > 0) {
+                    record(CaptureFormat.INBOUND, data, offset, read);
+                }
+                return read;
+            }
+        };
+        outputStream = new FilterOutputStream(transport.getOutputStream()) {
+            @Override
+            public void write(int value) throws IOException {
+                out.write(value);
+                record(CaptureFormat.OUTBOUND, new byte[]{(byte) value}, 0, 1);
+            }
+
+            @Override
+            public void write(byte[] data, int offset, int length) throws IOException {
+                out.write(data, offset, length);
+                record(CaptureFormat.OUTBOUND, data, offset, length);
+            }
+        };
+    }
+
+    @Override
+    public InputStream getInputStream() {
+        return inputStream;
+    }
+
+    @Override
+    public OutputStream getOutputStream() {
+        return outputStream;
+    }
+
+    /**
+     * @brief Registers a listener on the wrapped transport, recording every chunk pushed to it.
+     * @param listener The listener receiving incoming bytes.
+     * @return True if the wrapped transport supports event-driven reads.
+     */
+    @Override
+    public boolean setDataListener(DataListener listener) {
+        return transport.setDataListener((data, offset, length) -> {
+            record(CaptureFormat.INBOUND, data, offset, length);
+            listener.onData(data, offset, length);
+        });
+    }
+
+    /**
+     * @brief Closes the wrapped transport and the capture file.
+     * @throws IOException If the transport or the capture cannot be closed, or recording had failed.
+     */
+    @Override
+    public void close() throws IOException {
+        try {
+            transport.close();
+        } finally {
+            synchronized (this) {
+                try {
+                    capture.close();
+                } catch (IOException e) {
+                    captureFailure = captureFailure == null ? e : captureFailure;
+                }
+                if (captureFailure != null) {
+                    throw new IOException("Traffic capture incomplete: " + captureFailure.getMessage(), captureFailure);
+                }
+            }
+        }
+    }
+
+    /**
+     * @brief Appends a chunk of traffic to the capture.
+     * @param direction CaptureFormat.INBOUND or CaptureFormat.OUTBOUND.
+     * @param data The array holding the bytes.
+     * @param offset Offset of the first byte.
+     * @param length Number of bytes.
+     */
+    private synchronized void record(int direction, byte[] data, int offset, int length) {
+        if (captureFailure != null) {
+            return;
+        }
+        long now = System.nanoTime();
+        try {
+            capture.write(direction);
+            CaptureFormat.writeVarLong(capture, now - lastRecordNanos);
+            CaptureFormat.writeVarLong(capture, length);
+            capture.write(data, offset, length);
+        } catch (IOException e) {
+            captureFailure = e;
+        }
+        lastRecordNanos = now;
+    }
+}
@@ -1,25 +1,25 @@
 package com.example.RPS_client.communication;
 
+import com.example.RPS_client.metrics.RPSMetrics;
 import com.fazecast.jSerialComm.SerialPort;
-import lombok.RequiredArgsConstructor;
 
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
 
 /**
  * @file Communication.java
- * @brief Class for handling serial port communication.
- * @details Provides methods to send and receive messages, as well as manage the connection to a serial port.
+ * @brief Class for handling communication with the RPS server.
+ * @details Provides methods to send and receive messages, as well as manage the connection over a Transport
+ *          (serial port, stream pair or in-process emulator).
  */
-
-@RequiredArgsConstructor
 public class Communication {
 
     /**
-     * @brief The serial port used for communication.
+     * @brief The transport used for communication.
      */
-    private final SerialPort serialPort;
+    private final Transport transport;
 
     /**
      * @brief Input stream for reading data from the serial port.
@@ -31,17 +31,49 @@ public class Communication {
      */
     private final OutputStream outputStream;
 
+    /**
+     * @brief Ring buffer splitting the input stream into frames.
+     */
+    private final FrameDecoder frameDecoder = new FrameDecoder();
+
+    /**
+     * @brief Reusable array receiving the bytes of the current frame.
+     */
+    private final byte[] frame = new byte[FrameDecoder.DEFAULT_CAPACITY];
+
+    /**
+     * @brief Metrics receiving the byte counts.
+     */
+    private final RPSMetrics metrics = RPSMetrics.instance();
+
+    /**
+     * @brief Delimiter of the previous receiveMessageUntil call.
+     */
+    private String lastDelimiter;
+
+    /**
+     * @brief Encoded bytes of the previous delimiter.
+     */
+    private byte[] lastDelimiterBytes;
+
     /**
      * @brief Constructor of the class.
      * @param serialPort The serial port object to be used.
      * @details Opens the serial port and initializes the input/output streams.
      */
     public Communication(SerialPort serialPort) {
-        this.serialPort = serialPort;
-        this.serialPort.openPort();
-        this.serialPort.setComPortTimeouts(SerialPort.TIMEOUT_READ_SEMI_BLOCKING, 0, 0);
-        inputStream = serialPort.getInputStream();
-        outputStream = serialPort.getOutputStream();
+        this(new SerialTransport(serialPort));
+    }
+
+    /**
+     * @brief Constructor of the class.
+     * @param transport The transport to communicate over.
+     * @details Initializes the input/output streams from the transport.
+     */
+    public Communication(Transport transport) {
+        this.transport = transport;
+        inputStream = transport.getInputStream();
+        outputStream = transport.getOutputStream();
     }
 
     /**
@@ -50,24 +82,66 @@ public class Communication {
      * @throws IOException If an error occurs during writing.
      */
     public void sendMessage(String message) throws IOException {
-        outputStream.write(message.getBytes());
+        byte[] bytes = message.getBytes();
+        outputStream.write(bytes);
         outputStream.flush();
+        metrics.recordBytesOut(bytes.length);
+    }
+
+    /**
+     * @brief Sends raw bytes through the serial port.
+     * @param data The array holding the bytes.
+     * @param offset Offset of the first byte.
+     * @param length Number of bytes to send.
+     * @throws IOException If an error occurs during writing.
+     */
+    public void sendBytes(byte[] data, int offset, int length) throws IOException {
+        outputStream.write(data, offset, length);
+        outputStream.flush();
+        metrics.recordBytesOut(length);
+    }
+
+    /**
+     * @brief Receives exactly the requested number of raw bytes.
+     * @param destination The array receiving the bytes.
+     * @param length Number of bytes to receive.
+     * @throws IOException If no data is received or an error occurs during reading.
+     */
+    public void receiveBytes(byte[] destination, int length) throws IOException {
+        int received = frameDecoder.poll(destination, 0, length);
+        while (received < length) {
+            if (fill() < 0) {
+                throw new IOException("No data received from server");
+            }
+            received += frameDecoder.poll(destination, received, length - received);
+        }
+    }
+
+    /**
+     * @brief Asks the server whether it supports the binary protocol.
+     * @return True if the server confirmed binary support, false if the text protocol must be used.
+     * @throws IOException If an error occurs during the handshake.
+     * @details Firmware without binary support answers the handshake like an ordinary text round,
+     * which is recognised as a refusal.
+     */
+    public boolean negotiateBinary() throws IOException {
+        sendMessage(BinaryProtocol.HANDSHAKE_REQUEST);
+        return BinaryProtocol.HANDSHAKE_RESPONSE.equals(receiveMessageUntil("|"));
     }
 
     /**
      * @brief Receives a message from the serial port.
-     * @return The received message as a string.
+     * @return The bytes buffered so far as a trimmed string.
      * @throws IOException If no data is received or an error occurs during reading.
+     * @details Performs a bulk read only if no bytes are buffered yet.
      */
     public String receiveMessage() throws IOException {
-        byte[] buffer = new byte[10];
-        int bytesRead = inputStream.read(buffer);
-
-        if (bytesRead < 0) {
+        if (frameDecoder.size() == 0 && fill() < 0) {
             throw new IOException("No data received from server");
         }
 
-        return new String(buffer, 0, bytesRead).trim();
+        int length = frameDecoder.poll(frame, 0, frame.length);
+        return new String(frame, 0, length, StandardCharsets.US_ASCII).trim();
     }
 
     /**
@@ -77,40 +151,101 @@ public class Communication {
      * @throws IOException If no data is received or an error occurs during reading.
      */
     public String receiveMessageUntil(String delimiter) throws IOException {
-        StringBuilder messageBuffer = new StringBuilder();
-        byte[] buffer = new byte[1];
-        int bytesRead;
+        if (!delimiter.equals(lastDelimiter)) {
+            lastDelimiter = delimiter;
+            lastDelimiterBytes = delimiter.getBytes(StandardCharsets.US_ASCII);
+        }
 
-        while (true) {
-            bytesRead = inputStream.read(buffer);
+        int length = receiveFrameUntil(lastDelimiterBytes, frame);
+        return new String(frame, 0, length, StandardCharsets.US_ASCII).trim();
+    }
 
-            if (bytesRead < 0) {
+    /**
+     * @brief Receives the next delimiter-terminated frame into a caller-supplied array without allocating.
+     * @param delimiter The delimiter bytes that mark the end of the frame.
+     * @param destination The array receiving the frame, without the delimiter.
+     * @return The frame length.
+     * @throws IOException If no data is received, the frame is too large or an error occurs during reading.
+     * @details Bytes received after the delimiter are kept for the next frame.
+     */
+    public int receiveFrameUntil(byte[] delimiter, byte[] destination) throws IOException {
+        int length;
+        while ((length = frameDecoder.pollFrame(delimiter, destination)) < 0) {
+            if (fill() < 0) {
                 throw new IOException("No data received from server");
             }
+        }
+        return length;
+    }
 
-            messageBuffer.append((char) buffer[0]);
+    /**
+     * @brief Performs a bulk read from the input stream into the frame decoder.
+     * @return The number of bytes read, or -1 at the end of the stream.
+     * @throws IOException If an error occurs during reading.
+     */
+    private int fill() throws IOException {
+        int read = frameDecoder.fill(inputStream);
+        if (read > 0) {
+            metrics.recordBytesIn(read);
+        }
+        return read;
+    }
 
-            if (messageBuffer.toString().endsWith(delimiter)) {
-                break;
+    /**
+     * @brief Switches to event-driven reads if the transport supports them.
+     * @param onData Invoked on the transport's event thread after new bytes were added to the frame decoder.
+     * @return True if event-driven reads are active, false if the blocking receive methods must be used.
+     * @details Once listening, incoming bytes are pushed straight into the frame decoder and must be taken with
+     * pollFrame and pollBytes from within the callback; the blocking receive methods must no longer be used.
+     */
+    public boolean startListening(Runnable onData) {
+        return transport.setDataListener((data, offset, length) -> {
+            try {
+                frameDecoder.write(data, offset, length);
+                metrics.recordBytesIn(length);
+            } catch (IOException e) {
+                frameDecoder.clear();
+                throw new IllegalStateException("Frame decoder overflow, input discarded", e);
             }
-        }
+            onData.run();
+        });
+    }
 
-        return messageBuffer.substring(0, messageBuffer.length() - delimiter.length()).trim();
+    /**
+     * @brief Takes the next complete frame already received, without blocking.
+     * @param delimiter The delimiter bytes that mark the end of the frame.
+     * @param destination The array receiving the frame, without the delimiter.
+     * @return The frame length, or -1 if no complete frame has been received yet.
+     * @throws IOException If the frame does not fit into the destination array.
+     */
+    public int pollFrame(byte[] delimiter, byte[] destination) throws IOException {
+        return frameDecoder.pollFrame(delimiter, destination);
     }
 
     /**
-     * @brief Closes the input/output streams and the serial port.
+     * @brief Takes exactly the requested number of raw bytes if they were already received, without blocking.
+     * @param destination The array receiving the bytes.
+     * @param length Number of bytes to take.
+     * @return True if the bytes were taken, false if fewer bytes are buffered.
+     */
+    public boolean pollBytes(byte[] destination, int length) {
+        if (frameDecoder.size() < length) {
+            return false;
+        }
+        frameDecoder.poll(destination, 0, length);
+        return true;
+    }
+
+    /**
+     * @brief Closes the input/output streams and the underlying transport.
      * @details If an error occurs while closing the streams, a RuntimeException is thrown.
      */
     public void close() {
         try {
-            inputStream.close();
-            outputStream.close();
+            transport.close();
         } catch (IOException e) {
             throw new RuntimeException("Can't close I/O streams");
         }
-
-        serialPort.closePort();
     }
 }
 
@@ -0,0 +1,17 @@
+package com.example.RPS_client.communication;
+
+/**
+ * @file DataListener.java
+ * @brief Callback receiving bytes pushed by a Transport as soon as they arrive.
+ */
+@FunctionalInterface
+public interface DataListener {
+
+    /**
+     * @brief Called with newly received bytes.
+     * @param data The array holding the bytes; only valid during the call.
+     * @param offset Offset of the first byte.
+     * @param length Number of bytes.
+     */
+    void onData(byte[] data, int offset, int length);
+}
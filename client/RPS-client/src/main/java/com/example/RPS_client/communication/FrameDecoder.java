@@ -0,0 +1,219 @@
+package com.example.RPS_client.communication;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * @file FrameDecoder.java
+ * @brief Reusable ring buffer that splits a byte stream into delimiter-terminated frames.
+ * @details Bytes are read from the stream in bulk straight into the ring, the delimiter is searched in place and
+ *          only the bytes of a complete frame are handed out. Bytes following a delimiter stay in the ring for the
+ *          next frame. Once constructed, the decoder does not allocate.
+ */
+public class FrameDecoder {
+
+    /**
+     * @brief Default ring capacity in bytes.
+     */
+    public static final int DEFAULT_CAPACITY = 1024;
+
+    /**
+     * @brief Ring storage; its length is a power of two.
+     */
+    private final byte[] ring;
+
+    /**
+     * @brief Mask converting a position into a ring index.
+     */
+    private final int mask;
+
+    /**
+     * @brief Position of the first unread byte.
+     */
+    private long head;
+
+    /**
+     * @brief Position after the last buffered byte.
+     */
+    private long tail;
+
+    /**
+     * @brief Number of bytes after head already known not to start a delimiter match.
+     */
+    private int scanned;
+
+    /**
+     * @brief Delimiter the scanned count refers to.
+     */
+    private byte[] scannedDelimiter;
+
+    /**
+     * @brief Creates a decoder with the default capacity.
+     */
+    public FrameDecoder() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * @brief Creates a decoder.
+     * @param capacity Minimum ring capacity in bytes; rounded up to a power of two.
+     */
+    public FrameDecoder(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be positive: " + capacity);
+        }
+        int size = Integer.highestOneBit(capacity);
+        if (size < capacity) {
+            size <<= 1;
+        }
+        ring = new byte[size];
+        mask = size - 1;
+    }
+
+    /**
+     * @brief Returns the ring capacity.
+     * @return The capacity in bytes.
+     */
+    public int capacity() {
+        return ring.length;
+    }
+
+    /**
+     * @brief Returns the number of buffered bytes.
+     * @return The buffered byte count.
+     */
+    public int size() {
+        return (int) (tail - head);
+    }
+
+    /**
+     * @brief Discards all buffered bytes.
+     */
+    public void clear() {
+        head = tail;
+        scanned = 0;
+    }
+
+    /**
+     * @brief Reads the bytes currently available from a stream into the ring with a single bulk read.
+     * @param inputStream The stream to read from.
+     * @return The number of bytes read, or -1 at end of stream.
+     * @throws IOException If the ring is full or the stream fails.
+     */
+    public int fill(InputStream inputStream) throws IOException {
+        int free = ring.length - size();
+        if (free == 0) {
+            throw new IOException("Frame exceeds buffer capacity of " + ring.length + " bytes");
+        }
+        int index = (int) (tail & mask);
+        int bytesRead = inputStream.read(ring, index, Math.min(free, ring.length - index));
+        if (bytesRead > 0) {
+            tail += bytesRead;
+        }
+        return bytesRead;
+    }
+
+    /**
+     * @brief Appends bytes that were received by other means, e.g. from a data listener.
+     * @param source The source array.
+     * @param offset Offset of the first byte.
+     * @param length Number of bytes.
+     * @throws IOException If the bytes do not fit into the ring.
+     */
+    public void write(byte[] source, int offset, int length) throws IOException {
+        if (length > ring.length - size()) {
+            throw new IOException("Frame exceeds buffer capacity of " + ring.length + " bytes");
+        }
+        int index = (int) (tail & mask);
+        int first = Math.min(length, ring.length - index);
+        System.arraycopy(source, offset, ring, index, first);
+        System.arraycopy(source, offset + first, ring, 0, length - first);
+        tail += length;
+    }
+
+    /**
+     * @brief Searches the buffered bytes for a delimiter.
+     * @param delimiter The delimiter bytes.
+     * @return The frame length before the delimiter, or -1 if no complete frame is buffered.
+     * @details Bytes already scanned for the same delimiter are not scanned again.
+     */
+    public int indexOf(byte[] delimiter) {
+        if (delimiter != scannedDelimiter) {
+            scannedDelimiter = delimiter;
+            scanned = 0;
+        }
+        int size = size();
+        int last = size - delimiter.length;
+        for (int i = scanned; i <= last; i++) {
+            if (matches(delimiter, i)) {
+                return i;
+            }
+        }
+        scanned = Math.max(scanned, last + 1);
+        return -1;
+    }
+
+    /**
+     * @brief Removes the next complete frame and copies it into a caller-supplied array.
+     * @param delimiter The delimiter bytes.
+     * @param destination The array receiving the frame, without the delimiter.
+     * @return The frame length, or -1 if no complete frame is buffered.
+     * @throws IOException If the frame does not fit into the destination array.
+     */
+    public int pollFrame(byte[] delimiter, byte[] destination) throws IOException {
+        int length = indexOf(delimiter);
+        if (length < 0) {
+            return -1;
+        }
+        if (length > destination.length) {
+            throw new IOException("Frame of " + length + " bytes exceeds destination of " + destination.length);
+        }
+        copy(destination, 0, length);
+        head += length + delimiter.length;
+        scanned = 0;
+        return length;
+    }
+
+    /**
+     * @brief Removes up to length buffered bytes regardless of delimiters.
+     * @param destination The array receiving the bytes.
+     * @param offset Offset in the destination array.
+     * @param length Maximum number of bytes to remove.
+     * @return The number of bytes removed.
+     */
+    public int poll(byte[] destination, int offset, int length) {
+        int count = Math.min(length, size());
+        copy(destination, offset, count);
+        head += count;
+        scanned = 0;
+        return count;
+    }
+
+    /**
+     * @brief Checks whether the delimiter occurs at the given offset from head.
+     * @param delimiter The delimiter bytes.
+     * @param offset Offset from head.
+     * @return True if all delimiter bytes match.
+     */
+    private boolean matches(byte[] delimiter, int offset) {
+        for (int j = 0; j < delimiter.length; j++) {
+            if (ring[(int) ((head + offset + j) & mask)] != delimiter[j]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @brief Copies bytes starting at head without consuming them.
+     * @param destination The target array.
+     * @param offset Offset in the target array.
+     * @param length Number of bytes to copy.
+     */
+    private void copy(byte[] destination, int offset, int length) {
+        int index = (int) (head & mask);
+        int first = Math.min(length, ring.length - index);
+        System.arraycopy(ring, index, destination, offset, first);
+        System.arraycopy(ring, 0, destination, offset + first, length - first);
+    }
+}
@@ -0,0 +1,462 @@
+package com.example.RPS_client.communication;
+
+import com.example.RPS_client.RPSGame.Outcome;
+import com.example.RPS_client.RPSGame.RPSMode;
+import com.example.RPS_client.RPSGame.RPSPlayer;
+import com.example.RPS_client.engine.RPSRules;
+import com.example.RPS_client.engine.RuleSet;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * @file RPSServerEmulator.java
+ * @brief In-process Java emulator of the RPS-server firmware.
+ * @details Speaks the same protocol as RPS-server.ino: every request line "MODE,MOVE1,MOVE2\n" is answered
+ *          with "RESULT,MOVE1,MOVE2|". Batch frames and the binary protocol are supported as well. Requests are
+ *          resolved synchronously on the writing thread, so a GameController running over the emulator is limited
+ *          only by memory speed. The firmware's post-response delay can optionally be reproduced. The emulator
+ *          also answers the multi-player frames of TextProtocol, which the firmware does not support.
+ */
+public class RPSServerEmulator implements Transport {
+
+    /**
+     * @brief Delimiter terminating a request line.
+     */
+    private static final byte REQUEST_DELIMITER = '\n';
+
+    /**
+     * @brief Delimiter terminating a response.
+     */
+    private static final String RESPONSE_DELIMITER = "|";
+
+    /**
+     * @brief Prefix of a batch frame carrying several ";"-separated rounds.
+     */
+    private static final String BATCH_PREFIX = "BATCH:";
+
+    /**
+     * @brief Maximum number of rounds accepted in one batch frame, as in the firmware.
+     */
+    private static final int MAX_BATCH_ROUNDS = 16;
+
+    /**
+     * @brief Lock guarding the request and response buffers.
+     */
+    private final Object lock = new Object();
+
+    /**
+     * @brief Random generator used for AI moves.
+     */
+    private final Random random;
+
+    /**
+     * @brief Delay applied after each response before the next request is accepted, in milliseconds.
+     */
+    private final long responseDelayMillis;
+
+    /**
+     * @brief Bytes of the request line currently being received.
+     */
+    private byte[] request = new byte[64];
+
+    /**
+     * @brief Number of valid bytes in the request buffer.
+     */
+    private int requestLength;
+
+    /**
+     * @brief Response bytes waiting to be read by the client.
+     */
+    private byte[] response = new byte[64];
+
+    /**
+     * @brief Read position in the response buffer.
+     */
+    private int responseHead;
+
+    /**
+     * @brief Write position in the response buffer.
+     */
+    private int responseTail;
+
+    /**
+     * @brief Time (System.nanoTime) before which the next request must not be processed.
+     */
+    private long nextRequestNanos;
+
+    /**
+     * @brief Listener receiving responses as they are produced, or null if responses are read from the stream.
+     */
+    private DataListener dataListener;
+
+    /**
+     * @brief Flag set once the emulator has been closed.
+     */
+    private boolean closed;
+
+    /**
+     * @brief Stream the client reads responses from.
+     */
+    private final InputStream inputStream = new EmulatorInputStream();
+
+    /**
+     * @brief Stream the client writes requests to.
+     */
+    private final OutputStream outputStream = new EmulatorOutputStream();
+
+    /**
+     * @brief Creates an emulator with a random seed and no response delay.
+     */
+    public RPSServerEmulator() {
+        this(new Random(), 0);
+    }
+
+    /**
+     * @brief Creates an emulator with a fixed seed and no response delay.
+     * @param seed Seed of the AI move generator, for reproducible runs.
+     */
+    public RPSServerEmulator(long seed) {
+        this(new Random(seed), 0);
+    }
+
+    /**
+     * @brief Creates an emulator.
+     * @param random Random generator used for AI moves.
+     * @param responseDelayMillis Delay after each response except the handshake's; 2000 reproduces the firmware
+     *                            timing.
+     */
+    public RPSServerEmulator(Random random, long responseDelayMillis) {
+        this.random = random;
+        this.responseDelayMillis = responseDelayMillis;
+    }
+
+    @Override
+    public InputStream getInputStream() {
+        return inputStream;
+    }
+
+    @Override
+    public OutputStream getOutputStream() {
+        return outputStream;
+    }
+
+    /**
+     * @brief Pushes every response to a listener on the writing thread instead of buffering it for the stream.
+     * @param listener The listener.
+     * @return Always true.
+     */
+    @Override
+    public boolean setDataListener(DataListener listener) {
+        synchronized (lock) {
+            dataListener = listener;
+            if (responseHead != responseTail) {
+                listener.onData(response, responseHead, responseTail - responseHead);
+                responseHead = responseTail;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @brief Closes the emulator and wakes up blocked readers.
+     */
+    @Override
+    public void close() {
+        synchronized (lock) {
+            closed = true;
+            lock.notifyAll();
+        }
+    }
+
+    /**
+     * @brief Processes one request line and returns the response as the firmware would.
+     * @param line The request without the trailing newline.
+     * @return The response including the trailing delimiter of every round.
+     */
+    String handleRequest(String line) {
+        if (isHandshake(line)) {
+            return BinaryProtocol.HANDSHAKE_RESPONSE + RESPONSE_DELIMITER;
+        }
+        if (line.startsWith(TextProtocol.MULTI_PREFIX)) {
+            return playMultiRound(line) + RESPONSE_DELIMITER;
+        }
+        if (!line.startsWith(BATCH_PREFIX)) {
+            return playRound(line) + RESPONSE_DELIMITER;
+        }
+
+        String[] rounds = line.substring(BATCH_PREFIX.length()).split(";", -1);
+        StringBuilder response = new StringBuilder();
+        for (int i = 0; i < rounds.length && i < MAX_BATCH_ROUNDS; i++) {
+            response.append(playRound(rounds[i])).append(RESPONSE_DELIMITER);
+        }
+        return response.toString();
+    }
+
+    /**
+     * @brief Checks whether a request line is the binary protocol handshake.
+     * @param line The request without the trailing newline.
+     * @return True for the handshake, which the firmware answers without the post-response delay.
+     */
+    private static boolean isHandshake(String line) {
+        return line.trim().equals(BinaryProtocol.HANDSHAKE_REQUEST.trim());
+    }
+
+    /**
+     * @brief Plays a multi-player round.
+     * @param line The "MULTI:COUNT,MOVES" request.
+     * @return The "MULTI,ROCKS,PAPERS,SCISSORS,WINNERS" result, or "ERROR" if the request is malformed.
+     */
+    private String playMultiRound(String line) {
+        try {
+            int[] moves = TextProtocol.decodeMultiRequest(line);
+            return TextProtocol.encodeMultiResult(RuleSet.CLASSIC.resolve(moves, moves.length));
+        } catch (IllegalArgumentException e) {
+            return "ERROR";
+        }
+    }
+
+    /**
+     * @brief Plays a single "MODE,MOVE1,MOVE2" round.
+     * @param line The round as a string.
+     * @return The result of the round as "RESULT,MOVE1,MOVE2".
+     */
+    private String playRound(String line) {
+        String[] parts = line.trim().split(",", -1);
+        RPSMode mode = stringToRPSMode(parts[0]);
+        RPSPlayer.Move move1 = parts.length > 1 ? stringToMove(parts[1]) : RPSPlayer.Move.ROCK;
+        RPSPlayer.Move move2 = parts.length > 2 ? stringToMove(parts[2]) : RPSPlayer.Move.ROCK;
+
+        byte result = playRound(mode, move1, move2);
+        return Outcome.fromCode((result >> 4) & 0x03).wireName() + "," + BinaryProtocol.move1(result).name() + ","
+                + BinaryProtocol.move2(result).name();
+    }
+
+    /**
+     * @brief Plays a single round and encodes its result.
+     * @param mode The game mode.
+     * @param move1 The first player's submitted move, replaced by an AI move in AI_VS_AI mode.
+     * @param move2 The second player's submitted move, replaced by an AI move in the AI modes.
+     * @return The result encoded as a binary response byte.
+     */
+    private byte playRound(RPSMode mode, RPSPlayer.Move move1, RPSPlayer.Move move2) {
+        switch (mode) {
+            case MAN_VS_AI:
+                move2 = generateAIMove();
+                break;
+            case AI_VS_AI:
+                move1 = generateAIMove();
+                move2 = generateAIMove();
+                break;
+            default:
+                break;
+        }
+
+        Outcome outcome = Outcome.fromRulesCode(RPSRules.outcome(move1, move2));
+        if (mode == RPSMode.MAN_VS_AI && outcome == Outcome.PLAYER_2) {
+            outcome = Outcome.AI;
+        }
+        return BinaryProtocol.encodeResult(outcome.code(), move1, move2);
+    }
+
+    /**
+     * @brief Converts a string into a move, defaulting to ROCK like the firmware.
+     * @param moveString The move as a string.
+     * @return The corresponding move.
+     */
+    private static RPSPlayer.Move stringToMove(String moveString) {
+        for (RPSPlayer.Move move : RPSPlayer.Move.values()) {
+            if (move.name().equals(moveString)) {
+                return move;
+            }
+        }
+        return RPSPlayer.Move.ROCK;
+    }
+
+    /**
+     * @brief Converts a string into a game mode, defaulting to MAN_VS_MAN like the firmware.
+     * @param modeString The game mode as a string.
+     * @return The corresponding game mode.
+     */
+    private static RPSMode stringToRPSMode(String modeString) {
+        for (RPSMode mode : RPSMode.values()) {
+            if (mode.name().equals(modeString)) {
+                return mode;
+            }
+        }
+        return RPSMode.MAN_VS_MAN;
+    }
+
+    /**
+     * @brief Generates a random move for the AI.
+     * @return A randomly generated move.
+     */
+    private RPSPlayer.Move generateAIMove() {
+        return RPSPlayer.Move.values()[random.nextInt(3)];
+    }
+
+    /**
+     * @brief Accepts one byte written by the client.
+     * @param b The byte.
+     * @throws IOException If the emulator is closed.
+     */
+    private void accept(int b) throws IOException {
+        synchronized (lock) {
+            if (closed) {
+                throw new IOException("Emulator is closed");
+            }
+            if (requestLength == 0 && BinaryProtocol.isBinary(b)) {
+                awaitNextRequestSlot();
+                byte request = (byte) b;
+                appendResponse(new byte[]{playRound(BinaryProtocol.requestMode(request),
+                        BinaryProtocol.move1(request), BinaryProtocol.move2(request))});
+                scheduleNextRequest();
+                return;
+            }
+            if (b != REQUEST_DELIMITER) {
+                if (requestLength == request.length) {
+                    request = Arrays.copyOf(request, request.length * 2);
+                }
+                request[requestLength++] = (byte) b;
+                return;
+            }
+
+            String line = new String(request, 0, requestLength, StandardCharsets.US_ASCII);
+            requestLength = 0;
+            awaitNextRequestSlot();
+            appendResponse(handleRequest(line).getBytes(StandardCharsets.US_ASCII));
+            if (!isHandshake(line)) {
+                scheduleNextRequest();
+            }
+        }
+    }
+
+    /**
+     * @brief Starts the emulated post-response delay.
+     */
+    private void scheduleNextRequest() {
+        if (responseDelayMillis > 0) {
+            nextRequestNanos = System.nanoTime() + responseDelayMillis * 1_000_000L;
+        }
+    }
+
+    /**
+     * @brief Waits until the emulated post-response delay has elapsed.
+     * @throws IOException If the thread is interrupted.
+     */
+    private void awaitNextRequestSlot() throws IOException {
+        long remaining = nextRequestNanos - System.nanoTime();
+        while (responseDelayMillis > 0 && remaining > 0) {
+            try {
+                lock.wait(remaining / 1_000_000L, (int) (remaining % 1_000_000L));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException("Interrupted while waiting for the emulator", e);
+            }
+            remaining = nextRequestNanos - System.nanoTime();
+        }
+    }
+
+    /**
+     * @brief Appends bytes to the response buffer and wakes up readers, or pushes them to the data listener.
+     * @param bytes The response bytes.
+     */
+    private void appendResponse(byte[] bytes) {
+        if (dataListener != null) {
+            dataListener.onData(bytes, 0, bytes.length);
+            return;
+        }
+        if (responseHead == responseTail) {
+            responseHead = 0;
+            responseTail = 0;
+        }
+        if (responseTail + bytes.length > response.length) {
+            int pending = responseTail - responseHead;
+            byte[] target = pending + bytes.length > response.length
+                    ? new byte[Math.max(response.length * 2, pending + bytes.length)]
+                    : response;
+            System.arraycopy(response, responseHead, target, 0, pending);
+            response = target;
+            responseHead = 0;
+            responseTail = pending;
+        }
+        System.arraycopy(bytes, 0, response, responseTail, bytes.length);
+        responseTail += bytes.length;
+        lock.notifyAll();
+    }
+
+    /**
+     * @brief Input side of the emulator: blocks until response bytes are available.
+     */
+    private class EmulatorInputStream extends InputStream {
+
+        @Override
+        public int read() throws IOException {
+            byte[] single = new byte[1];
+            return read(single, 0, 1) < 0 ? -1 : single[0] & 0xFF;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            if (len == 0) {
+                return 0;
+            }
+            synchronized (lock) {
+                while (responseHead == responseTail) {
+                    if (closed) {
+                        return -1;
+                    }
+                    try {
+                        lock.wait();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        throw new IOException("Interrupted while waiting for the emulator", e);
+                    }
+                }
+                int count = Math.min(len, responseTail - responseHead);
+                System.arraycopy(response, responseHead, b, off, count);
+                responseHead += count;
+                return count;
+            }
+        }
+
+        @Override
+        public int available() {
+            synchronized (lock) {
+                return responseTail - responseHead;
+            }
+        }
+
+        @Override
+        public void close() {
+            RPSServerEmulator.this.close();
+        }
+    }
+
+    /**
+     * @brief Output side of the emulator: resolves every complete request line.
+     */
+    private class EmulatorOutputStream extends OutputStream {
+
+        @Override
+        public void write(int b) throws IOException {
+            accept(b);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            for (int i = off; i < off + len; i++) {
+                accept(b[i]);
+            }
+        }
+
+        @Override
+        public void close() {
+            RPSServerEmulator.this.close();
+        }
+    }
+}
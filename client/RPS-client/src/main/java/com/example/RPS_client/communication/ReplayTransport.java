@@ -0,0 +1,212 @@
+package com.example.RPS_client.communication;
+
+import java.io.BufferedInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * @file ReplayTransport.java
+ * @brief Transport replaying the server side of a traffic capture written by CaptureTransport.
+ * @details The inbound chunks of the capture are returned by the input stream in their original order and
+ *          chunking, either as fast as they are read or at the pace they were recorded, measured from the first
+ *          read. Requests written to the output stream are discarded, so the replay does not depend on what the
+ *          client sends. A capture cut off by a crash ends at its last complete record.
+ */
+public class ReplayTransport implements Transport {
+
+    /**
+     * @brief Speed at which captured chunks are released.
+     */
+    public enum Pace {
+        /**
+         * @brief Every chunk is available immediately.
+         */
+        AS_FAST_AS_POSSIBLE,
+
+        /**
+         * @brief Every chunk is released after the same delay as in the capture.
+         */
+        ORIGINAL
+    }
+
+    /**
+     * @brief Buffered stream of the capture file.
+     */
+    private final InputStream capture;
+
+    /**
+     * @brief Speed at which chunks are released.
+     */
+    private final Pace pace;
+
+    /**
+     * @brief Stream returning the captured inbound bytes.
+     */
+    private final InputStream inputStream = new ReplayInputStream();
+
+    /**
+     * @brief Bytes of the current inbound chunk.
+     */
+    private byte[] chunk = new byte[64];
+
+    /**
+     * @brief Read position within the current chunk.
+     */
+    private int position;
+
+    /**
+     * @brief Length of the current chunk.
+     */
+    private int limit;
+
+    /**
+     * @brief Capture time of the current chunk, relative to the first record.
+     */
+    private long chunkOffsetNanos;
+
+    /**
+     * @brief Time of the first read, from System.nanoTime(), or 0 before it.
+     */
+    private long replayStartNanos;
+
+    /**
+     * @brief Flag set once the last captured chunk was returned.
+     */
+    private boolean finished;
+
+    /**
+     * @brief Constructor of the class.
+     * @param captureFile The capture file to replay.
+     * @param pace The speed at which chunks are released.
+     * @throws IOException If the file cannot be opened or is not a capture.
+     */
+    public ReplayTransport(Path captureFile, Pace pace) throws IOException {
+        this(Files.newInputStream(captureFile), pace);
+    }
+
+    /**
+     * @brief Constructor of the class.
+     * @param capture The stream of a capture; it is closed with this transport.
+     * @param pace The speed at which chunks are released.
+     * @throws IOException If the stream is not a capture.
+     */
+    public ReplayTransport(InputStream capture, Pace pace) throws IOException {
+        this.capture = new BufferedInputStream(capture);
+        this.pace = pace;
+        CaptureFormat.readHeader(this.capture);
+    }
+
+    @Override
+    public InputStream getInputStream() {
+        return inputStream;
+    }
+
+    @Override
+    public OutputStream getOutputStream() {
+        return OutputStream.nullOutputStream();
+    }
+
+    /**
+     * @brief Closes the capture.
+     * @throws IOException If the capture cannot be closed.
+     */
+    @Override
+    public void close() throws IOException {
+        capture.close();
+    }
+
+    /**
+     * @brief Loads the next inbound chunk, skipping outbound records.
+     * @return True if a chunk was loaded, false at the end of the capture.
+     * @throws IOException If the capture cannot be read.
+     */
+    private boolean nextChunk() throws IOException {
+        while (!finished) {
+            int direction = capture.read();
+            if (direction < 0) {
+                finished = true;
+                break;
+            }
+            try {
+                chunkOffsetNanos += CaptureFormat.readVarLong(capture);
+                int length = (int) CaptureFormat.readVarLong(capture);
+                if (direction == CaptureFormat.INBOUND) {
+                    if (chunk.length < length) {
+                        chunk = new byte[Math.max(length, chunk.length * 2)];
+                    }
+                    if (capture.readNBytes(chunk, 0, length) < length) {
+                        throw new EOFException("Truncated capture record");
+                    }
+                    position = 0;
+                    limit = length;
+                    return true;
+                }
+                capture.skipNBytes(length);
+            } catch (EOFException e) {
+                finished = true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @brief Waits until the current chunk is due at the original pace.
+     * @throws IOException If the waiting thread is interrupted.
+     */
+    private void awaitChunk() throws IOException {
+        if (pace != Pace.ORIGINAL) {
+            return;
+        }
+        long due = replayStartNanos + chunkOffsetNanos;
+        long remaining;
+        while ((remaining = due - System.nanoTime()) > 0) {
+            LockSupport.parkNanos(remaining);
+            if (Thread.interrupted()) {
+                Thread.currentThread().interrupt();
+                throw new IOException("Replay interrupted");
+            }
+        }
+    }
+
+    /**
+     * @brief Input stream returning the captured inbound chunks.
+     */
+    private class ReplayInputStream extends InputStream {
+
+        @Override
+        public int read() throws IOException {
+            byte[] single = new byte[1];
+            return read(single, 0, 1) < 0 ? -1 : single[0] & 0xFF;
+        }
+
+        @Override
+        public synchronized int read(byte[] data, int offset, int length) throws IOException {
+            if (length == 0) {
+                return 0;
+            }
+            if (replayStartNanos == 0) {
+                replayStartNanos = System.nanoTime();
+            }
+            while (position == limit) {
+                if (!nextChunk()) {
+                    return -1;
+                }
+                awaitChunk();
+            }
+            int count = Math.min(length, limit - position);
+            System.arraycopy(chunk, position, data, offset, count);
+            position += count;
+            return count;
+        }
+
+        @Override
+        public synchronized int available() {
+            return limit - position;
+        }
+    }
+}
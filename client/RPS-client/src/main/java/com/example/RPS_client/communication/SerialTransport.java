@@ -0,0 +1,97 @@
+package com.example.RPS_client.communication;
+
+import com.fazecast.jSerialComm.SerialPort;
+import com.fazecast.jSerialComm.SerialPortDataListener;
+import com.fazecast.jSerialComm.SerialPortEvent;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+
+/**
+ * @file SerialTransport.java
+ * @brief Transport backed by a jSerialComm serial port.
+ * @details Opens the port in semi-blocking read mode and exposes its streams. Alternatively, incoming bytes can be
+ *          pushed to a DataListener by jSerialComm's event thread, so no reader thread has to block on the port.
+ */
+public class SerialTransport implements Transport {
+
+    /**
+     * @brief The serial port used for communication.
+     */
+    private final SerialPort serialPort;
+
+    /**
+     * @brief Input stream for reading data from the serial port.
+     */
+    private final InputStream inputStream;
+
+    /**
+     * @brief Output stream for writing data to the serial port.
+     */
+    private final OutputStream outputStream;
+
+    /**
+     * @brief Constructor of the class.
+     * @param serialPort The serial port object to be used.
+     * @throws UncheckedIOException If the port cannot be opened, e.g. because it is in use or was unplugged.
+     * @details Opens the serial port and initializes the input/output streams.
+     */
+    public SerialTransport(SerialPort serialPort) {
+        this.serialPort = serialPort;
+        if (!this.serialPort.openPort()) {
+            throw new UncheckedIOException(new IOException("Cannot open serial port "
+                    + serialPort.getSystemPortPath()));
+        }
+        this.serialPort.setComPortTimeouts(SerialPort.TIMEOUT_READ_SEMI_BLOCKING, 0, 0);
+        inputStream = serialPort.getInputStream();
+        outputStream = serialPort.getOutputStream();
+    }
+
+    @Override
+    public InputStream getInputStream() {
+        return inputStream;
+    }
+
+    @Override
+    public OutputStream getOutputStream() {
+        return outputStream;
+    }
+
+    /**
+     * @brief Switches the port to event-driven reads.
+     * @param listener The listener receiving incoming bytes on jSerialComm's event thread.
+     * @return True if the listener was registered.
+     */
+    @Override
+    public boolean setDataListener(DataListener listener) {
+        return serialPort.addDataListener(new SerialPortDataListener() {
+            @Override
+            public int getListeningEvents() {
+                return SerialPort.LISTENING_EVENT_DATA_RECEIVED;
+            }
+
+            @Override
+            public void serialEvent(SerialPortEvent event) {
+                byte[] data = event.getReceivedData();
+                listener.onData(data, 0, data.length);
+            }
+        });
+    }
+
+    /**
+     * @brief Closes the input/output streams and the serial port.
+     * @throws IOException If the streams cannot be closed.
+     */
+    @Override
+    public void close() throws IOException {
+        try {
+            inputStream.close();
+            outputStream.close();
+        } finally {
+            serialPort.removeDataListener();
+            serialPort.closePort();
+        }
+    }
+}
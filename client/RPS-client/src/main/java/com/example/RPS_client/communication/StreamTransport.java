@@ -0,0 +1,50 @@
+package com.example.RPS_client.communication;
+
+import lombok.RequiredArgsConstructor;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+/**
+ * @file StreamTransport.java
+ * @brief Transport over an arbitrary pair of streams.
+ * @details Useful for piped streams, sockets or any other byte channel that already exposes
+ *          an input and an output stream.
+ */
+@RequiredArgsConstructor
+public class StreamTransport implements Transport {
+
+    /**
+     * @brief Stream the server's responses are read from.
+     */
+    private final InputStream inputStream;
+
+    /**
+     * @brief Stream the client's requests are written to.
+     */
+    private final OutputStream outputStream;
+
+    @Override
+    public InputStream getInputStream() {
+        return inputStream;
+    }
+
+    @Override
+    public OutputStream getOutputStream() {
+        return outputStream;
+    }
+
+    /**
+     * @brief Closes both streams.
+     * @throws IOException If one of the streams cannot be closed.
+     */
+    @Override
+    public void close() throws IOException {
+        try {
+            inputStream.close();
+        } finally {
+            outputStream.close();
+        }
+    }
+}
@@ -0,0 +1,235 @@
+package com.example.RPS_client.communication;
+
+import com.example.RPS_client.DTO.GameDTO;
+import com.example.RPS_client.DTO.MultiGameDTO;
+import com.example.RPS_client.RPSGame.Outcome;
+import com.example.RPS_client.RPSGame.RPSPlayer;
+import com.example.RPS_client.engine.RuleSet;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.BitSet;
+
+/**
+ * @file TextProtocol.java
+ * @brief Allocation-free parser of the text protocol's "RESULT,MOVE1,MOVE2" results, and codec of multi-player frames.
+ * @details The result and move names are encoded once into token tables. A frame is matched against them byte by
+ *          byte, without building strings, splitting or looking up enum names, and the shared GameDTO instance is
+ *          returned.
+ *          A multi-player round travels in a single frame each way. The request "MULTI:COUNT,MOVES\n" carries the
+ *          moves packed in two bits each and Base64-encoded. The response "MULTI,ROCKS,PAPERS,SCISSORS,WINNERS|"
+ *          carries the move counts and the winners as a Base64-encoded little-endian bit set.
+ */
+public final class TextProtocol {
+
+    /**
+     * @brief Prefix of a multi-player request frame.
+     */
+    public static final String MULTI_PREFIX = "MULTI:";
+
+    /**
+     * @brief Prefix of a multi-player result frame.
+     */
+    public static final String MULTI_RESULT_PREFIX = "MULTI,";
+
+    /**
+     * @brief Maximum number of players of a multi-player round, so that its result fits into a frame buffer.
+     */
+    public static final int MAX_MULTI_PLAYERS = 4096;
+
+    /**
+     * @brief Cached outcome values indexed by code.
+     */
+    private static final Outcome[] OUTCOMES = Outcome.values();
+
+    /**
+     * @brief Cached move values indexed by ordinal.
+     */
+    private static final RPSPlayer.Move[] MOVES = RPSPlayer.Move.values();
+
+    /**
+     * @brief ASCII wire names of the outcomes, indexed by code.
+     */
+    private static final byte[][] OUTCOME_TOKENS = new byte[OUTCOMES.length][];
+
+    /**
+     * @brief ASCII names of the moves, indexed by ordinal.
+     */
+    private static final byte[][] MOVE_TOKENS = new byte[MOVES.length][];
+
+    static {
+        for (Outcome outcome : OUTCOMES) {
+            OUTCOME_TOKENS[outcome.code()] = outcome.wireName().getBytes(StandardCharsets.US_ASCII);
+        }
+        for (RPSPlayer.Move move : MOVES) {
+            MOVE_TOKENS[move.ordinal()] = move.name().getBytes(StandardCharsets.US_ASCII);
+        }
+    }
+
+    private TextProtocol() {
+    }
+
+    /**
+     * @brief Parses a result frame.
+     * @param frame The array holding the frame, without the "|" delimiter.
+     * @param offset Offset of the first byte.
+     * @param length Number of bytes; surrounding whitespace is ignored.
+     * @return The shared result instance.
+     * @throws IllegalArgumentException If the frame is not a valid result.
+     */
+    public static GameDTO parseResult(byte[] frame, int offset, int length) {
+        int start = offset;
+        int end = offset + length;
+        while (start < end && frame[start] <= ' ') {
+            start++;
+        }
+        while (end > start && frame[end - 1] <= ' ') {
+            end--;
+        }
+
+        int firstComma = indexOf(frame, start, end);
+        int secondComma = firstComma < 0 ? -1 : indexOf(frame, firstComma + 1, end);
+        int outcome = secondComma < 0 ? -1 : match(OUTCOME_TOKENS, frame, start, firstComma);
+        int move1 = outcome < 0 ? -1 : match(MOVE_TOKENS, frame, firstComma + 1, secondComma);
+        int move2 = move1 < 0 ? -1 : match(MOVE_TOKENS, frame, secondComma + 1, end);
+        if (move2 < 0) {
+            throw new IllegalArgumentException("Malformed result: "
+                    + new String(frame, offset, length, StandardCharsets.US_ASCII));
+        }
+        return GameDTO.of(OUTCOMES[outcome], MOVES[move1], MOVES[move2]);
+    }
+
+    /**
+     * @brief Encodes a multi-player request frame.
+     * @param moves The players' moves.
+     * @return The frame including the trailing newline.
+     * @throws IllegalArgumentException If there are no players or more than MAX_MULTI_PLAYERS.
+     */
+    public static String encodeMultiRequest(RPSPlayer.Move[] moves) {
+        checkPlayers(moves.length);
+        int[] indexes = new int[moves.length];
+        for (int i = 0; i < moves.length; i++) {
+            indexes[i] = moves[i].ordinal();
+        }
+        byte[] packed = new byte[RuleSet.CLASSIC.packedLength(moves.length)];
+        RuleSet.CLASSIC.packMoves(indexes, moves.length, packed);
+        return MULTI_PREFIX + moves.length + "," + Base64.getEncoder().encodeToString(packed) + "\n";
+    }
+
+    /**
+     * @brief Decodes a multi-player request frame.
+     * @param frame The frame without the trailing newline.
+     * @return The move ordinal of each player.
+     * @throws IllegalArgumentException If the frame is not a valid multi-player request.
+     */
+    public static int[] decodeMultiRequest(String frame) {
+        try {
+            int comma = frame.indexOf(',');
+            int players = checkPlayers(Integer.parseInt(frame.substring(MULTI_PREFIX.length(), comma).trim()));
+            byte[] packed = Base64.getDecoder().decode(frame.substring(comma + 1).trim());
+            if (packed.length != RuleSet.CLASSIC.packedLength(players)) {
+                throw new IllegalArgumentException("Expected " + players + " moves");
+            }
+            int[] moves = new int[players];
+            RuleSet.CLASSIC.unpackMoves(packed, players, moves);
+            return moves;
+        } catch (IndexOutOfBoundsException | IllegalArgumentException e) {
+            throw new IllegalArgumentException("Malformed multi-player request: " + frame, e);
+        }
+    }
+
+    /**
+     * @brief Encodes a multi-player result frame.
+     * @param result The result of the round.
+     * @return The frame without the delimiter.
+     */
+    public static String encodeMultiResult(MultiGameDTO result) {
+        StringBuilder frame = new StringBuilder(MULTI_RESULT_PREFIX);
+        for (long count : result.moveCounts()) {
+            frame.append(count).append(',');
+        }
+        byte[] winners = Arrays.copyOf(result.winners().toByteArray(), (result.players() + Byte.SIZE - 1) / Byte.SIZE);
+        return frame.append(Base64.getEncoder().encodeToString(winners)).toString();
+    }
+
+    /**
+     * @brief Parses a multi-player result frame.
+     * @param frame The array holding the frame, without the "|" delimiter.
+     * @param offset Offset of the first byte.
+     * @param length Number of bytes; surrounding whitespace is ignored.
+     * @return The result.
+     * @throws IllegalArgumentException If the frame is not a valid multi-player result.
+     */
+    public static MultiGameDTO parseMultiResult(byte[] frame, int offset, int length) {
+        String text = new String(frame, offset, length, StandardCharsets.US_ASCII).trim();
+        String[] fields = text.split(",", -1);
+        if (!text.startsWith(MULTI_RESULT_PREFIX) || fields.length != MOVES.length + 2) {
+            throw new IllegalArgumentException("Malformed multi-player result: " + text);
+        }
+        try {
+            long[] counts = new long[MOVES.length];
+            long players = 0;
+            for (int move = 0; move < MOVES.length; move++) {
+                counts[move] = Long.parseLong(fields[move + 1]);
+                players += counts[move];
+            }
+            BitSet winners = BitSet.valueOf(Base64.getDecoder().decode(fields[MOVES.length + 1]));
+            if (players > MAX_MULTI_PLAYERS || winners.length() > players) {
+                throw new IllegalArgumentException("Inconsistent counts");
+            }
+            return new MultiGameDTO((int) players, counts, winners);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Malformed multi-player result: " + text, e);
+        }
+    }
+
+    /**
+     * @brief Checks the number of players of a multi-player round.
+     * @param players The number of players.
+     * @return The number of players.
+     * @throws IllegalArgumentException If it is out of range.
+     */
+    private static int checkPlayers(int players) {
+        if (players < 1 || players > MAX_MULTI_PLAYERS) {
+            throw new IllegalArgumentException("Player count must be between 1 and " + MAX_MULTI_PLAYERS + ": "
+                    + players);
+        }
+        return players;
+    }
+
+    /**
+     * @brief Finds the next comma.
+     * @param frame The frame.
+     * @param from First index to search.
+     * @param end Index after the last byte to search.
+     * @return The index of the comma, or -1 if there is none.
+     */
+    private static int indexOf(byte[] frame, int from, int end) {
+        for (int i = from; i < end; i++) {
+            if (frame[i] == ',') {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * @brief Looks up a field in a token table.
+     * @param tokens The token table.
+     * @param frame The frame.
+     * @param start Index of the first byte of the field.
+     * @param end Index after the last byte of the field.
+     * @return The index of the matching token, or -1 if no token matches.
+     */
+    private static int match(byte[][] tokens, byte[] frame, int start, int end) {
+        int length = end - start;
+        for (int i = 0; i < tokens.length; i++) {
+            byte[] token = tokens[i];
+            if (token.length == length && Arrays.equals(token, 0, length, frame, start, end)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,42 @@
+package com.example.RPS_client.communication;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+/**
+ * @file Transport.java
+ * @brief Byte-level link between the client and an RPS server.
+ * @details Abstracts the physical channel used by Communication so that the same protocol code can run
+ *          over a serial port, a pair of streams or an in-process emulator of the firmware.
+ */
+public interface Transport {
+
+    /**
+     * @brief Returns the stream the server's responses are read from.
+     * @return The input stream of the link.
+     */
+    InputStream getInputStream();
+
+    /**
+     * @brief Returns the stream the client's requests are written to.
+     * @return The output stream of the link.
+     */
+    OutputStream getOutputStream();
+
+    /**
+     * @brief Registers a listener that receives incoming bytes as they arrive instead of them being read from
+     * the input stream.
+     * @param listener The listener, invoked on a thread owned by the transport.
+     * @return True if the transport supports event-driven reads, false if the input stream must be polled.
+     */
+    default boolean setDataListener(DataListener listener) {
+        return false;
+    }
+
+    /**
+     * @brief Releases the streams and the underlying channel.
+     * @throws IOException If the streams cannot be closed.
+     */
+    void close() throws IOException;
+}
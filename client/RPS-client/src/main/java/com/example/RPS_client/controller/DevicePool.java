@@ -0,0 +1,311 @@
+package com.example.RPS_client.controller;
+
+import com.example.RPS_client.DTO.GameDTO;
+import com.example.RPS_client.RPSGame.RPSMode;
+import com.example.RPS_client.RPSGame.RPSPlayer;
+import com.fazecast.jSerialComm.SerialPort;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * @file DevicePool.java
+ * @brief Pool of RPS server boards with hot-plug discovery and load balancing.
+ * @details Periodically discovers the available devices, connects new ones and drops those that were unplugged or
+ *          failed. A new device only joins the pool once it has answered the binary protocol handshake within the
+ *          round timeout, so ports without an RPS server are skipped. Rounds are sent to the healthy device with
+ *          the fewest outstanding rounds; every device has its own GameController I/O thread, so throughput grows
+ *          with the number of boards. A device whose oldest outstanding round is not answered within the round
+ *          timeout is considered failed; as with the LinkSupervisor, the timeout only starts once the round is
+ *          the oldest, because the firmware answers one round at a time after a post-response delay.
+ */
+public class DevicePool implements RoundPlayer, AutoCloseable {
+
+    /**
+     * @brief Default interval between two discovery scans, in milliseconds.
+     */
+    public static final long DEFAULT_SCAN_INTERVAL_MILLIS = 2000;
+
+    /**
+     * @brief Default time a probe or the oldest outstanding round of a device may take, in milliseconds.
+     */
+    public static final long DEFAULT_ROUND_TIMEOUT_MILLIS = LinkSupervisor.DEFAULT_ROUND_TIMEOUT_MILLIS;
+
+    /**
+     * @brief Supplies the identifiers of the currently attached devices.
+     */
+    private final Supplier<Collection<String>> discovery;
+
+    /**
+     * @brief Opens a game controller for a device identifier.
+     */
+    private final Function<String, GameController> connector;
+
+    /**
+     * @brief Time a probe or the oldest outstanding round of a device may take, in milliseconds.
+     */
+    private final long roundTimeoutMillis;
+
+    /**
+     * @brief Connected devices.
+     */
+    private final List<Device> devices = new CopyOnWriteArrayList<>();
+
+    /**
+     * @brief Scheduler running the discovery scans.
+     */
+    private final ScheduledExecutorService scanner;
+
+    /**
+     * @brief Creates a pool of the serial ports of this host.
+     * @return A pool that still has to be started.
+     */
+    public static DevicePool serialPorts() {
+        return new DevicePool(DevicePool::listSerialPorts, GameController::new);
+    }
+
+    /**
+     * @brief Creates a pool with the default round timeout.
+     * @param discovery Supplies the identifiers of the currently attached devices.
+     * @param connector Opens a game controller for a device identifier.
+     */
+    public DevicePool(Supplier<Collection<String>> discovery, Function<String, GameController> connector) {
+        this(discovery, connector, DEFAULT_ROUND_TIMEOUT_MILLIS);
+    }
+
+    /**
+     * @brief Creates a pool.
+     * @param discovery Supplies the identifiers of the currently attached devices.
+     * @param connector Opens a game controller for a device identifier.
+     * @param roundTimeoutMillis Time a probe or the oldest outstanding round of a device may take, in milliseconds.
+     */
+    public DevicePool(Supplier<Collection<String>> discovery, Function<String, GameController> connector,
+                      long roundTimeoutMillis) {
+        this.discovery = discovery;
+        this.connector = connector;
+        this.roundTimeoutMillis = roundTimeoutMillis;
+        scanner = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "rps-device-scanner");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * @brief Runs a first scan and starts watching for plugged and unplugged devices.
+     * @param scanIntervalMillis Interval between two scans, in milliseconds.
+     */
+    public void start(long scanIntervalMillis) {
+        scan();
+        scanner.scheduleWithFixedDelay(this::scan, scanIntervalMillis, scanIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * @brief Synchronises the pool with the attached devices.
+     * @details Closes devices that disappeared, failed or stalled, then connects and probes newly attached
+     * devices. The probes run concurrently, so a scan takes at most one round timeout. A failed device that is
+     * still attached is reconnected and probed again by the next scan.
+     */
+    public synchronized void scan() {
+        Set<String> attached = new HashSet<>(discovery.get());
+
+        long now = System.nanoTime();
+        for (Device device : devices) {
+            if (device.isStalled(now, roundTimeoutMillis)) {
+                device.healthy = false;
+            }
+            if (!device.healthy || !attached.contains(device.id)) {
+                devices.remove(device);
+                device.controller.close();
+            }
+        }
+
+        for (Device device : devices) {
+            attached.remove(device.id);
+        }
+
+        Map<String, GameController> connected = new LinkedHashMap<>();
+        Map<String, CompletableFuture<Void>> probes = new LinkedHashMap<>();
+        for (String id : attached) {
+            try {
+                GameController controller = connector.apply(id);
+                connected.put(id, controller);
+                probes.put(id, controller.pingAsync().orTimeout(roundTimeoutMillis, TimeUnit.MILLISECONDS));
+            } catch (RuntimeException e) {
+                System.err.println("Connection with device " + id + " failed: " + e.getMessage());
+            }
+        }
+
+        for (Map.Entry<String, GameController> entry : connected.entrySet()) {
+            String id = entry.getKey();
+            try {
+                probes.get(id).get();
+                devices.add(new Device(id, entry.getValue()));
+            } catch (ExecutionException e) {
+                System.err.println("Device " + id + " did not answer the handshake: " + e.getCause());
+                entry.getValue().close();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                entry.getValue().close();
+            }
+        }
+    }
+
+    /**
+     * @brief Plays a round on the least loaded healthy device.
+     * @param mode The game mode.
+     * @param move1 The first player's move.
+     * @param move2 The second player's move.
+     * @return A future completed with the result.
+     */
+    @Override
+    public CompletableFuture<GameDTO> playAsync(RPSMode mode, RPSPlayer.Move move1, RPSPlayer.Move move2) {
+        Device device = leastLoaded();
+        if (device == null) {
+            return CompletableFuture.failedFuture(new IOException("No device available"));
+        }
+
+        device.submitted();
+        return device.controller.playAsync(mode, move1, move2).whenComplete((result, error) -> {
+            device.completed();
+            if (error != null) {
+                device.healthy = false;
+            }
+        });
+    }
+
+    /**
+     * @brief Returns the identifiers of the connected healthy devices.
+     * @return The device identifiers.
+     */
+    public List<String> devices() {
+        List<String> ids = new ArrayList<>();
+        for (Device device : devices) {
+            if (device.healthy) {
+                ids.add(device.id);
+            }
+        }
+        return ids;
+    }
+
+    /**
+     * @brief Stops the discovery and closes every device.
+     */
+    @Override
+    public synchronized void close() {
+        scanner.shutdownNow();
+        for (Device device : devices) {
+            device.controller.close();
+        }
+        devices.clear();
+    }
+
+    /**
+     * @brief Finds the healthy device with the fewest outstanding rounds.
+     * @return The device, or null if none is available.
+     */
+    private Device leastLoaded() {
+        Device best = null;
+        int bestOutstanding = Integer.MAX_VALUE;
+        for (Device device : devices) {
+            int outstanding = device.outstanding.get();
+            if (device.healthy && outstanding < bestOutstanding) {
+                best = device;
+                bestOutstanding = outstanding;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * @brief Lists the system paths of the serial ports of this host.
+     * @return The port paths.
+     */
+    private static Collection<String> listSerialPorts() {
+        List<String> ports = new ArrayList<>();
+        for (SerialPort port : SerialPort.getCommPorts()) {
+            ports.add(port.getSystemPortPath());
+        }
+        return ports;
+    }
+
+    /**
+     * @brief A connected device and its load.
+     */
+    private static final class Device {
+
+        /**
+         * @brief Identifier of the device, e.g. its port path.
+         */
+        private final String id;
+
+        /**
+         * @brief Controller talking to the device.
+         */
+        private final GameController controller;
+
+        /**
+         * @brief Number of rounds sent to the device and not yet completed.
+         */
+        private final AtomicInteger outstanding = new AtomicInteger();
+
+        /**
+         * @brief Time the oldest outstanding round became the oldest, from System.nanoTime().
+         */
+        private volatile long headSinceNanos;
+
+        /**
+         * @brief Cleared when a round on the device fails or stalls.
+         */
+        private volatile boolean healthy = true;
+
+        private Device(String id, GameController controller) {
+            this.id = id;
+            this.controller = controller;
+        }
+
+        /**
+         * @brief Counts a round sent to the device; starts its timeout if no other round is outstanding.
+         */
+        private void submitted() {
+            if (outstanding.get() == 0) {
+                headSinceNanos = System.nanoTime();
+            }
+            outstanding.incrementAndGet();
+        }
+
+        /**
+         * @brief Counts a completed round; the next outstanding round becomes the oldest and its timeout starts.
+         */
+        private void completed() {
+            headSinceNanos = System.nanoTime();
+            outstanding.decrementAndGet();
+        }
+
+        /**
+         * @brief Checks whether the oldest outstanding round has exceeded the round timeout.
+         * @param now The current time from System.nanoTime().
+         * @param roundTimeoutMillis The round timeout in milliseconds.
+         * @return True if a round is outstanding and the device has not answered within the timeout.
+         */
+        private boolean isStalled(long now, long roundTimeoutMillis) {
+            return outstanding.get() > 0
+                    && now - headSinceNanos > TimeUnit.MILLISECONDS.toNanos(roundTimeoutMillis);
+        }
+    }
+}
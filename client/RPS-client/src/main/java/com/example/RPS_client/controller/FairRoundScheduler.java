@@ -0,0 +1,404 @@
+package com.example.RPS_client.controller;
+
+import com.example.RPS_client.DTO.GameDTO;
+import com.example.RPS_client.DTO.RoundDTO;
+import com.example.RPS_client.RPSGame.RPSMode;
+import com.example.RPS_client.RPSGame.RPSPlayer;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @file FairRoundScheduler.java
+ * @brief Bounded queue in front of a device that shares it fairly between sessions.
+ * @details Rounds are queued per session and handed to the backend by a single dispatcher thread, at most
+ *          window rounds at a time, so the backend's own FIFO never builds up. The dispatcher serves the sessions
+ *          with deficit round robin: on each turn a session may send as many rounds as its weight. A session's
+ *          weight comes from the mode of its first round, so with the defaults a flood of AI_VS_AI rounds gets one
+ *          round in five while interactive rounds are waiting, and the whole device when they are not. Rounds
+ *          beyond the total or per-session capacity are rejected, park the producer for a bounded time, or are
+ *          refused through offerAsync() so that the producer can hold them back itself.
+ */
+public class FairRoundScheduler implements RoundPlayer, AutoCloseable {
+
+    /**
+     * @brief Default maximum number of queued rounds.
+     */
+    public static final int DEFAULT_CAPACITY = 256;
+
+    /**
+     * @brief Default maximum number of queued rounds per session.
+     */
+    public static final int DEFAULT_SESSION_CAPACITY = 64;
+
+    /**
+     * @brief Default weight of sessions whose first round is interactive.
+     */
+    public static final int INTERACTIVE_WEIGHT = 4;
+
+    /**
+     * @brief Default weight of sessions whose first round is AI_VS_AI.
+     */
+    public static final int BATCH_WEIGHT = 1;
+
+    /**
+     * @brief The player the rounds are handed to, e.g. a game controller or a supervised link.
+     */
+    private final RoundPlayer backend;
+
+    /**
+     * @brief Maximum number of queued rounds.
+     */
+    private final int capacity;
+
+    /**
+     * @brief Maximum number of queued rounds per session.
+     */
+    private final int sessionCapacity;
+
+    /**
+     * @brief Maximum number of rounds handed to the backend and not yet completed.
+     */
+    private final int window;
+
+    /**
+     * @brief Weight of a new session by the mode of its first round.
+     */
+    private final Map<RPSMode, Integer> weights = new EnumMap<>(RPSMode.class);
+
+    /**
+     * @brief Sessions with queued rounds, by name.
+     */
+    private final Map<String, Session> sessions = new HashMap<>();
+
+    /**
+     * @brief Sessions with queued rounds in round robin order; the first one is served next.
+     */
+    private final Deque<Session> activeSessions = new ArrayDeque<>();
+
+    /**
+     * @brief Thread handing rounds to the backend.
+     */
+    private final Thread dispatcherThread;
+
+    /**
+     * @brief Number of queued rounds.
+     */
+    private int queuedCount;
+
+    /**
+     * @brief Number of rounds handed to the backend and not yet completed.
+     */
+    private int inFlightCount;
+
+    /**
+     * @brief Flag set when the scheduler is closed.
+     */
+    private boolean closed;
+
+    /**
+     * @brief Constructor of the class with the default capacities and the backend's pipelining window.
+     * @param backend The player the rounds are handed to.
+     */
+    public FairRoundScheduler(RoundPlayer backend) {
+        this(backend, DEFAULT_CAPACITY, DEFAULT_SESSION_CAPACITY, GameController.MAX_IN_FLIGHT);
+    }
+
+    /**
+     * @brief Constructor of the class.
+     * @param backend The player the rounds are handed to.
+     * @param capacity Maximum number of queued rounds.
+     * @param sessionCapacity Maximum number of queued rounds per session.
+     * @param window Maximum number of rounds handed to the backend and not yet completed.
+     */
+    public FairRoundScheduler(RoundPlayer backend, int capacity, int sessionCapacity, int window) {
+        this.backend = backend;
+        this.capacity = capacity;
+        this.sessionCapacity = sessionCapacity;
+        this.window = window;
+        weights.put(RPSMode.MAN_VS_MAN, INTERACTIVE_WEIGHT);
+        weights.put(RPSMode.MAN_VS_AI, INTERACTIVE_WEIGHT);
+        weights.put(RPSMode.AI_VS_AI, BATCH_WEIGHT);
+
+        dispatcherThread = new Thread(this::runDispatcher, "rps-scheduler");
+        dispatcherThread.setDaemon(true);
+        dispatcherThread.start();
+    }
+
+    /**
+     * @brief Sets the weight of new sessions starting with a mode.
+     * @param mode The mode of the session's first round.
+     * @param weight Number of rounds the session may send per turn; at least 1.
+     */
+    public synchronized void setWeight(RPSMode mode, int weight) {
+        weights.put(mode, Math.max(1, weight));
+    }
+
+    /**
+     * @brief Plays a round in the session named after its mode.
+     * @param mode The game mode.
+     * @param move1 The first player's move.
+     * @param move2 The second player's move.
+     * @return A future completed with the result; failed at once if the queue is full.
+     */
+    @Override
+    public CompletableFuture<GameDTO> playAsync(RPSMode mode, RPSPlayer.Move move1, RPSPlayer.Move move2) {
+        return playAsync(mode.name(), mode, move1, move2);
+    }
+
+    /**
+     * @brief Plays a round of a session, rejecting it if the queue is full.
+     * @param session The session the round belongs to.
+     * @param mode The game mode.
+     * @param move1 The first player's move.
+     * @param move2 The second player's move.
+     * @return A future completed with the result; failed at once if the total or session capacity is reached.
+     */
+    @Override
+    public CompletableFuture<GameDTO> playAsync(String session, RPSMode mode, RPSPlayer.Move move1,
+                                                RPSPlayer.Move move2) {
+        try {
+            return playAsync(session, mode, move1, move2, 0);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    /**
+     * @brief Plays a round of a session, parking the caller while the queue is full.
+     * @param session The session the round belongs to.
+     * @param mode The game mode.
+     * @param move1 The first player's move.
+     * @param move2 The second player's move.
+     * @param maxWaitMillis Time the caller may be parked waiting for room, in milliseconds.
+     * @return A future completed with the result; failed if there was no room in time or the scheduler is closed.
+     * @throws InterruptedException If the caller is interrupted while parked.
+     */
+    public synchronized CompletableFuture<GameDTO> playAsync(String session, RPSMode mode, RPSPlayer.Move move1,
+                                                             RPSPlayer.Move move2, long maxWaitMillis)
+            throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(maxWaitMillis);
+        Session target = sessions.get(session);
+        while (!closed && (queuedCount >= capacity || (target != null && target.rounds.size() >= sessionCapacity))) {
+            long remainingMillis = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+            if (remainingMillis <= 0) {
+                return CompletableFuture.failedFuture(new IOException(target != null
+                        && target.rounds.size() >= sessionCapacity
+                        ? "Session " + session + " has " + sessionCapacity + " rounds queued"
+                        : "Round queue is full (" + capacity + " rounds)"));
+            }
+            wait(remainingMillis);
+            target = sessions.get(session);
+        }
+        if (closed) {
+            return CompletableFuture.failedFuture(new IOException("Round scheduler is closed"));
+        }
+
+        return enqueue(target, session, mode, move1, move2);
+    }
+
+    /**
+     * @brief Queues a round of a session; the caller has checked that there is room.
+     * @param target The session's queue, or null if the session has no queued rounds.
+     * @param session The session the round belongs to.
+     * @param mode The game mode.
+     * @param move1 The first player's move.
+     * @param move2 The second player's move.
+     * @return The future completed with the result.
+     */
+    private CompletableFuture<GameDTO> enqueue(Session target, String session, RPSMode mode, RPSPlayer.Move move1,
+                                               RPSPlayer.Move move2) {
+        if (target == null) {
+            target = new Session(session, weights.get(mode));
+            sessions.put(session, target);
+        }
+        if (target.rounds.isEmpty()) {
+            activeSessions.addLast(target);
+        }
+        ScheduledRound round = new ScheduledRound(new RoundDTO(mode, move1, move2), new CompletableFuture<>());
+        target.rounds.addLast(round);
+        queuedCount++;
+        notifyAll();
+        return round.future();
+    }
+
+    /**
+     * @brief Plays a round of a session if the queue has room for it.
+     * @param session The session the round belongs to.
+     * @param mode The game mode.
+     * @param move1 The first player's move.
+     * @param move2 The second player's move.
+     * @return A future completed with the result; failed if the scheduler is closed; null if the total or session
+     * capacity is reached, in which case room is made as queued rounds are handed to the backend.
+     */
+    @Override
+    public synchronized CompletableFuture<GameDTO> offerAsync(String session, RPSMode mode, RPSPlayer.Move move1,
+                                                              RPSPlayer.Move move2) {
+        if (closed) {
+            return CompletableFuture.failedFuture(new IOException("Round scheduler is closed"));
+        }
+        Session target = sessions.get(session);
+        if (queuedCount >= capacity || (target != null && target.rounds.size() >= sessionCapacity)) {
+            return null;
+        }
+        return enqueue(target, session, mode, move1, move2);
+    }
+
+    /**
+     * @brief Returns the number of queued rounds.
+     * @return The queue length.
+     */
+    public synchronized int queuedCount() {
+        return queuedCount;
+    }
+
+    /**
+     * @brief Stops dispatching and fails the queued rounds; the backend is left open.
+     */
+    @Override
+    public void close() {
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            CancellationException cancelled = new CancellationException("Round scheduler is closed");
+            for (Session session : activeSessions) {
+                for (ScheduledRound round : session.rounds) {
+                    round.future().completeExceptionally(cancelled);
+                }
+            }
+            activeSessions.clear();
+            sessions.clear();
+            queuedCount = 0;
+            notifyAll();
+        }
+        dispatcherThread.interrupt();
+    }
+
+    /**
+     * @brief Main loop of the dispatcher thread: hands the next fair round to the backend whenever the window has
+     * room.
+     */
+    private void runDispatcher() {
+        try {
+            while (true) {
+                ScheduledRound next;
+                synchronized (this) {
+                    while (!closed && (queuedCount == 0 || inFlightCount >= window)) {
+                        wait();
+                    }
+                    if (closed) {
+                        return;
+                    }
+                    next = nextRound();
+                    inFlightCount++;
+                    notifyAll();
+                }
+                dispatch(next);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * @brief Takes the next round in deficit round robin order.
+     * @return The round.
+     * @details The first active session starts a turn with a deficit of its weight and sends one round per unit.
+     * It goes to the back of the round robin when its deficit is used up and leaves it when it has no rounds left.
+     */
+    private ScheduledRound nextRound() {
+        Session session = activeSessions.peekFirst();
+        if (session.deficit == 0) {
+            session.deficit = session.weight;
+        }
+        ScheduledRound round = session.rounds.pollFirst();
+        session.deficit--;
+        queuedCount--;
+
+        if (session.rounds.isEmpty()) {
+            activeSessions.pollFirst();
+            sessions.remove(session.name);
+        } else if (session.deficit == 0) {
+            activeSessions.addLast(activeSessions.pollFirst());
+        }
+        return round;
+    }
+
+    /**
+     * @brief Hands a round to the backend and frees its window slot on completion.
+     * @param round The round.
+     */
+    private void dispatch(ScheduledRound round) {
+        CompletableFuture<GameDTO> result;
+        if (round.future().isDone()) {
+            result = CompletableFuture.completedFuture(null);
+        } else {
+            RoundDTO dto = round.round();
+            try {
+                result = backend.playAsync(dto.mode(), dto.player1Move(), dto.player2Move());
+            } catch (RuntimeException e) {
+                result = CompletableFuture.failedFuture(e);
+            }
+        }
+        result.whenComplete((gameResult, error) -> {
+            synchronized (this) {
+                inFlightCount--;
+                notifyAll();
+            }
+            if (error != null) {
+                round.future().completeExceptionally(error);
+            } else {
+                round.future().complete(gameResult);
+            }
+        });
+    }
+
+    /**
+     * @brief Queue and round robin state of one session.
+     */
+    private static final class Session {
+
+        /**
+         * @brief The session's name.
+         */
+        private final String name;
+
+        /**
+         * @brief Number of rounds the session may send per turn.
+         */
+        private final int weight;
+
+        /**
+         * @brief Queued rounds, oldest first.
+         */
+        private final Deque<ScheduledRound> rounds = new ArrayDeque<>();
+
+        /**
+         * @brief Rounds the session may still send in its current turn.
+         */
+        private int deficit;
+
+        Session(String name, int weight) {
+            this.name = name;
+            this.weight = weight;
+        }
+    }
+
+    /**
+     * @brief A queued round and the future returned to its producer.
+     * @param round The round.
+     * @param future The future completed with the result.
+     */
+    private record ScheduledRound(RoundDTO round, CompletableFuture<GameDTO> future) {
+    }
+}
@@ -1,24 +1,174 @@
 package com.example.RPS_client.controller;
 
 import com.example.RPS_client.DTO.GameDTO;
+import com.example.RPS_client.DTO.MultiGameDTO;
+import com.example.RPS_client.DTO.RoundDTO;
+import com.example.RPS_client.RPSGame.Outcome;
+import com.example.RPS_client.RPSGame.RPSMode;
 import com.example.RPS_client.RPSGame.RPSPlayer;
+import com.example.RPS_client.communication.BinaryProtocol;
 import com.example.RPS_client.communication.Communication;
+import com.example.RPS_client.communication.FrameDecoder;
+import com.example.RPS_client.communication.ReplayTransport;
+import com.example.RPS_client.communication.TextProtocol;
+import com.example.RPS_client.communication.Transport;
+import com.example.RPS_client.engine.RPSRules;
+import com.example.RPS_client.metrics.RPSMetrics;
 import com.fazecast.jSerialComm.SerialPort;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * @file GameController.java
  * @brief Handles communication and game logic for the Rock-Paper-Scissors (RPS) game.
  * @details Manages sending game modes and moves to the server and receiving results.
  */
-public class GameController {
+public class GameController implements RoundPlayer {
+
+    /**
+     * @brief Prefix of a batch frame carrying several rounds.
+     */
+    private static final String BATCH_PREFIX = "BATCH:";
+
+    /**
+     * @brief Maximum number of rounds the server accepts in one batch frame.
+     */
+    public static final int MAX_BATCH_ROUNDS = 16;
 
     /**
      * @brief The communication object used for serial communication.
      */
     private final Communication communication;
 
+    /**
+     * @brief Flag set once the server has agreed to use the binary protocol.
+     */
+    private boolean binaryProtocol;
+
+    /**
+     * @brief Reusable buffer for binary frames.
+     */
+    private final byte[] binaryFrame = new byte[MAX_BATCH_ROUNDS];
+
+    /**
+     * @brief Maximum number of asynchronous rounds written to the server before their results arrive.
+     * @details Kept small so pipelined requests fit into the firmware's 64-byte receive buffer.
+     */
+    public static final int MAX_IN_FLIGHT = 2;
+
+    /**
+     * @brief Delimiter terminating a text result.
+     */
+    private static final byte[] RESULT_DELIMITER = {'|'};
+
+    /**
+     * @brief Rounds submitted through playAsync and not yet written to the server.
+     */
+    private final BlockingQueue<PendingRound> submittedRounds = new LinkedBlockingQueue<>();
+
+    /**
+     * @brief Rounds written to the server and awaiting their results, oldest first.
+     */
+    private final Queue<PendingRound> inFlightRounds = new ConcurrentLinkedQueue<>();
+
+    /**
+     * @brief Permits bounding the number of in-flight rounds.
+     */
+    private final Semaphore inFlightWindow = new Semaphore(MAX_IN_FLIGHT);
+
+    /**
+     * @brief Counts in-flight rounds the reader thread has not started reading yet.
+     */
+    private final Semaphore expectedResults = new Semaphore(0);
+
+    /**
+     * @brief Failure that stopped the reader thread; later rounds fail immediately.
+     */
+    private volatile IOException linkFailure;
+
+    /**
+     * @brief Counter numbering asynchronous rounds in submission order, for error messages.
+     */
+    private final AtomicLong submissions = new AtomicLong();
+
+    /**
+     * @brief Reusable buffer receiving result frames on the reading thread.
+     */
+    private final byte[] resultFrame = new byte[FrameDecoder.DEFAULT_CAPACITY];
+
+    /**
+     * @brief Reusable buffer for text results received by receiveResult().
+     */
+    private final byte[] responseFrame = new byte[FrameDecoder.DEFAULT_CAPACITY];
+
+    /**
+     * @brief Thread writing asynchronous rounds, started on first use.
+     */
+    private Thread writerThread;
+
+    /**
+     * @brief Thread blocking on the input stream for results; not needed when the transport pushes data events.
+     */
+    private Thread readerThread;
+
+    /**
+     * @brief Flag set when the controller is closed.
+     */
+    private volatile boolean closed;
+
+    /**
+     * @brief Metrics receiving round latencies and parse failures.
+     */
+    private final RPSMetrics metrics = RPSMetrics.instance();
+
+    /**
+     * @brief Mode of the round last sent through sendModeAndMoves, or null once its result was received.
+     */
+    private RPSMode lastSentMode;
+
+    /**
+     * @brief Time the round last sent through sendModeAndMoves was written, from System.nanoTime().
+     */
+    private long lastSentNanos;
+
+    /**
+     * @brief Every how many locally resolved rounds one is verified on the server, or 0 if rounds are not
+     *        resolved locally.
+     */
+    private volatile int verificationInterval;
+
+    /**
+     * @brief Flag set when results come from a replayed capture instead of a server answering the rounds sent.
+     */
+    private volatile boolean replaying;
+
+    /**
+     * @brief Number of locally resolved rounds, used to pick the rounds to verify.
+     */
+    private final AtomicLong localRounds = new AtomicLong();
+
+    /**
+     * @brief Result of the last round given to sendModeAndMoves if it was resolved locally and not sent.
+     */
+    private GameDTO localResult;
+
+    /**
+     * @brief Local result of the last round sent through sendModeAndMoves for verification, or null.
+     */
+    private GameDTO expectedResult;
+
     /**
      * @brief Constructor to initialize the game controller with a specific serial port.
      * @param portNumber The index of the serial port to use for communication.
@@ -28,6 +178,118 @@ public class GameController {
         communication = new Communication(SerialPort.getCommPorts()[portNumber]);
     }
 
+    /**
+     * @brief Constructor to initialize the game controller with a named serial port.
+     * @param portDescriptor The system name or path of the serial port, e.g. "COM3" or "/dev/ttyACM0".
+     * @details Opens the port directly instead of enumerating all ports of the host.
+     */
+    public GameController(String portDescriptor) {
+        communication = new Communication(SerialPort.getCommPort(portDescriptor));
+    }
+
+    /**
+     * @brief Constructor to initialize the game controller over an arbitrary transport.
+     * @param transport The transport to the server, e.g. a serial port or an RPSServerEmulator.
+     */
+    public GameController(Transport transport) {
+        this(new Communication(transport));
+    }
+
+    /**
+     * @brief Constructor to initialize the game controller with an existing communication object.
+     * @param communication The communication object to use.
+     */
+    public GameController(Communication communication) {
+        this.communication = communication;
+    }
+
+    /**
+     * @brief Opens a game controller replaying a capture written by CaptureTransport.
+     * @param captureFile The capture file to replay.
+     * @param pace The speed at which the captured responses are released.
+     * @return A controller in replay mode, see setReplaying().
+     * @throws IOException If the file cannot be opened or is not a capture.
+     * @details A replay answers with the recorded results regardless of the rounds sent, so it should be played
+     * directly rather than behind a LinkSupervisor, whose heartbeats would consume recorded results and whose
+     * round timeout does not apply to the recorded pace.
+     */
+    public static GameController replay(Path captureFile, ReplayTransport.Pace pace) throws IOException {
+        GameController controller = new GameController(new ReplayTransport(captureFile, pace));
+        controller.setReplaying(true);
+        return controller;
+    }
+
+    /**
+     * @brief Negotiates the compact binary protocol with the server.
+     * @return True if the binary protocol is now used, false if the server only supports text.
+     * @throws IOException If an error occurs during the handshake.
+     */
+    public boolean enableBinaryProtocol() throws IOException {
+        binaryProtocol = communication.negotiateBinary();
+        return binaryProtocol;
+    }
+
+    /**
+     * @brief Treats incoming results as a replayed capture rather than as answers to the rounds sent.
+     * @param replaying True if the transport replays a capture, e.g. a ReplayTransport.
+     * @details A capture holds the answers to the rounds played while it was recorded, so their moves generally
+     * differ from the rounds played now. While replaying, asynchronous results are assigned to the rounds in order
+     * without checking the moves, and the handshake replies of heartbeats recorded in the capture are skipped.
+     */
+    public void setReplaying(boolean replaying) {
+        this.replaying = replaying;
+    }
+
+    /**
+     * @brief Tells whether rounds are exchanged in the binary protocol.
+     * @return True if the binary protocol was negotiated.
+     */
+    public boolean isBinaryProtocol() {
+        return binaryProtocol;
+    }
+
+    /**
+     * @brief Resolves MAN_VS_MAN rounds on the client instead of waiting for the server.
+     * @param verificationInterval 0 to send every round to the server (the default), or N to resolve rounds
+     *                             locally and still play every Nth of them on the server to check that it agrees.
+     * @throws IllegalArgumentException If the interval is negative.
+     * @details A MAN_VS_MAN result depends only on the two moves, so it is looked up in RPSRules and returned at
+     * once, without the serial round trip and the firmware's delay. Asynchronous rounds that are verified are
+     * still completed with the local result; blocking rounds that are verified wait for the server and return
+     * its result. Verified rounds and mismatches are counted in RPSMetrics. Modes involving the server's AI
+     * always go to the server.
+     */
+    public void setLocalResolution(int verificationInterval) {
+        if (verificationInterval < 0) {
+            throw new IllegalArgumentException("Negative verification interval: " + verificationInterval);
+        }
+        this.verificationInterval = verificationInterval;
+    }
+
+    /**
+     * @brief Resolves a round locally if local resolution is enabled for its mode.
+     * @param mode The game mode.
+     * @param move1 The first player's move.
+     * @param move2 The second player's move.
+     * @return The shared result instance, or null if the round must be played on the server.
+     */
+    private GameDTO resolveLocally(RPSMode mode, RPSPlayer.Move move1, RPSPlayer.Move move2) {
+        if (verificationInterval == 0 || mode != RPSMode.MAN_VS_MAN) {
+            return null;
+        }
+        metrics.recordLocalRound();
+        return GameDTO.of(Outcome.fromRulesCode(RPSRules.outcome(move1, move2)), move1, move2);
+    }
+
+    /**
+     * @brief Tells whether the next locally resolved round is to be verified on the server.
+     * @return True for the first round and every verificationInterval-th one after it.
+     */
+    private boolean sampleForVerification() {
+        int interval = verificationInterval;
+        return interval > 0 && (localRounds.getAndIncrement() % interval) == 0;
+    }
+
     /**
      * @brief Sends the game mode and moves to the server.
      * @param mode The game mode as a string.
@@ -35,9 +297,121 @@ public class GameController {
      * @param move2 The second player's move.
      * @throws IOException If an error occurs during message transmission.
      * @details Formats the message as "mode,move1,move2" and sends it via the communication object.
+     * In binary mode the round is sent as a single byte instead. With local resolution enabled, a MAN_VS_MAN round
+     * that is not sampled for verification is not sent at all and its result is returned by receiveResult().
+     * An unknown mode is played as MAN_VS_MAN, as the firmware does.
      */
     public void sendModeAndMoves(String mode, RPSPlayer.Move move1, RPSPlayer.Move move2) throws IOException {
-        communication.sendMessage(mode + "," + move1.name() + "," + move2.name() + "\n");
+        RPSMode sentMode = parseMode(mode);
+        GameDTO local = resolveLocally(sentMode, move1, move2);
+        if (local != null && !sampleForVerification()) {
+            localResult = local;
+            return;
+        }
+
+        expectedResult = local;
+        lastSentMode = sentMode;
+        lastSentNanos = System.nanoTime();
+        writeRound(sentMode, move1, move2);
+    }
+
+    /**
+     * @brief Converts a mode string, defaulting to MAN_VS_MAN like the firmware.
+     * @param mode The game mode as a string.
+     * @return The corresponding game mode.
+     */
+    private static RPSMode parseMode(String mode) {
+        for (RPSMode candidate : RPSMode.values()) {
+            if (candidate.name().equals(mode)) {
+                return candidate;
+            }
+        }
+        return RPSMode.MAN_VS_MAN;
+    }
+
+    /**
+     * @brief Writes one round in the negotiated protocol.
+     * @param mode The game mode.
+     * @param move1 The first player's move.
+     * @param move2 The second player's move.
+     * @throws IOException If an error occurs during message transmission.
+     */
+    private void writeRound(RPSMode mode, RPSPlayer.Move move1, RPSPlayer.Move move2) throws IOException {
+        if (binaryProtocol) {
+            binaryFrame[0] = BinaryProtocol.encodeRequest(mode, move1, move2);
+            communication.sendBytes(binaryFrame, 0, 1);
+            return;
+        }
+        communication.sendMessage(mode.name() + "," + move1.name() + "," + move2.name() + "\n");
+    }
+
+    /**
+     * @brief Plays several rounds using batch frames.
+     * @param rounds The rounds to play.
+     * @return The results, in the same order as the rounds.
+     * @throws IOException If an error occurs during message transmission.
+     * @details Sends up to MAX_BATCH_ROUNDS rounds per frame as "BATCH:mode,move1,move2;mode,move1,move2\n"
+     * and reads one "|"-terminated result per round, so a whole frame costs a single server round trip.
+     * Requires firmware with batch support; single-round frames remain available for older firmware.
+     * In binary mode a frame is simply one byte per round in each direction.
+     */
+    public List<GameDTO> playBatch(List<RoundDTO> rounds) throws IOException {
+        List<GameDTO> results = new ArrayList<>(rounds.size());
+        if (binaryProtocol) {
+            playBinaryBatch(rounds, results);
+            return results;
+        }
+        StringBuilder frame = new StringBuilder(BATCH_PREFIX.length() + MAX_BATCH_ROUNDS * 32);
+
+        for (int start = 0; start < rounds.size(); start += MAX_BATCH_ROUNDS) {
+            int end = Math.min(start + MAX_BATCH_ROUNDS, rounds.size());
+
+            frame.setLength(0);
+            frame.append(BATCH_PREFIX);
+            for (int i = start; i < end; i++) {
+                RoundDTO round = rounds.get(i);
+                if (i > start) {
+                    frame.append(';');
+                }
+                frame.append(round.mode().name()).append(',')
+                        .append(round.player1Move().name()).append(',')
+                        .append(round.player2Move().name());
+            }
+            long sentNanos = System.nanoTime();
+            communication.sendMessage(frame.append('\n').toString());
+
+            for (int i = start; i < end; i++) {
+                results.add(receiveResult());
+                metrics.recordRound(rounds.get(i).mode(), System.nanoTime() - sentNanos);
+            }
+        }
+        return results;
+    }
+
+    /**
+     * @brief Plays a batch of rounds in the binary protocol.
+     * @param rounds The rounds to play.
+     * @param results The list receiving the results.
+     * @throws IOException If an error occurs during message transmission.
+     */
+    private void playBinaryBatch(List<RoundDTO> rounds, List<GameDTO> results) throws IOException {
+        for (int start = 0; start < rounds.size(); start += MAX_BATCH_ROUNDS) {
+            int count = Math.min(MAX_BATCH_ROUNDS, rounds.size() - start);
+
+            for (int i = 0; i < count; i++) {
+                RoundDTO round = rounds.get(start + i);
+                binaryFrame[i] = BinaryProtocol.encodeRequest(round.mode(), round.player1Move(), round.player2Move());
+            }
+            long sentNanos = System.nanoTime();
+            communication.sendBytes(binaryFrame, 0, count);
+
+            communication.receiveBytes(binaryFrame, count);
+            long latencyNanos = System.nanoTime() - sentNanos;
+            for (int i = 0; i < count; i++) {
+                results.add(decodeResult(binaryFrame[i]));
+                metrics.recordRound(rounds.get(start + i).mode(), latencyNanos);
+            }
+        }
     }
 
     /**
@@ -45,25 +419,442 @@ public class GameController {
      * @return A GameDTO object containing the game mode and moves.
      * @throws RuntimeException If an error occurs during message reception.
      * @details Waits for the server response until the "|" delimiter and parses it to create a GameDTO object.
+     * In binary mode a single result byte is read and decoded instead.
      */
     public GameDTO receiveResult() {
-        String rawResponse;
+        if (localResult != null) {
+            GameDTO result = localResult;
+            localResult = null;
+            return result;
+        }
+
+        GameDTO result;
+        if (binaryProtocol) {
+            try {
+                communication.receiveBytes(binaryFrame, 1);
+            } catch (IOException e) {
+                throw new RuntimeException("Failed to receive a message from server: " + e);
+            }
+            result = decodeResult(binaryFrame[0]);
+        } else {
+            int length;
+            try {
+                length = communication.receiveFrameUntil(RESULT_DELIMITER, responseFrame);
+            } catch (IOException e) {
+                throw new RuntimeException("Failed to receive a message from server: " + e);
+            }
+            result = parseResult(responseFrame, length);
+        }
+
+        if (lastSentMode != null) {
+            metrics.recordRound(lastSentMode, System.nanoTime() - lastSentNanos);
+            lastSentMode = null;
+        }
+        if (expectedResult != null) {
+            metrics.recordVerification(result.equals(expectedResult));
+            expectedResult = null;
+        }
+        return result;
+    }
+
+    /**
+     * @brief Plays a round in which any number of players throw at once.
+     * @param moves The move of each player, at most TextProtocol.MAX_MULTI_PLAYERS.
+     * @return The winners and the move counts.
+     * @throws IOException If an error occurs during communication.
+     * @throws IllegalArgumentException If the player count is out of range or the response is malformed.
+     * @details The whole round is sent as a single "MULTI:" frame with two bits per move and answered with a single
+     * frame. The server counts the moves instead of comparing every pair, so the round takes one round trip
+     * whatever the number of players. Requires a server with multi-player support, such as RPSServerEmulator;
+     * like the other blocking methods, it must not be mixed with asynchronous rounds.
+     */
+    public MultiGameDTO playMulti(RPSPlayer.Move[] moves) throws IOException {
+        communication.sendMessage(TextProtocol.encodeMultiRequest(moves));
+        int length = communication.receiveFrameUntil(RESULT_DELIMITER, responseFrame);
+        MultiGameDTO result;
+        try {
+            result = TextProtocol.parseMultiResult(responseFrame, 0, length);
+        } catch (IllegalArgumentException e) {
+            metrics.recordParseFailure();
+            throw e;
+        }
+        if (result.players() != moves.length) {
+            metrics.recordParseFailure();
+            throw new IOException("Result of " + result.players() + " players does not match " + moves.length
+                    + " moves sent");
+        }
+        return result;
+    }
+
+    /**
+     * @brief Parses a text result, counting responses that cannot be parsed.
+     * @param frame The array holding the result without the delimiter, as "RESULT,MOVE1,MOVE2".
+     * @param length The length of the result.
+     * @return The shared result instance.
+     * @throws IllegalArgumentException If the response is not a valid result.
+     */
+    private GameDTO parseResult(byte[] frame, int length) {
         try {
-            rawResponse = communication.receiveMessageUntil("|");
-        } catch (IOException e) {
-            throw new RuntimeException("Failed to receive a message from server: " + e);
+            return TextProtocol.parseResult(frame, 0, length);
+        } catch (IllegalArgumentException e) {
+            metrics.recordParseFailure();
+            throw e;
+        }
+    }
+
+    /**
+     * @brief Decodes a binary result, counting bytes that are not valid results.
+     * @param response The result byte.
+     * @return The decoded result.
+     * @throws IllegalArgumentException If the byte is not a binary result.
+     */
+    private GameDTO decodeResult(byte response) {
+        try {
+            return BinaryProtocol.decodeResult(response);
+        } catch (IllegalArgumentException e) {
+            metrics.recordParseFailure();
+            throw e;
+        }
+    }
+
+    /**
+     * @brief Plays a round without blocking the caller.
+     * @param mode The game mode.
+     * @param move1 The first player's move.
+     * @param move2 The second player's move.
+     * @return A future completed with the result; failed with an IllegalArgumentException if the mode or a move is
+     * missing.
+     * @details Rounds are written in submission order by a dedicated I/O thread; up to MAX_IN_FLIGHT rounds may
+     * await their results at once. Frames carry no round identifier, but the server answers strictly in order, so
+     * each result is assigned to the oldest outstanding round and checked against the moves that were sent; a
+     * result that does not match fails the round with an IllegalStateException.
+     * If the transport supports data events, results are decoded and completed directly on the transport's
+     * event thread; otherwise a reader thread blocks on the input stream.
+     * The blocking methods must not be used on the same controller once asynchronous rounds were played.
+     * Rounds resolved locally (see setLocalResolution()) are completed before this method returns.
+     */
+    @Override
+    public CompletableFuture<GameDTO> playAsync(RPSMode mode, RPSPlayer.Move move1, RPSPlayer.Move move2) {
+        if (mode == null || move1 == null || move2 == null) {
+            return CompletableFuture.failedFuture(new IllegalArgumentException("Incomplete round: mode " + mode
+                    + ", moves " + move1 + " and " + move2));
+        }
+
+        GameDTO local = resolveLocally(mode, move1, move2);
+        if (local == null) {
+            return submit(mode, move1, move2);
+        }
+
+        if (sampleForVerification()) {
+            submit(mode, move1, move2).whenComplete((result, error) -> {
+                if (error == null) {
+                    metrics.recordVerification(result.equals(local));
+                }
+            });
         }
-        String[] responseData = rawResponse.split(",");
+        return CompletableFuture.completedFuture(local);
+    }
 
-        return new GameDTO(responseData[0], RPSPlayer.Move.valueOf(responseData[1]), RPSPlayer.Move.valueOf(responseData[2]));
+    /**
+     * @brief Sends the binary protocol handshake through the asynchronous pipeline, as a liveness probe.
+     * @return A future completed once the server has answered.
+     * @details The handshake is queued behind the rounds already submitted and answered by the firmware without
+     * its post-response delay, so it checks that the device is alive without costing a round's worth of time.
+     * Any complete reply counts, since only liveness matters; the negotiated protocol stays unchanged.
+     */
+    public CompletableFuture<Void> pingAsync() {
+        return enqueue(new PendingRound(submissions.incrementAndGet(), null, new CompletableFuture<>(),
+                System.nanoTime())).thenAccept(ignored -> { });
+    }
+
+    /**
+     * @brief Queues a round for the writer thread.
+     * @param mode The game mode.
+     * @param move1 The first player's move.
+     * @param move2 The second player's move.
+     * @return A future completed with the server's result.
+     */
+    private CompletableFuture<GameDTO> submit(RPSMode mode, RPSPlayer.Move move1, RPSPlayer.Move move2) {
+        return enqueue(new PendingRound(submissions.incrementAndGet(), new RoundDTO(mode, move1, move2),
+                new CompletableFuture<>(), System.nanoTime()));
+    }
+
+    /**
+     * @brief Hands a round or handshake to the writer thread.
+     * @param round The pending round.
+     * @return The round's future.
+     */
+    private CompletableFuture<GameDTO> enqueue(PendingRound round) {
+        if (closed) {
+            round.future().completeExceptionally(new IOException("Game controller is closed"));
+            return round.future();
+        }
+
+        startIoThreads();
+        submittedRounds.add(round);
+        if (closed) {
+            failAll(submittedRounds, new CancellationException("Game controller is closed"));
+        }
+        return round.future();
+    }
+
+    /**
+     * @brief Starts the writer thread and, unless data events are available, the reader thread.
+     */
+    private synchronized void startIoThreads() {
+        if (writerThread != null) {
+            return;
+        }
+
+        if (!communication.startListening(this::onDataAvailable)) {
+            readerThread = new Thread(this::runReaderLoop, "rps-io-reader");
+            readerThread.setDaemon(true);
+            readerThread.start();
+        }
+
+        writerThread = new Thread(this::runWriterLoop, "rps-io");
+        writerThread.setDaemon(true);
+        writerThread.start();
+    }
+
+    /**
+     * @brief Main loop of the writer thread.
+     * @details Writes submitted rounds in order while the in-flight window has room.
+     */
+    private void runWriterLoop() {
+        try {
+            while (!closed) {
+                PendingRound next = submittedRounds.take();
+                if (linkFailure != null) {
+                    next.future().completeExceptionally(linkFailure);
+                    continue;
+                }
+                inFlightWindow.acquire();
+                inFlightRounds.add(next);
+                if (readerThread != null) {
+                    expectedResults.release();
+                }
+
+                try {
+                    RoundDTO round = next.round();
+                    if (round == null) {
+                        communication.sendMessage(BinaryProtocol.HANDSHAKE_REQUEST);
+                    } else {
+                        writeRound(round.mode(), round.player1Move(), round.player2Move());
+                    }
+                } catch (IOException | RuntimeException e) {
+                    if (inFlightRounds.remove(next)) {
+                        if (readerThread != null) {
+                            expectedResults.tryAcquire();
+                        }
+                        inFlightWindow.release();
+                        next.future().completeExceptionally(e);
+                    }
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        CancellationException cancelled = new CancellationException("Game controller is closed");
+        failAll(inFlightRounds, cancelled);
+        failAll(submittedRounds, cancelled);
+    }
+
+    /**
+     * @brief Main loop of the reader thread, used when the transport has no data events.
+     * @details Reads one result per round the writer put in flight. If the connection fails, the outstanding rounds
+     * and every later round fail with the same error.
+     */
+    private void runReaderLoop() {
+        while (!closed) {
+            GameDTO result;
+            try {
+                expectedResults.acquire();
+                if (isHandshakeNext()) {
+                    communication.receiveFrameUntil(RESULT_DELIMITER, resultFrame);
+                    completeOldest(null, null);
+                    continue;
+                }
+                result = readResult();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (IOException e) {
+                linkFailure = e;
+                failAll(inFlightRounds, e);
+                return;
+            } catch (RuntimeException e) {
+                completeOldest(null, e);
+                continue;
+            }
+            completeOldest(result, null);
+        }
+    }
+
+    /**
+     * @brief Data event handler: completes every round whose result has fully arrived.
+     */
+    private void onDataAvailable() {
+        while (!inFlightRounds.isEmpty()) {
+            GameDTO result;
+            try {
+                if (isHandshakeNext()) {
+                    if (communication.pollFrame(RESULT_DELIMITER, resultFrame) < 0) {
+                        return;
+                    }
+                    completeOldest(null, null);
+                    continue;
+                }
+                result = pollResult();
+                if (result == null) {
+                    return;
+                }
+            } catch (IOException | RuntimeException e) {
+                completeOldest(null, e);
+                continue;
+            }
+            completeOldest(result, null);
+        }
+    }
+
+    /**
+     * @brief Checks whether the oldest in-flight entry is a handshake rather than a round.
+     * @return True if the next reply answers a handshake.
+     */
+    private boolean isHandshakeNext() {
+        PendingRound oldest = inFlightRounds.peek();
+        return oldest != null && oldest.round() == null;
+    }
+
+    /**
+     * @brief Completes the oldest in-flight round and frees its window slot.
+     * @param result The received result, or null if receiving failed or the oldest entry is a handshake.
+     * @param error The failure, or null on success.
+     */
+    private void completeOldest(GameDTO result, Throwable error) {
+        PendingRound oldest = inFlightRounds.poll();
+        if (oldest == null) {
+            return;
+        }
+        inFlightWindow.release();
+
+        if (error != null) {
+            oldest.future().completeExceptionally(error);
+        } else if (oldest.round() == null) {
+            oldest.future().complete(null);
+        } else {
+            metrics.recordRound(oldest.round().mode(), System.nanoTime() - oldest.submittedNanos());
+            oldest.complete(result, !replaying);
+        }
+    }
+
+    /**
+     * @brief Blocks until the next result has been received.
+     * @return The result.
+     * @throws IOException If the connection fails.
+     */
+    private GameDTO readResult() throws IOException {
+        if (binaryProtocol) {
+            communication.receiveBytes(resultFrame, 1);
+            return decodeResult(resultFrame[0]);
+        }
+        int length = communication.receiveFrameUntil(RESULT_DELIMITER, resultFrame);
+        while (replaying && isHandshakeResponse(length)) {
+            length = communication.receiveFrameUntil(RESULT_DELIMITER, resultFrame);
+        }
+        return parseResult(resultFrame, length);
+    }
+
+    /**
+     * @brief Takes the next result if it has fully arrived, without blocking.
+     * @return The result, or null if it is still incomplete.
+     * @throws IOException If the frame is too large.
+     */
+    private GameDTO pollResult() throws IOException {
+        if (binaryProtocol) {
+            return communication.pollBytes(resultFrame, 1) ? decodeResult(resultFrame[0]) : null;
+        }
+        int length = communication.pollFrame(RESULT_DELIMITER, resultFrame);
+        while (length >= 0 && replaying && isHandshakeResponse(length)) {
+            length = communication.pollFrame(RESULT_DELIMITER, resultFrame);
+        }
+        return length < 0 ? null : parseResult(resultFrame, length);
+    }
+
+    /**
+     * @brief Checks whether the frame in the result buffer answers a handshake.
+     * @param length Length of the frame without its delimiter.
+     * @return True for the handshake response.
+     */
+    private boolean isHandshakeResponse(int length) {
+        return length <= BinaryProtocol.HANDSHAKE_RESPONSE.length() + 2 && BinaryProtocol.HANDSHAKE_RESPONSE.equals(
+                new String(resultFrame, 0, length, StandardCharsets.US_ASCII).trim());
+    }
+
+    /**
+     * @brief Fails and removes every round of a queue.
+     * @param rounds The rounds to fail.
+     * @param cause The failure cause.
+     */
+    private static void failAll(Queue<PendingRound> rounds, Throwable cause) {
+        PendingRound round;
+        while ((round = rounds.poll()) != null) {
+            round.future().completeExceptionally(cause);
+        }
     }
 
     /**
      * @brief Closes the communication object.
-     * @details Ensures that the serial port and related resources are properly released.
+     * @details Ensures that the serial port and related resources are properly released and fails asynchronous
+     * rounds that are still outstanding.
      */
     public void close() {
+        closed = true;
+        synchronized (this) {
+            if (writerThread != null) {
+                writerThread.interrupt();
+            }
+            if (readerThread != null) {
+                readerThread.interrupt();
+            }
+        }
         communication.close();
+
+        CancellationException cancelled = new CancellationException("Game controller is closed");
+        failAll(inFlightRounds, cancelled);
+        failAll(submittedRounds, cancelled);
+    }
+
+    /**
+     * @brief An asynchronous round awaiting its result.
+     * @param submissionNumber Local number of the round in submission order; it is not sent to the server and only
+     *                         identifies the round in error messages.
+     * @param round The submitted round, or null for a handshake sent by pingAsync().
+     * @param future The future completed with the result.
+     * @param submittedNanos Time of submission from System.nanoTime(), the start of the measured round trip.
+     */
+    private record PendingRound(long submissionNumber, RoundDTO round, CompletableFuture<GameDTO> future,
+                                long submittedNanos) {
+
+        /**
+         * @brief Completes the round after checking that the result belongs to it.
+         * @param result The result received from the server.
+         * @param checkMoves False to accept the result without comparing its moves, e.g. while replaying.
+         */
+        void complete(GameDTO result, boolean checkMoves) {
+            boolean move1Matches = !checkMoves || round.mode() == RPSMode.AI_VS_AI
+                    || result.player1Move() == round.player1Move();
+            boolean move2Matches = !checkMoves || round.mode() != RPSMode.MAN_VS_MAN
+                    || result.player2Move() == round.player2Move();
+
+            if (move1Matches && move2Matches) {
+                future.complete(result);
+            } else {
+                future.completeExceptionally(new IllegalStateException("Result " + result
+                        + " does not match round #" + submissionNumber + " " + round));
+            }
+        }
     }
 }
 
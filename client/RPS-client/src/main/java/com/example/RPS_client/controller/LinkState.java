@@ -0,0 +1,16 @@
+package com.example.RPS_client.controller;
+
+/**
+ * @brief Health of the supervised link to the RPS server.
+ * @details The available states are:
+ *          - CONNECTING: a connection attempt is in progress.
+ *          - UP: the server answers rounds and heartbeats.
+ *          - DEGRADED: a heartbeat went unanswered; the link is kept until the next one.
+ *          - DOWN: the connection was lost or could not be made; the next attempt waits for the backoff delay.
+ */
+public enum LinkState {
+    CONNECTING,
+    UP,
+    DEGRADED,
+    DOWN
+}
@@ -0,0 +1,584 @@
+package com.example.RPS_client.controller;
+
+import com.example.RPS_client.DTO.GameDTO;
+import com.example.RPS_client.DTO.RoundDTO;
+import com.example.RPS_client.RPSGame.RPSMode;
+import com.example.RPS_client.RPSGame.RPSPlayer;
+import com.example.RPS_client.metrics.RPSMetrics;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Consumer;
+
+/**
+ * @file LinkSupervisor.java
+ * @brief Keeps a game controller connected to the RPS server and replays rounds across reconnects.
+ * @details A supervisor thread opens a game controller through the connector. If that fails, it retries with
+ *          exponentially growing delays. While the link is idle, the binary protocol handshake is sent every
+ *          heartbeat interval as a heartbeat; the firmware answers it without its post-response delay. A round that
+ *          fails with an I/O error or times out, or two missed heartbeats in a row, mark the link DOWN. The
+ *          controller is then closed and a new one is opened. Rounds that were submitted and not yet answered are
+ *          kept in a bounded queue and replayed in order once the link is back. Rounds have no state on the server,
+ *          so replaying a round that was already played is harmless. A round is replayed at most MAX_REPLAYS times.
+ *          A round rejected for its own sake, e.g. for an invalid move, only fails its future and keeps the link
+ *          up. Rounds are answered one after another, each after the previous round's post-response delay, so a
+ *          round's timeout only starts once it is the oldest unanswered round.
+ *          Futures may be completed while the supervisor's lock is held, so their callbacks must not block.
+ */
+public class LinkSupervisor implements RoundPlayer, AutoCloseable {
+
+    /**
+     * @brief Default delay before the first reconnect attempt, in milliseconds.
+     */
+    public static final long DEFAULT_INITIAL_BACKOFF_MILLIS = 250;
+
+    /**
+     * @brief Default upper bound of the reconnect delay, in milliseconds.
+     */
+    public static final long DEFAULT_MAX_BACKOFF_MILLIS = 8000;
+
+    /**
+     * @brief Default idle time after which a heartbeat is sent, in milliseconds.
+     */
+    public static final long DEFAULT_HEARTBEAT_INTERVAL_MILLIS = 2000;
+
+    /**
+     * @brief Default time a round or heartbeat may take before the link is suspected, in milliseconds.
+     * @details Must exceed the firmware's 2-second post-response delay.
+     */
+    public static final long DEFAULT_ROUND_TIMEOUT_MILLIS = 3000;
+
+    /**
+     * @brief Default maximum number of rounds queued or awaiting their results.
+     */
+    public static final int DEFAULT_QUEUE_CAPACITY = 256;
+
+    /**
+     * @brief Maximum number of times a round is replayed after link failures.
+     */
+    public static final int MAX_REPLAYS = 3;
+
+    /**
+     * @brief Number of consecutive missed heartbeats that take the link down.
+     */
+    private static final int MISSED_HEARTBEATS_DOWN = 2;
+
+    /**
+     * @brief Opens a new game controller.
+     */
+    private final Callable<GameController> connector;
+
+    /**
+     * @brief Delay before the first reconnect attempt, in milliseconds.
+     */
+    private final long initialBackoffMillis;
+
+    /**
+     * @brief Upper bound of the reconnect delay, in milliseconds.
+     */
+    private final long maxBackoffMillis;
+
+    /**
+     * @brief Idle time after which a heartbeat is sent, in milliseconds.
+     */
+    private final long heartbeatIntervalMillis;
+
+    /**
+     * @brief Time a round or heartbeat may take once it is the oldest unanswered one, in milliseconds.
+     */
+    private final long roundTimeoutMillis;
+
+    /**
+     * @brief Maximum number of rounds queued or awaiting their results.
+     */
+    private final int queueCapacity;
+
+    /**
+     * @brief Rounds waiting for a link, oldest first.
+     */
+    private final Deque<SupervisedRound> queuedRounds = new ArrayDeque<>();
+
+    /**
+     * @brief Rounds handed to the current controller and awaiting their results, oldest first.
+     */
+    private final Deque<SupervisedRound> outstandingRounds = new ArrayDeque<>();
+
+    /**
+     * @brief Thread connecting, watching and reconnecting the link.
+     */
+    private final Thread supervisorThread;
+
+    /**
+     * @brief Notified of every state change.
+     */
+    private Consumer<LinkState> stateListener = state -> { };
+
+    /**
+     * @brief The connected controller, or null while the link is not up.
+     */
+    private GameController controller;
+
+    /**
+     * @brief Incremented on every connect and link loss, so callbacks of an old link are ignored.
+     */
+    private long generation;
+
+    /**
+     * @brief Current state of the link.
+     */
+    private LinkState state = LinkState.CONNECTING;
+
+    /**
+     * @brief Number of consecutive heartbeats that went unanswered.
+     */
+    private int missedHeartbeats;
+
+    /**
+     * @brief Flag set while a heartbeat awaits its answer.
+     */
+    private boolean heartbeatPending;
+
+    /**
+     * @brief Time of the last round, heartbeat or result, from System.nanoTime().
+     */
+    private long lastActivityNanos;
+
+    /**
+     * @brief Time the oldest outstanding round became the oldest, from System.nanoTime(); its timeout starts here.
+     */
+    private long headSinceNanos;
+
+    /**
+     * @brief Flag set once a link has been up, so later connects count as reconnects.
+     */
+    private boolean everConnected;
+
+    /**
+     * @brief Metrics receiving the reconnect count.
+     */
+    private final RPSMetrics metrics = RPSMetrics.instance();
+
+    /**
+     * @brief Flag set when the supervisor is closed.
+     */
+    private boolean closed;
+
+    /**
+     * @brief Creates a supervisor with the default timings and queue capacity.
+     * @param connector Opens a new game controller, e.g. GameController::new bound to a port.
+     */
+    public LinkSupervisor(Callable<GameController> connector) {
+        this(connector, DEFAULT_INITIAL_BACKOFF_MILLIS, DEFAULT_MAX_BACKOFF_MILLIS, DEFAULT_HEARTBEAT_INTERVAL_MILLIS,
+                DEFAULT_ROUND_TIMEOUT_MILLIS, DEFAULT_QUEUE_CAPACITY);
+    }
+
+    /**
+     * @brief Creates a supervisor.
+     * @param connector Opens a new game controller.
+     * @param initialBackoffMillis Delay before the first reconnect attempt, in milliseconds.
+     * @param maxBackoffMillis Upper bound of the reconnect delay, in milliseconds.
+     * @param heartbeatIntervalMillis Idle time after which a heartbeat is sent, in milliseconds.
+     * @param roundTimeoutMillis Time a round or heartbeat may take once it is the oldest unanswered one, in
+     *                           milliseconds.
+     * @param queueCapacity Maximum number of rounds queued or awaiting their results.
+     */
+    public LinkSupervisor(Callable<GameController> connector, long initialBackoffMillis, long maxBackoffMillis,
+                          long heartbeatIntervalMillis, long roundTimeoutMillis, int queueCapacity) {
+        this.connector = connector;
+        this.initialBackoffMillis = initialBackoffMillis;
+        this.maxBackoffMillis = maxBackoffMillis;
+        this.heartbeatIntervalMillis = heartbeatIntervalMillis;
+        this.roundTimeoutMillis = roundTimeoutMillis;
+        this.queueCapacity = queueCapacity;
+        supervisorThread = new Thread(this::runSupervisor, "rps-link-supervisor");
+        supervisorThread.setDaemon(true);
+    }
+
+    /**
+     * @brief Starts connecting in the background.
+     */
+    public void start() {
+        supervisorThread.start();
+    }
+
+    /**
+     * @brief Sets the listener notified of state changes.
+     * @param listener Receives each new state; invoked with the supervisor's lock held, so it must not block.
+     */
+    public synchronized void setStateListener(Consumer<LinkState> listener) {
+        stateListener = listener;
+    }
+
+    /**
+     * @brief Returns the current state of the link.
+     * @return The link state.
+     */
+    public synchronized LinkState state() {
+        return state;
+    }
+
+    /**
+     * @brief Plays a round as soon as the link is up.
+     * @param mode The game mode.
+     * @param move1 The first player's move.
+     * @param move2 The second player's move.
+     * @return A future completed with the result; failed if the queue is full, the round was replayed too often
+     * or the supervisor is closed. A round whose future was completed by the caller, e.g. by a timeout, is dropped.
+     */
+    @Override
+    public synchronized CompletableFuture<GameDTO> playAsync(RPSMode mode, RPSPlayer.Move move1, RPSPlayer.Move move2) {
+        CompletableFuture<GameDTO> future = new CompletableFuture<>();
+        if (closed) {
+            future.completeExceptionally(new IOException("Link supervisor is closed"));
+        } else if (queuedRounds.size() + outstandingRounds.size() >= queueCapacity) {
+            future.completeExceptionally(new IOException("Round queue is full (" + queueCapacity + " rounds)"));
+        } else {
+            queuedRounds.add(new SupervisedRound(new RoundDTO(mode, move1, move2), future));
+            if (controller != null) {
+                dispatchQueued();
+            }
+        }
+        return future;
+    }
+
+    /**
+     * @brief Stops supervising, fails the queued rounds and closes the current controller.
+     */
+    @Override
+    public void close() {
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            generation++;
+            controller = null;
+            CancellationException cancelled = new CancellationException("Link supervisor is closed");
+            failAll(outstandingRounds, cancelled);
+            failAll(queuedRounds, cancelled);
+            setState(LinkState.DOWN);
+            notifyAll();
+        }
+
+        supervisorThread.interrupt();
+        try {
+            supervisorThread.join(roundTimeoutMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * @brief Main loop of the supervisor thread: connects, watches the link and reconnects with backoff.
+     */
+    private void runSupervisor() {
+        long backoffMillis = initialBackoffMillis;
+        try {
+            while (beginConnecting()) {
+                GameController connected;
+                try {
+                    connected = connector.call();
+                } catch (Exception e) {
+                    connected = null;
+                }
+
+                if (connected != null) {
+                    try {
+                        superviseLink(connected);
+                    } catch (RuntimeException e) {
+                        System.err.println("Link supervision failed: " + e);
+                        dropLink(connected);
+                    } finally {
+                        connected.close();
+                    }
+                    backoffMillis = initialBackoffMillis;
+                    pause(backoffMillis);
+                } else {
+                    markDown();
+                    pause(backoffMillis);
+                    backoffMillis = Math.min(backoffMillis * 2, maxBackoffMillis);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * @brief Enters the CONNECTING state unless the supervisor is closed.
+     * @return True if a connection attempt should be made.
+     */
+    private synchronized boolean beginConnecting() {
+        if (!closed) {
+            setState(LinkState.CONNECTING);
+        }
+        return !closed;
+    }
+
+    /**
+     * @brief Enters the DOWN state after a failed connection attempt.
+     */
+    private synchronized void markDown() {
+        if (!closed) {
+            setState(LinkState.DOWN);
+        }
+    }
+
+    /**
+     * @brief Takes the link down after supervising it failed unexpectedly.
+     * @param connected The controller that was supervised.
+     */
+    private synchronized void dropLink(GameController connected) {
+        if (!closed && controller == connected) {
+            linkLost();
+        }
+    }
+
+    /**
+     * @brief Waits for the reconnect delay or until the supervisor is closed.
+     * @param millis The delay in milliseconds.
+     * @throws InterruptedException If the supervisor thread is interrupted.
+     */
+    private synchronized void pause(long millis) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(millis);
+        long remaining;
+        while (!closed && (remaining = deadline - System.nanoTime()) > 0) {
+            wait(TimeUnit.NANOSECONDS.toMillis(remaining) + 1);
+        }
+    }
+
+    /**
+     * @brief Uses a new controller, replays the queued rounds, watches the oldest round's timeout and sends
+     * heartbeats until the link is lost.
+     * @param connected The new controller.
+     * @throws InterruptedException If the supervisor thread is interrupted.
+     */
+    private synchronized void superviseLink(GameController connected) throws InterruptedException {
+        if (closed) {
+            return;
+        }
+        controller = connected;
+        generation++;
+        if (everConnected) {
+            metrics.recordReconnect();
+        }
+        everConnected = true;
+        missedHeartbeats = 0;
+        heartbeatPending = false;
+        lastActivityNanos = System.nanoTime();
+        setState(LinkState.UP);
+        dispatchQueued();
+
+        while (!closed && controller == connected) {
+            if (!outstandingRounds.isEmpty()) {
+                long remainingMillis = roundTimeoutMillis
+                        - TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - headSinceNanos);
+                if (remainingMillis <= 0) {
+                    linkLost();
+                } else {
+                    wait(remainingMillis);
+                }
+                continue;
+            }
+
+            long idleMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - lastActivityNanos);
+            if (idleMillis >= heartbeatIntervalMillis && !heartbeatPending) {
+                sendHeartbeat();
+                continue;
+            }
+            wait(Math.max(1, heartbeatIntervalMillis - idleMillis));
+        }
+    }
+
+    /**
+     * @brief Hands every queued round to the current controller.
+     */
+    private void dispatchQueued() {
+        GameController connected = controller;
+        long linkGeneration = generation;
+        while (controller == connected) {
+            SupervisedRound next = queuedRounds.poll();
+            if (next == null) {
+                return;
+            }
+            if (next.future.isDone()) {
+                continue;
+            }
+
+            lastActivityNanos = System.nanoTime();
+            if (outstandingRounds.isEmpty()) {
+                headSinceNanos = lastActivityNanos;
+                notifyAll();
+            }
+            outstandingRounds.add(next);
+            RoundDTO round = next.round;
+            CompletableFuture<GameDTO> pending;
+            try {
+                pending = connected.playAsync(round.mode(), round.player1Move(), round.player2Move());
+            } catch (RuntimeException e) {
+                pending = CompletableFuture.failedFuture(e);
+            }
+            pending.whenComplete((result, error) -> onRoundDone(linkGeneration, next, result, error));
+        }
+    }
+
+    /**
+     * @brief Handles the result or failure of a round.
+     * @param linkGeneration The generation of the link the round was sent over.
+     * @param round The round.
+     * @param result The result, or null on failure.
+     * @param error The failure, or null on success.
+     * @details A link failure takes the link down, so the round is replayed over the next link. Any other failure
+     * belongs to the round itself and only fails its future. Results arrive in order, so once a round is done the
+     * next outstanding round becomes the oldest and its timeout starts.
+     */
+    private void onRoundDone(long linkGeneration, SupervisedRound round, GameDTO result, Throwable error) {
+        synchronized (this) {
+            if (linkGeneration != generation || !outstandingRounds.contains(round)) {
+                return;
+            }
+            if (error != null && isLinkFailure(error)) {
+                linkLost();
+                return;
+            }
+            outstandingRounds.remove(round);
+            lastActivityNanos = System.nanoTime();
+            headSinceNanos = lastActivityNanos;
+            if (error == null) {
+                missedHeartbeats = 0;
+                setState(LinkState.UP);
+            }
+        }
+        if (error == null) {
+            round.future.complete(result);
+        } else {
+            round.future.completeExceptionally(error);
+        }
+    }
+
+    /**
+     * @brief Tells whether a round failed because of the link rather than because of the round itself.
+     * @param error The failure.
+     * @return True for I/O errors, timeouts and cancellations caused by a closed controller.
+     */
+    private static boolean isLinkFailure(Throwable error) {
+        Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+        return cause instanceof IOException || cause instanceof TimeoutException
+                || cause instanceof CancellationException;
+    }
+
+    /**
+     * @brief Sends a handshake over the current controller as a heartbeat.
+     * @details Heartbeats are only sent while no round is outstanding, so the timeout starts right away.
+     */
+    private void sendHeartbeat() {
+        heartbeatPending = true;
+        lastActivityNanos = System.nanoTime();
+        long linkGeneration = generation;
+        controller.pingAsync()
+                .orTimeout(roundTimeoutMillis, TimeUnit.MILLISECONDS)
+                .whenComplete((result, error) -> onHeartbeat(linkGeneration, error));
+    }
+
+    /**
+     * @brief Handles the answer or loss of a heartbeat.
+     * @param linkGeneration The generation of the link the heartbeat was sent over.
+     * @param error The failure, or null if the heartbeat was answered.
+     */
+    private synchronized void onHeartbeat(long linkGeneration, Throwable error) {
+        if (linkGeneration != generation) {
+            return;
+        }
+        heartbeatPending = false;
+        if (error == null) {
+            missedHeartbeats = 0;
+            setState(LinkState.UP);
+        } else if (++missedHeartbeats >= MISSED_HEARTBEATS_DOWN) {
+            linkLost();
+        } else {
+            setState(LinkState.DEGRADED);
+            notifyAll();
+        }
+    }
+
+    /**
+     * @brief Takes the link down and moves the outstanding rounds back to the front of the queue.
+     * @details Rounds that were already replayed MAX_REPLAYS times fail instead.
+     */
+    private void linkLost() {
+        generation++;
+        controller = null;
+        heartbeatPending = false;
+        setState(LinkState.DOWN);
+
+        Iterator<SupervisedRound> newestFirst = outstandingRounds.descendingIterator();
+        while (newestFirst.hasNext()) {
+            SupervisedRound round = newestFirst.next();
+            if (++round.replays > MAX_REPLAYS) {
+                round.future.completeExceptionally(new IOException("Round " + round.round
+                        + " failed after " + MAX_REPLAYS + " replays"));
+            } else {
+                queuedRounds.addFirst(round);
+            }
+        }
+        outstandingRounds.clear();
+        notifyAll();
+    }
+
+    /**
+     * @brief Changes the state and notifies the listener if it differs from the current one.
+     * @param newState The new state.
+     */
+    private void setState(LinkState newState) {
+        if (state != newState) {
+            state = newState;
+            stateListener.accept(newState);
+        }
+    }
+
+    /**
+     * @brief Fails and removes every round of a queue.
+     * @param rounds The rounds to fail.
+     * @param cause The failure cause.
+     */
+    private static void failAll(Deque<SupervisedRound> rounds, Throwable cause) {
+        SupervisedRound round;
+        while ((round = rounds.poll()) != null) {
+            round.future.completeExceptionally(cause);
+        }
+    }
+
+    /**
+     * @brief A submitted round and the number of times it was replayed.
+     */
+    private static final class SupervisedRound {
+
+        /**
+         * @brief The submitted round.
+         */
+        private final RoundDTO round;
+
+        /**
+         * @brief The future completed with the result.
+         */
+        private final CompletableFuture<GameDTO> future;
+
+        /**
+         * @brief Number of times the round was queued again after a link failure.
+         */
+        private int replays;
+
+        private SupervisedRound(RoundDTO round, CompletableFuture<GameDTO> future) {
+            this.round = round;
+            this.future = future;
+        }
+    }
+}
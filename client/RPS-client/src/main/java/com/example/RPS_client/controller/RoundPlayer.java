@@ -0,0 +1,73 @@
+package com.example.RPS_client.controller;
+
+import com.example.RPS_client.DTO.GameDTO;
+import com.example.RPS_client.RPSGame.Outcome;
+import com.example.RPS_client.RPSGame.RPSMode;
+import com.example.RPS_client.RPSGame.RPSPlayer;
+import com.example.RPS_client.strategy.AIStrategy;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * @file RoundPlayer.java
+ * @brief Anything that plays rounds asynchronously: a single controller, a supervised link or a pool of devices.
+ */
+public interface RoundPlayer {
+
+    /**
+     * @brief Plays a round without blocking the caller.
+     * @param mode The game mode.
+     * @param move1 The first player's move.
+     * @param move2 The second player's move.
+     * @return A future completed with the result.
+     */
+    CompletableFuture<GameDTO> playAsync(RPSMode mode, RPSPlayer.Move move1, RPSPlayer.Move move2);
+
+    /**
+     * @brief Plays a round on behalf of a session without blocking the caller.
+     * @param session Identifies the player or connection the round belongs to, for players that schedule fairly
+     *                between sessions.
+     * @param mode The game mode.
+     * @param move1 The first player's move.
+     * @param move2 The second player's move.
+     * @return A future completed with the result.
+     * @details By default the session is ignored.
+     */
+    default CompletableFuture<GameDTO> playAsync(String session, RPSMode mode, RPSPlayer.Move move1,
+                                                 RPSPlayer.Move move2) {
+        return playAsync(mode, move1, move2);
+    }
+
+    /**
+     * @brief Plays a round on behalf of a session if the player has room for it.
+     * @param session Identifies the player or connection the round belongs to.
+     * @param mode The game mode.
+     * @param move1 The first player's move.
+     * @param move2 The second player's move.
+     * @return A future completed with the result, or null if the player is full and the round should be offered
+     * again once earlier rounds have completed.
+     * @details By default every round is accepted.
+     */
+    default CompletableFuture<GameDTO> offerAsync(String session, RPSMode mode, RPSPlayer.Move move1,
+                                                  RPSPlayer.Move move2) {
+        return playAsync(session, mode, move1, move2);
+    }
+
+    /**
+     * @brief Plays a MAN_VS_AI round in which the AI's move is chosen by a client-side strategy.
+     * @param strategy The AI strategy of the current game.
+     * @param humanMove The human player's move.
+     * @return A future completed with the result; an AI win is reported as "AI", like in MAN_VS_AI mode.
+     * @details The strategy commits to its move before it observes the human's move. The round is resolved by the
+     * server as a MAN_VS_MAN round, because the firmware would replace the AI move by a random one.
+     */
+    default CompletableFuture<GameDTO> playAgainstAsync(AIStrategy strategy, RPSPlayer.Move humanMove) {
+        RPSPlayer.Move aiMove = strategy.nextMove();
+        strategy.observe(humanMove);
+
+        return playAsync(RPSMode.MAN_VS_MAN, humanMove, aiMove).thenApply(result ->
+                result.outcome() == Outcome.PLAYER_2
+                        ? GameDTO.of(Outcome.AI, result.player1Move(), result.player2Move())
+                        : result);
+    }
+}
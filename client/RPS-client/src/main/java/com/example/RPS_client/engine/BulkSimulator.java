@@ -0,0 +1,135 @@
+package com.example.RPS_client.engine;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * @file BulkSimulator.java
+ * @brief Headless AI_VS_AI simulation across all cores.
+ * @details Plays random rounds of a RuleSet, classic Rock-Paper-Scissors by default, on a fork/join pool without a
+ *          server round trip.
+ *          Every task receives its own SplittableRandom split off its parent before forking; the split tree depends
+ *          only on the round count, so a given seed always produces the same tally regardless of scheduling.
+ */
+public final class BulkSimulator {
+
+    /**
+     * @brief Maximum number of rounds played by a single leaf task.
+     */
+    private static final long LEAF_ROUNDS = 1 << 16;
+
+    /**
+     * @brief Pool the simulation runs on.
+     */
+    private final ForkJoinPool pool;
+
+    /**
+     * @brief Creates a simulator running on the common fork/join pool.
+     */
+    public BulkSimulator() {
+        this(ForkJoinPool.commonPool());
+    }
+
+    /**
+     * @brief Creates a simulator.
+     * @param pool The pool the simulation runs on.
+     */
+    public BulkSimulator(ForkJoinPool pool) {
+        this.pool = pool;
+    }
+
+    /**
+     * @brief Simulates AI_VS_AI rounds with uniformly random moves.
+     * @param rounds Number of rounds to play.
+     * @param seed Seed making the run reproducible.
+     * @return The tally of all rounds.
+     */
+    public SimulationTally simulate(long rounds, long seed) {
+        return simulate(RuleSet.CLASSIC, rounds, seed);
+    }
+
+    /**
+     * @brief Simulates AI_VS_AI rounds of a rule set with uniformly random moves.
+     * @param rules The rule set.
+     * @param rounds Number of rounds to play.
+     * @param seed Seed making the run reproducible.
+     * @return The tally of all rounds, with move counts indexed by the rule set's move indexes.
+     */
+    public SimulationTally simulate(RuleSet rules, long rounds, long seed) {
+        if (rounds < 0) {
+            throw new IllegalArgumentException("Round count must not be negative: " + rounds);
+        }
+        return pool.invoke(new SimulationTask(rules, new SplittableRandom(seed), rounds));
+    }
+
+    /**
+     * @brief Fork/join task simulating a range of rounds.
+     */
+    private static final class SimulationTask extends RecursiveTask<SimulationTally> {
+
+        /**
+         * @brief Serialization version, required by RecursiveTask being Serializable.
+         */
+        private static final long serialVersionUID = 1L;
+
+        /**
+         * @brief Rules the rounds are played by.
+         */
+        private final RuleSet rules;
+
+        /**
+         * @brief Random generator owned by this task.
+         */
+        private final SplittableRandom random;
+
+        /**
+         * @brief Number of rounds this task plays.
+         */
+        private final long rounds;
+
+        private SimulationTask(RuleSet rules, SplittableRandom random, long rounds) {
+            this.rules = rules;
+            this.random = random;
+            this.rounds = rounds;
+        }
+
+        @Override
+        protected SimulationTally compute() {
+            if (rounds <= LEAF_ROUNDS) {
+                return play();
+            }
+
+            long half = rounds / 2;
+            SimulationTask left = new SimulationTask(rules, random.split(), half);
+            SimulationTask right = new SimulationTask(rules, random, rounds - half);
+            left.fork();
+            SimulationTally rightTally = right.compute();
+            return left.join().merge(rightTally);
+        }
+
+        /**
+         * @brief Plays the rounds of a leaf task with local primitive counters.
+         * @return The tally of the leaf.
+         */
+        private SimulationTally play() {
+            long[] outcomes = new long[3];
+            int moves = rules.size();
+            long[] moves1 = new long[moves];
+            long[] moves2 = new long[moves];
+
+            for (long i = 0; i < rounds; i++) {
+                int pair = random.nextInt(moves * moves);
+                int move1 = pair / moves;
+                int move2 = pair - move1 * moves;
+
+                moves1[move1]++;
+                moves2[move2]++;
+                outcomes[rules.outcome(move1, move2)]++;
+            }
+
+            return new SimulationTally(outcomes[RPSRules.PLAYER_1], outcomes[RPSRules.DRAW], outcomes[RPSRules.PLAYER_2],
+                    moves1, moves2);
+        }
+    }
+}
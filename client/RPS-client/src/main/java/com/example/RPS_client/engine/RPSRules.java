@@ -0,0 +1,67 @@
+package com.example.RPS_client.engine;
+
+import com.example.RPS_client.RPSGame.RPSPlayer;
+
+/**
+ * @file RPSRules.java
+ * @brief Rules of Rock, Paper, Scissors as a 3x3 outcome lookup table.
+ * @details Mirrors RPSGame::play() of the firmware. Moves are indexed by their ordinal in RPSPlayer.Move. Variants with
+ *          more moves are described by RuleSet, which uses the same outcome codes.
+ */
+public final class RPSRules {
+
+    /**
+     * @brief Outcome code of a draw.
+     */
+    public static final int DRAW = 0;
+
+    /**
+     * @brief Outcome code of a round won by the first player.
+     */
+    public static final int PLAYER_1 = 1;
+
+    /**
+     * @brief Outcome code of a round won by the second player.
+     */
+    public static final int PLAYER_2 = 2;
+
+    /**
+     * @brief Number of moves.
+     */
+    public static final int MOVES = 3;
+
+    /**
+     * @brief Outcome table indexed by move1 * MOVES + move2.
+     */
+    private static final byte[] OUTCOMES = {
+            // ROCK vs ROCK, PAPER, SCISSORS
+            DRAW, PLAYER_2, PLAYER_1,
+            // PAPER vs ROCK, PAPER, SCISSORS
+            PLAYER_1, DRAW, PLAYER_2,
+            // SCISSORS vs ROCK, PAPER, SCISSORS
+            PLAYER_2, PLAYER_1, DRAW
+    };
+
+    private RPSRules() {
+    }
+
+    /**
+     * @brief Resolves a round.
+     * @param move1 The first player's move.
+     * @param move2 The second player's move.
+     * @return DRAW, PLAYER_1 or PLAYER_2.
+     */
+    public static int outcome(RPSPlayer.Move move1, RPSPlayer.Move move2) {
+        return OUTCOMES[move1.ordinal() * MOVES + move2.ordinal()];
+    }
+
+    /**
+     * @brief Resolves a round given move ordinals.
+     * @param move1 Ordinal of the first player's move.
+     * @param move2 Ordinal of the second player's move.
+     * @return DRAW, PLAYER_1 or PLAYER_2.
+     */
+    public static int outcome(int move1, int move2) {
+        return OUTCOMES[move1 * MOVES + move2];
+    }
+}
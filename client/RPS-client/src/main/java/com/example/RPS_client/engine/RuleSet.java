@@ -0,0 +1,397 @@
+package com.example.RPS_client.engine;
+
+import com.example.RPS_client.DTO.MultiGameDTO;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * @file RuleSet.java
+ * @brief Rules of a Rock-Paper-Scissors variant with any number of moves, defined as data.
+ * @details A rule set is given by its move names and the moves each of them beats. The relation is stored as a bit
+ *          matrix with one row of ceil(N / 64) longs per move, in which bit j of row i is set if move i beats move
+ *          j. A round is resolved with two word lookups whatever the number of moves, and 101 moves take two
+ *          longs per row. Moves are identified by their index; on the wire they take bitsPerMove() bits each.
+ *          Outcome codes are those of RPSRules.
+ */
+public final class RuleSet {
+
+    /**
+     * @brief Classic Rock, Paper, Scissors; move indexes match the ordinals of RPSPlayer.Move.
+     */
+    public static final RuleSet CLASSIC = define("RPS", List.of("ROCK", "PAPER", "SCISSORS"), Map.of(
+            "ROCK", List.of("SCISSORS"),
+            "PAPER", List.of("ROCK"),
+            "SCISSORS", List.of("PAPER")));
+
+    /**
+     * @brief Rock, Paper, Scissors, Lizard, Spock; the first three moves are those of CLASSIC.
+     */
+    public static final RuleSet RPSLS = define("RPSLS", List.of("ROCK", "PAPER", "SCISSORS", "LIZARD", "SPOCK"),
+            Map.of(
+                    "ROCK", List.of("SCISSORS", "LIZARD"),
+                    "PAPER", List.of("ROCK", "SPOCK"),
+                    "SCISSORS", List.of("PAPER", "LIZARD"),
+                    "LIZARD", List.of("PAPER", "SPOCK"),
+                    "SPOCK", List.of("ROCK", "SCISSORS")));
+
+    /**
+     * @brief The 101-move variant, in which every move beats the 50 moves before it on a circle.
+     * @details The moves are numbered MOVE_1 to MOVE_101; a variant with named moves is built with cyclic().
+     */
+    public static final RuleSet RPS_101 = cyclic("RPS-101", numberedMoves(101));
+
+    /**
+     * @brief Name of the rule set.
+     */
+    private final String name;
+
+    /**
+     * @brief Move names indexed by move.
+     */
+    private final String[] moves;
+
+    /**
+     * @brief Move indexes by name.
+     */
+    private final Map<String, Integer> indexes;
+
+    /**
+     * @brief Number of longs in a row of the bit matrix.
+     */
+    private final int words;
+
+    /**
+     * @brief Bit matrix of the beats relation, row by row.
+     */
+    private final long[] beats;
+
+    /**
+     * @brief Transpose of beats: bit j of row i is set if move j beats move i.
+     */
+    private final long[] beatenBy;
+
+    /**
+     * @brief Number of bits encoding a move on the wire.
+     */
+    private final int bitsPerMove;
+
+    private RuleSet(String name, String[] moves, Map<String, Integer> indexes, long[] beats, int words) {
+        this.name = name;
+        this.moves = moves;
+        this.indexes = indexes;
+        this.beats = beats;
+        this.words = words;
+        beatenBy = new long[beats.length];
+        for (int winner = 0; winner < moves.length; winner++) {
+            for (int loser = 0; loser < moves.length; loser++) {
+                if (bit(beats, words, winner, loser)) {
+                    beatenBy[loser * words + (winner >>> 6)] |= 1L << winner;
+                }
+            }
+        }
+        bitsPerMove = Math.max(1, 32 - Integer.numberOfLeadingZeros(moves.length - 1));
+    }
+
+    /**
+     * @brief Defines a rule set.
+     * @param name The name of the rule set.
+     * @param moves The move names, in index order.
+     * @param beats For each move that beats others, the names of the moves it beats.
+     * @return The rule set.
+     * @throws IllegalArgumentException If there are fewer than two moves, a name is duplicated or unknown, a move
+     *                                  beats itself, or two moves beat each other.
+     */
+    public static RuleSet define(String name, List<String> moves, Map<String, List<String>> beats) {
+        if (moves.size() < 2) {
+            throw new IllegalArgumentException("A rule set needs at least two moves: " + name);
+        }
+        Map<String, Integer> indexes = new HashMap<>();
+        for (int i = 0; i < moves.size(); i++) {
+            if (indexes.putIfAbsent(moves.get(i), i) != null) {
+                throw new IllegalArgumentException("Duplicate move " + moves.get(i) + " in " + name);
+            }
+        }
+
+        int words = (moves.size() + Long.SIZE - 1) / Long.SIZE;
+        long[] matrix = new long[moves.size() * words];
+        for (Map.Entry<String, List<String>> entry : beats.entrySet()) {
+            int winner = index(indexes, name, entry.getKey());
+            for (String beaten : entry.getValue()) {
+                int loser = index(indexes, name, beaten);
+                if (winner == loser || bit(matrix, words, loser, winner)) {
+                    throw new IllegalArgumentException(
+                            "Inconsistent rule " + entry.getKey() + " beats " + beaten + " in " + name);
+                }
+                matrix[winner * words + (loser >>> 6)] |= 1L << loser;
+            }
+        }
+        return new RuleSet(name, moves.toArray(new String[0]), Map.copyOf(indexes), matrix, words);
+    }
+
+    /**
+     * @brief Defines a balanced rule set in which every move beats the (N - 1) / 2 moves before it on a circle.
+     * @param name The name of the rule set.
+     * @param moves The move names in circle order; an odd count makes every pair decisive.
+     * @return The rule set.
+     * @throws IllegalArgumentException If there are fewer than two moves or a name is duplicated.
+     */
+    public static RuleSet cyclic(String name, List<String> moves) {
+        int count = moves.size();
+        Map<String, List<String>> beats = new HashMap<>();
+        for (int winner = 0; winner < count; winner++) {
+            List<String> beaten = new ArrayList<>((count - 1) / 2);
+            for (int distance = 1; distance <= (count - 1) / 2; distance++) {
+                beaten.add(moves.get((winner - distance + count) % count));
+            }
+            beats.put(moves.get(winner), beaten);
+        }
+        return define(name, moves, beats);
+    }
+
+    /**
+     * @brief Returns the name of the rule set.
+     * @return The name.
+     */
+    public String name() {
+        return name;
+    }
+
+    /**
+     * @brief Returns the number of moves.
+     * @return The move count.
+     */
+    public int size() {
+        return moves.length;
+    }
+
+    /**
+     * @brief Returns the name of a move.
+     * @param move The move index.
+     * @return The move name.
+     */
+    public String moveName(int move) {
+        return moves[move];
+    }
+
+    /**
+     * @brief Returns the index of a move.
+     * @param moveName The move name.
+     * @return The move index.
+     * @throws IllegalArgumentException If the move is not part of the rule set.
+     */
+    public int moveIndex(String moveName) {
+        return index(indexes, name, moveName);
+    }
+
+    /**
+     * @brief Tells whether a move beats another.
+     * @param move1 Index of the first move.
+     * @param move2 Index of the second move.
+     * @return True if move1 beats move2.
+     */
+    public boolean beats(int move1, int move2) {
+        return bit(beats, words, move1, move2);
+    }
+
+    /**
+     * @brief Resolves a round.
+     * @param move1 Index of the first player's move.
+     * @param move2 Index of the second player's move.
+     * @return RPSRules.DRAW, RPSRules.PLAYER_1 or RPSRules.PLAYER_2.
+     * @details Moves that do not beat each other, such as equal moves, draw.
+     */
+    public int outcome(int move1, int move2) {
+        int won = (int) (beats[move1 * words + (move2 >>> 6)] >>> move2) & 1;
+        int lost = (int) (beats[move2 * words + (move1 >>> 6)] >>> move1) & 1;
+        return won | (lost << 1);
+    }
+
+    /**
+     * @brief Resolves a round of any number of players in linear time.
+     * @param moves The move index of each player.
+     * @param count The number of players.
+     * @return The winners and the move counts.
+     * @throws IllegalArgumentException If a move is not part of the rule set.
+     * @details Rather than comparing every pair of players, the moves are counted first. A move wins if it beats at
+     * least one move thrown and no move thrown beats it, which is decided per distinct move with a few bit-matrix
+     * words. A second pass over the players marks those who threw a winning move. In classic rules a round with
+     * one or all three moves is a draw, and with two moves the players of the stronger one win.
+     */
+    public MultiGameDTO resolve(int[] moves, int count) {
+        long[] counts = new long[this.moves.length];
+        long[] thrown = new long[words];
+        for (int i = 0; i < count; i++) {
+            int move = checkMove(moves[i]);
+            counts[move]++;
+            thrown[move >>> 6] |= 1L << move;
+        }
+
+        long[] winning = new long[words];
+        boolean anyWinning = false;
+        for (int move = 0; move < this.moves.length; move++) {
+            if (counts[move] > 0 && !intersects(beatenBy, move, thrown) && intersects(beats, move, thrown)) {
+                winning[move >>> 6] |= 1L << move;
+                anyWinning = true;
+            }
+        }
+
+        BitSet winners = new BitSet(count);
+        if (anyWinning) {
+            for (int i = 0; i < count; i++) {
+                if ((winning[moves[i] >>> 6] & (1L << moves[i])) != 0) {
+                    winners.set(i);
+                }
+            }
+        }
+        return new MultiGameDTO(count, counts, winners);
+    }
+
+    /**
+     * @brief Returns the number of bits encoding a move on the wire.
+     * @return ceil(log2(size())), at least 1.
+     */
+    public int bitsPerMove() {
+        return bitsPerMove;
+    }
+
+    /**
+     * @brief Returns the number of bytes holding packed moves.
+     * @param count The number of moves.
+     * @return The byte count.
+     */
+    public int packedLength(int count) {
+        return (count * bitsPerMove + Byte.SIZE - 1) / Byte.SIZE;
+    }
+
+    /**
+     * @brief Packs moves into consecutive bitsPerMove()-bit fields, least significant bit first.
+     * @param moves The move indexes.
+     * @param count The number of moves to pack.
+     * @param destination The array receiving packedLength(count) bytes.
+     * @return The number of bytes written.
+     * @throws IllegalArgumentException If a move is not part of the rule set.
+     */
+    public int packMoves(int[] moves, int count, byte[] destination) {
+        int length = packedLength(count);
+        long buffer = 0;
+        int buffered = 0;
+        int written = 0;
+        for (int i = 0; i < count; i++) {
+            checkMove(moves[i]);
+            buffer |= (long) moves[i] << buffered;
+            buffered += bitsPerMove;
+            while (buffered >= Byte.SIZE) {
+                destination[written++] = (byte) buffer;
+                buffer >>>= Byte.SIZE;
+                buffered -= Byte.SIZE;
+            }
+        }
+        if (buffered > 0) {
+            destination[written++] = (byte) buffer;
+        }
+        return length;
+    }
+
+    /**
+     * @brief Unpacks moves written by packMoves().
+     * @param source The packed bytes.
+     * @param count The number of moves to unpack.
+     * @param destination The array receiving the move indexes.
+     * @throws IllegalArgumentException If a field does not hold a move of the rule set.
+     */
+    public void unpackMoves(byte[] source, int count, int[] destination) {
+        long mask = (1L << bitsPerMove) - 1;
+        long buffer = 0;
+        int buffered = 0;
+        int read = 0;
+        for (int i = 0; i < count; i++) {
+            while (buffered < bitsPerMove) {
+                buffer |= (source[read++] & 0xFFL) << buffered;
+                buffered += Byte.SIZE;
+            }
+            destination[i] = checkMove((int) (buffer & mask));
+            buffer >>>= bitsPerMove;
+            buffered -= bitsPerMove;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return name + " (" + moves.length + " moves)";
+    }
+
+    /**
+     * @brief Checks that a move index belongs to the rule set.
+     * @param move The move index.
+     * @return The move index.
+     * @throws IllegalArgumentException If it does not.
+     */
+    private int checkMove(int move) {
+        if (move < 0 || move >= moves.length) {
+            throw new IllegalArgumentException("Move " + move + " is not part of " + name);
+        }
+        return move;
+    }
+
+    /**
+     * @brief Tells whether a row of a bit matrix shares a bit with a set of moves.
+     * @param matrix The matrix.
+     * @param row The row.
+     * @param set The set of moves, one bit per move.
+     * @return True if they intersect.
+     */
+    private boolean intersects(long[] matrix, int row, long[] set) {
+        int offset = row * words;
+        for (int word = 0; word < words; word++) {
+            if ((matrix[offset + word] & set[word]) != 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @brief Reads a bit of a bit matrix.
+     * @param matrix The matrix.
+     * @param words The number of longs per row.
+     * @param row The row.
+     * @param column The column.
+     * @return True if the bit is set.
+     */
+    private static boolean bit(long[] matrix, int words, int row, int column) {
+        return (matrix[row * words + (column >>> 6)] & (1L << column)) != 0;
+    }
+
+    /**
+     * @brief Looks up a move index by name.
+     * @param indexes The move indexes.
+     * @param name The name of the rule set, for the error message.
+     * @param moveName The move name.
+     * @return The move index.
+     * @throws IllegalArgumentException If the move is unknown.
+     */
+    private static int index(Map<String, Integer> indexes, String name, String moveName) {
+        Integer index = indexes.get(moveName);
+        if (index == null) {
+            throw new IllegalArgumentException("Unknown move " + moveName + " in " + name);
+        }
+        return index;
+    }
+
+    /**
+     * @brief Builds numbered move names.
+     * @param count The number of moves.
+     * @return MOVE_1 to MOVE_count.
+     */
+    private static List<String> numberedMoves(int count) {
+        List<String> names = new ArrayList<>(count);
+        for (int i = 1; i <= count; i++) {
+            names.add("MOVE_" + i);
+        }
+        return names;
+    }
+}
@@ -0,0 +1,141 @@
+package com.example.RPS_client.engine;
+
+import java.util.Arrays;
+
+/**
+ * @file SimulationTally.java
+ * @brief Primitive counters summarising a bulk simulation.
+ * @details Outcomes are counted from the first player's point of view: a win is a PLAYER_1 outcome.
+ */
+public final class SimulationTally {
+
+    /**
+     * @brief Rounds won by the first player.
+     */
+    private final long wins;
+
+    /**
+     * @brief Drawn rounds.
+     */
+    private final long draws;
+
+    /**
+     * @brief Rounds won by the second player.
+     */
+    private final long losses;
+
+    /**
+     * @brief Number of times the first player chose each move, indexed by ordinal.
+     */
+    private final long[] player1Moves;
+
+    /**
+     * @brief Number of times the second player chose each move, indexed by ordinal.
+     */
+    private final long[] player2Moves;
+
+    /**
+     * @brief Creates a tally.
+     * @param wins Rounds won by the first player.
+     * @param draws Drawn rounds.
+     * @param losses Rounds won by the second player.
+     * @param player1Moves Move counts of the first player; the array is taken over.
+     * @param player2Moves Move counts of the second player; the array is taken over.
+     */
+    SimulationTally(long wins, long draws, long losses, long[] player1Moves, long[] player2Moves) {
+        this.wins = wins;
+        this.draws = draws;
+        this.losses = losses;
+        this.player1Moves = player1Moves;
+        this.player2Moves = player2Moves;
+    }
+
+    /**
+     * @brief Combines two tallies.
+     * @param other The other tally.
+     * @return A tally holding the sums of both.
+     */
+    SimulationTally merge(SimulationTally other) {
+        long[] moves1 = player1Moves.clone();
+        long[] moves2 = player2Moves.clone();
+        for (int i = 0; i < moves1.length; i++) {
+            moves1[i] += other.player1Moves[i];
+            moves2[i] += other.player2Moves[i];
+        }
+        return new SimulationTally(wins + other.wins, draws + other.draws, losses + other.losses, moves1, moves2);
+    }
+
+    /**
+     * @brief Returns the number of simulated rounds.
+     * @return The round count.
+     */
+    public long rounds() {
+        return wins + draws + losses;
+    }
+
+    /**
+     * @brief Returns the rounds won by the first player.
+     * @return The win count.
+     */
+    public long wins() {
+        return wins;
+    }
+
+    /**
+     * @brief Returns the drawn rounds.
+     * @return The draw count.
+     */
+    public long draws() {
+        return draws;
+    }
+
+    /**
+     * @brief Returns the rounds won by the second player.
+     * @return The loss count.
+     */
+    public long losses() {
+        return losses;
+    }
+
+    /**
+     * @brief Returns how often the first player chose a move.
+     * @param move Ordinal of the move.
+     * @return The count.
+     */
+    public long player1MoveCount(int move) {
+        return player1Moves[move];
+    }
+
+    /**
+     * @brief Returns how often the second player chose a move.
+     * @param move Ordinal of the move.
+     * @return The count.
+     */
+    public long player2MoveCount(int move) {
+        return player2Moves[move];
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof SimulationTally other)) {
+            return false;
+        }
+        return wins == other.wins && draws == other.draws && losses == other.losses
+                && Arrays.equals(player1Moves, other.player1Moves) && Arrays.equals(player2Moves, other.player2Moves);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Long.hashCode(wins) + 17 * Long.hashCode(draws) + Long.hashCode(losses);
+    }
+
+    @Override
+    public String toString() {
+        return "SimulationTally[wins=" + wins + ", draws=" + draws + ", losses=" + losses
+                + ", player1Moves=" + Arrays.toString(player1Moves)
+                + ", player2Moves=" + Arrays.toString(player2Moves) + "]";
+    }
+}
@@ -0,0 +1,642 @@
+package com.example.RPS_client.gateway;
+
+import com.example.RPS_client.DTO.GameDTO;
+import com.example.RPS_client.DTO.RoundDTO;
+import com.example.RPS_client.RPSGame.RPSMode;
+import com.example.RPS_client.RPSGame.RPSPlayer;
+import com.example.RPS_client.communication.RPSServerEmulator;
+import com.example.RPS_client.controller.FairRoundScheduler;
+import com.example.RPS_client.controller.GameController;
+import com.example.RPS_client.controller.LinkSupervisor;
+import com.example.RPS_client.controller.RoundPlayer;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * @file RPSGateway.java
+ * @brief TCP server letting many remote clients play on shared RPS backends.
+ * @details Clients speak the firmware's text protocol: every "MODE,MOVE1,MOVE2\n" line, or "BATCH:" line of
+ *          rounds, is answered with one "RESULT,MOVE1,MOVE2|" per round, in request order. A single selector
+ *          thread accepts, reads and writes all connections through per-connection buffers. Each connection is
+ *          assigned one backend round-robin and plays its rounds as its own session; the backends play the rounds
+ *          on their own threads and wake the selector when results are ready. A connection with MAX_PENDING_ROUNDS
+ *          unanswered rounds is not read until results drain, so slow backends push back on their clients instead
+ *          of queuing without bound. Likewise, rounds a full backend refuses (see RoundPlayer.offerAsync()) are
+ *          held back on their connection, which is not read until the backend has taken them. Lines that are not
+ *          valid rounds, including the binary handshake, and rounds a backend rejects are answered with "ERROR|".
+ */
+public class RPSGateway implements AutoCloseable {
+
+    /**
+     * @brief Default TCP port of the gateway.
+     */
+    public static final int DEFAULT_PORT = 4402;
+
+    /**
+     * @brief Maximum number of unanswered rounds per connection before reading from it pauses.
+     */
+    public static final int MAX_PENDING_ROUNDS = 64;
+
+    /**
+     * @brief Maximum length of a request line, in bytes.
+     */
+    private static final int MAX_LINE_LENGTH = 1024;
+
+    /**
+     * @brief Size of the per-connection read buffer, in bytes.
+     */
+    private static final int READ_BUFFER_SIZE = 512;
+
+    /**
+     * @brief Size of the per-connection write buffer, in bytes.
+     */
+    private static final int WRITE_BUFFER_SIZE = 2048;
+
+    /**
+     * @brief Upper bound of an encoded response, in bytes.
+     */
+    private static final int MAX_RESPONSE_LENGTH = 32;
+
+    /**
+     * @brief Prefix of a batch line carrying several rounds.
+     */
+    private static final String BATCH_PREFIX = "BATCH:";
+
+    /**
+     * @brief Response to a line that is not a valid round.
+     */
+    private static final String ERROR_RESPONSE = "ERROR|";
+
+    /**
+     * @brief Placeholder result of a request that is not a valid round.
+     */
+    private static final CompletableFuture<GameDTO> INVALID_REQUEST =
+            CompletableFuture.failedFuture(new IllegalArgumentException("Invalid request"));
+
+    /**
+     * @brief Backends the connections are distributed over.
+     */
+    private final List<RoundPlayer> backends;
+
+    /**
+     * @brief Address the server socket is bound to.
+     */
+    private final InetSocketAddress address;
+
+    /**
+     * @brief Connections with newly completed rounds, handed from backend threads to the selector thread.
+     */
+    private final Queue<Connection> completedConnections = new ConcurrentLinkedQueue<>();
+
+    /**
+     * @brief Connections holding back rounds their backend had no room for, in the order they were refused.
+     */
+    private final Deque<Connection> blockedConnections = new ArrayDeque<>();
+
+    /**
+     * @brief Selector multiplexing the server socket and every connection.
+     */
+    private Selector selector;
+
+    /**
+     * @brief The listening socket.
+     */
+    private ServerSocketChannel serverChannel;
+
+    /**
+     * @brief Thread running the selector loop.
+     */
+    private Thread selectorThread;
+
+    /**
+     * @brief Index of the backend the next connection is assigned to.
+     */
+    private int nextBackend;
+
+    /**
+     * @brief Number of connections accepted so far, naming their sessions.
+     */
+    private long acceptedCount;
+
+    /**
+     * @brief Number of open connections.
+     */
+    private volatile int connectionCount;
+
+    /**
+     * @brief Flag set when the gateway is closed.
+     */
+    private volatile boolean closed;
+
+    /**
+     * @brief Constructor of the class.
+     * @param address The address to listen on; port 0 picks a free port.
+     * @param backends The backends rounds are played on, e.g. game controllers, supervised links or device pools.
+     */
+    public RPSGateway(InetSocketAddress address, List<RoundPlayer> backends) {
+        if (backends.isEmpty()) {
+            throw new IllegalArgumentException("At least one backend is required");
+        }
+        this.address = address;
+        this.backends = List.copyOf(backends);
+    }
+
+    /**
+     * @brief Binds the server socket and starts the selector thread.
+     * @throws IOException If the socket cannot be bound.
+     */
+    public synchronized void start() throws IOException {
+        selector = Selector.open();
+        serverChannel = ServerSocketChannel.open();
+        serverChannel.bind(address, MAX_PENDING_ROUNDS * 16);
+        serverChannel.configureBlocking(false);
+        serverChannel.register(selector, SelectionKey.OP_ACCEPT);
+
+        selectorThread = new Thread(this::runSelectorLoop, "rps-gateway");
+        selectorThread.start();
+    }
+
+    /**
+     * @brief Returns the port the gateway listens on.
+     * @return The local port.
+     * @throws IOException If the socket is not bound.
+     */
+    public int port() throws IOException {
+        return ((InetSocketAddress) serverChannel.getLocalAddress()).getPort();
+    }
+
+    /**
+     * @brief Returns the number of open client connections.
+     * @return The connection count.
+     */
+    public int connectionCount() {
+        return connectionCount;
+    }
+
+    /**
+     * @brief Closes every connection and the server socket; the backends are left open.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        Thread thread;
+        synchronized (this) {
+            thread = selectorThread;
+            if (selector != null) {
+                selector.wakeup();
+            }
+        }
+        if (thread != null) {
+            try {
+                thread.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /**
+     * @brief Main loop of the selector thread.
+     */
+    private void runSelectorLoop() {
+        try {
+            while (!closed) {
+                selector.select();
+
+                Connection completed;
+                while ((completed = completedConnections.poll()) != null) {
+                    completed.completionQueued.set(false);
+                    try {
+                        completed.flush();
+                    } catch (RuntimeException e) {
+                        System.err.println("Closing gateway connection: " + e);
+                        closeQuietly(completed.key);
+                    }
+                }
+                retryBlockedConnections();
+
+                Iterator<SelectionKey> keys = selector.selectedKeys().iterator();
+                while (keys.hasNext()) {
+                    SelectionKey key = keys.next();
+                    keys.remove();
+                    if (!key.isValid()) {
+                        continue;
+                    }
+                    if (key.isAcceptable()) {
+                        accept();
+                        continue;
+                    }
+                    Connection connection = (Connection) key.attachment();
+                    try {
+                        if (key.isReadable()) {
+                            connection.read();
+                        }
+                        if (key.isValid() && key.isWritable()) {
+                            connection.flush();
+                        }
+                    } catch (RuntimeException e) {
+                        System.err.println("Closing gateway connection: " + e);
+                        closeQuietly(key);
+                    }
+                }
+            }
+        } catch (IOException e) {
+            System.err.println("Gateway stopped: " + e.getMessage());
+        } finally {
+            for (SelectionKey key : selector.keys()) {
+                closeQuietly(key);
+            }
+            try {
+                selector.close();
+            } catch (IOException e) {
+                System.err.println("Failed to close gateway selector: " + e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * @brief Offers the held-back rounds of every blocked connection to its backend again.
+     * @details Called on every wakeup of the selector. Backends make room as their rounds complete, and every
+     * completion wakes the selector, so a blocked connection is retried until its backend takes its rounds.
+     */
+    private void retryBlockedConnections() {
+        Iterator<Connection> blocked = blockedConnections.iterator();
+        while (blocked.hasNext()) {
+            Connection connection = blocked.next();
+            if (!connection.key.isValid()) {
+                blocked.remove();
+                continue;
+            }
+            try {
+                if (connection.submitDeferred()) {
+                    blocked.remove();
+                    connection.flush();
+                }
+            } catch (RuntimeException e) {
+                System.err.println("Closing gateway connection: " + e);
+                blocked.remove();
+                closeQuietly(connection.key);
+            }
+        }
+    }
+
+    /**
+     * @brief Accepts every pending connection.
+     * @throws IOException If the server socket fails.
+     */
+    private void accept() throws IOException {
+        SocketChannel channel;
+        while ((channel = serverChannel.accept()) != null) {
+            channel.configureBlocking(false);
+            channel.socket().setTcpNoDelay(true);
+            Connection connection = new Connection(channel, backends.get(nextBackend), "tcp-" + ++acceptedCount);
+            nextBackend = (nextBackend + 1) % backends.size();
+            connection.key = channel.register(selector, SelectionKey.OP_READ, connection);
+            connectionCount++;
+        }
+    }
+
+    /**
+     * @brief Closes a key's channel, ignoring failures.
+     * @param key The key.
+     */
+    private void closeQuietly(SelectionKey key) {
+        boolean open = key.isValid();
+        key.cancel();
+        try {
+            key.channel().close();
+        } catch (IOException e) {
+            // The channel is being discarded anyway.
+        }
+        if (open && key.attachment() instanceof Connection) {
+            connectionCount--;
+        }
+    }
+
+    /**
+     * @brief Parses a round.
+     * @param line The round as "MODE,MOVE1,MOVE2".
+     * @return The round, or null if the line is not a valid round.
+     */
+    private static RoundDTO parseRound(String line) {
+        String[] parts = line.split(",", -1);
+        if (parts.length != 3) {
+            return null;
+        }
+        try {
+            return new RoundDTO(RPSMode.valueOf(parts[0].trim()), RPSPlayer.Move.valueOf(parts[1].trim()),
+                    RPSPlayer.Move.valueOf(parts[2].trim()));
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    /**
+     * @brief State of one client connection; touched only by the selector thread unless stated otherwise.
+     */
+    private final class Connection {
+
+        /**
+         * @brief The client's socket.
+         */
+        private final SocketChannel channel;
+
+        /**
+         * @brief Backend this connection's rounds are played on.
+         */
+        private final RoundPlayer backend;
+
+        /**
+         * @brief Session the connection's rounds are scheduled under.
+         */
+        private final String session;
+
+        /**
+         * @brief Bytes received and not yet split into lines.
+         */
+        private final ByteBuffer readBuffer = ByteBuffer.allocate(READ_BUFFER_SIZE);
+
+        /**
+         * @brief Bytes of the current request line.
+         */
+        private final byte[] line = new byte[MAX_LINE_LENGTH];
+
+        /**
+         * @brief Responses not yet written, in write mode between flushes.
+         */
+        private final ByteBuffer writeBuffer = ByteBuffer.allocate(WRITE_BUFFER_SIZE);
+
+        /**
+         * @brief Results of the unanswered rounds, in request order.
+         */
+        private final ArrayDeque<CompletableFuture<GameDTO>> pending = new ArrayDeque<>();
+
+        /**
+         * @brief Rounds the backend had no room for yet, in request order; their results are already in pending.
+         */
+        private final ArrayDeque<DeferredRound> deferred = new ArrayDeque<>();
+
+        /**
+         * @brief Set by backend threads while the connection waits in completedConnections.
+         */
+        private final AtomicBoolean completionQueued = new AtomicBoolean();
+
+        /**
+         * @brief The connection's selection key.
+         */
+        private SelectionKey key;
+
+        /**
+         * @brief Length of the current request line.
+         */
+        private int lineLength;
+
+        /**
+         * @brief Flag set while the rest of an overlong line is being discarded.
+         */
+        private boolean discardingLine;
+
+        /**
+         * @brief Flag set once the client has shut down its output.
+         */
+        private boolean inputClosed;
+
+        Connection(SocketChannel channel, RoundPlayer backend, String session) {
+            this.channel = channel;
+            this.backend = backend;
+            this.session = session;
+        }
+
+        /**
+         * @brief Reads available bytes and submits every complete round.
+         */
+        void read() {
+            int read;
+            try {
+                read = channel.read(readBuffer);
+            } catch (IOException e) {
+                closeQuietly(key);
+                return;
+            }
+            if (read < 0) {
+                inputClosed = true;
+                key.interestOps(key.interestOps() & ~SelectionKey.OP_READ);
+                flush();
+                return;
+            }
+
+            readBuffer.flip();
+            while (readBuffer.hasRemaining()) {
+                byte next = readBuffer.get();
+                if (next == '\n') {
+                    if (!discardingLine) {
+                        submitLine(new String(line, 0, lineLength, StandardCharsets.US_ASCII).trim());
+                    }
+                    lineLength = 0;
+                    discardingLine = false;
+                } else if (!discardingLine) {
+                    if (lineLength == MAX_LINE_LENGTH) {
+                        pending.add(INVALID_REQUEST);
+                        discardingLine = true;
+                    } else {
+                        line[lineLength++] = next;
+                    }
+                }
+            }
+            readBuffer.clear();
+            flush();
+        }
+
+        /**
+         * @brief Submits the rounds of a request line to the backend.
+         * @param request The request without the newline.
+         */
+        private void submitLine(String request) {
+            if (request.isEmpty()) {
+                return;
+            }
+            if (!request.startsWith(BATCH_PREFIX)) {
+                submitRound(request);
+                return;
+            }
+            for (String round : request.substring(BATCH_PREFIX.length()).split(";", -1)) {
+                submitRound(round);
+            }
+        }
+
+        /**
+         * @brief Submits one round to the backend.
+         * @param request The round as "MODE,MOVE1,MOVE2".
+         */
+        private void submitRound(String request) {
+            RoundDTO round = parseRound(request);
+            if (round == null) {
+                pending.add(INVALID_REQUEST);
+                return;
+            }
+            if (deferred.isEmpty()) {
+                CompletableFuture<GameDTO> result = backend.offerAsync(session, round.mode(), round.player1Move(),
+                        round.player2Move());
+                if (result != null) {
+                    pending.add(result);
+                    result.whenComplete((ignored, error) -> onRoundCompleted());
+                    return;
+                }
+                blockedConnections.add(this);
+            }
+            DeferredRound held = new DeferredRound(round, new CompletableFuture<>());
+            deferred.add(held);
+            pending.add(held.result());
+        }
+
+        /**
+         * @brief Offers the held-back rounds to the backend in request order.
+         * @return True once every held-back round was taken, false if the backend is still full.
+         */
+        boolean submitDeferred() {
+            DeferredRound held;
+            while ((held = deferred.peek()) != null) {
+                RoundDTO round = held.round();
+                CompletableFuture<GameDTO> result = backend.offerAsync(session, round.mode(), round.player1Move(),
+                        round.player2Move());
+                if (result == null) {
+                    return false;
+                }
+                deferred.poll();
+                CompletableFuture<GameDTO> placeholder = held.result();
+                result.whenComplete((gameResult, error) -> {
+                    if (error != null) {
+                        placeholder.completeExceptionally(error);
+                    } else {
+                        placeholder.complete(gameResult);
+                    }
+                    onRoundCompleted();
+                });
+            }
+            return true;
+        }
+
+        /**
+         * @brief Queues the connection for flushing; called on backend threads.
+         */
+        private void onRoundCompleted() {
+            if (completionQueued.compareAndSet(false, true)) {
+                completedConnections.add(this);
+                selector.wakeup();
+            }
+        }
+
+        /**
+         * @brief Encodes the completed rounds in request order and writes as much as the socket accepts.
+         * @details Pauses reading while MAX_PENDING_ROUNDS rounds are unanswered or rounds are held back, and
+         *          closes the connection once a half-closed client has received every answer.
+         */
+        void flush() {
+            if (!key.isValid()) {
+                return;
+            }
+            while (!pending.isEmpty() && writeBuffer.remaining() >= MAX_RESPONSE_LENGTH) {
+                CompletableFuture<GameDTO> next = pending.peek();
+                if (!next.isDone()) {
+                    break;
+                }
+                pending.poll();
+                if (next.isCompletedExceptionally()) {
+                    putAscii(ERROR_RESPONSE);
+                } else {
+                    GameDTO result = next.join();
+                    putAscii(result.outcome().wireName());
+                    writeBuffer.put((byte) ',');
+                    putAscii(result.player1Move().name());
+                    writeBuffer.put((byte) ',');
+                    putAscii(result.player2Move().name());
+                    writeBuffer.put((byte) '|');
+                }
+            }
+
+            writeBuffer.flip();
+            try {
+                channel.write(writeBuffer);
+            } catch (IOException e) {
+                closeQuietly(key);
+                return;
+            }
+            boolean unwritten = writeBuffer.hasRemaining();
+            writeBuffer.compact();
+
+            if (inputClosed && pending.isEmpty() && !unwritten) {
+                closeQuietly(key);
+                return;
+            }
+            int interest = unwritten ? SelectionKey.OP_WRITE : 0;
+            if (!inputClosed && pending.size() < MAX_PENDING_ROUNDS && deferred.isEmpty()) {
+                interest |= SelectionKey.OP_READ;
+            }
+            key.interestOps(interest);
+        }
+
+        /**
+         * @brief Appends an ASCII string to the write buffer without encoding it into a new array.
+         * @param text The text.
+         */
+        private void putAscii(String text) {
+            for (int i = 0; i < text.length(); i++) {
+                writeBuffer.put((byte) text.charAt(i));
+            }
+        }
+    }
+
+    /**
+     * @brief A round held back until its backend has room, and the result reported to its connection.
+     * @param round The round.
+     * @param result Completed with the backend's result once the round was taken and played.
+     */
+    private record DeferredRound(RoundDTO round, CompletableFuture<GameDTO> result) {
+    }
+
+    /**
+     * @brief Runs the gateway until the process is stopped.
+     * @details Every backend sits behind a FairRoundScheduler, which shares it fairly between connections. When a
+     * scheduler's queue is full, connections stop being read until it has room again.
+     * @param args The port, followed by the backends: "emulator" for a local Java engine or a serial port
+     *             descriptor such as "/dev/ttyACM0". Without backends, one local engine is used.
+     * @throws IOException If the socket cannot be bound.
+     */
+    public static void main(String[] args) throws IOException {
+        int port = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_PORT;
+        List<RoundPlayer> backends = new ArrayList<>();
+        for (int i = 1; i < args.length; i++) {
+            String descriptor = args[i];
+            if (descriptor.equals("emulator")) {
+                backends.add(new FairRoundScheduler(new GameController(new RPSServerEmulator())));
+            } else {
+                LinkSupervisor link = new LinkSupervisor(() -> new GameController(descriptor));
+                link.start();
+                backends.add(new FairRoundScheduler(link));
+            }
+        }
+        if (backends.isEmpty()) {
+            backends.add(new FairRoundScheduler(new GameController(new RPSServerEmulator())));
+        }
+
+        RPSGateway gateway = new RPSGateway(new InetSocketAddress(port), backends);
+        gateway.start();
+        System.out.println("RPS gateway listening on port " + gateway.port() + " with " + backends.size() + " backends");
+    }
+}
@@ -0,0 +1,138 @@
+package com.example.RPS_client.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * @file LatencyHistogram.java
+ * @brief Lock-free log-linear histogram of latencies in nanoseconds.
+ * @details Every power of two is split into SUB_BUCKETS linear buckets, so a bucket is at most 12.5% wide relative
+ *          to its values. Recording is one atomic increment per counter and never locks or allocates; percentiles
+ *          are computed from a pass over the buckets when they are read.
+ */
+public final class LatencyHistogram implements LatencyHistogramMBean {
+
+    /**
+     * @brief Number of bits selecting the linear bucket within a power of two.
+     */
+    private static final int SUB_BUCKET_BITS = 3;
+
+    /**
+     * @brief Number of linear buckets per power of two.
+     */
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+
+    /**
+     * @brief Number of buckets covering every non-negative long value.
+     */
+    private static final int BUCKETS = (Long.SIZE - SUB_BUCKET_BITS) * SUB_BUCKETS;
+
+    /**
+     * @brief Number of nanoseconds per microsecond.
+     */
+    private static final double NANOS_PER_MICRO = 1000.0;
+
+    /**
+     * @brief Number of recorded values per bucket.
+     */
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+
+    /**
+     * @brief Number of recorded values.
+     */
+    private final AtomicLong count = new AtomicLong();
+
+    /**
+     * @brief Highest recorded value.
+     */
+    private final AtomicLong max = new AtomicLong();
+
+    /**
+     * @brief Records a latency.
+     * @param nanos The latency in nanoseconds; negative values are recorded as 0.
+     */
+    public void record(long nanos) {
+        long value = Math.max(0, nanos);
+        counts.incrementAndGet(bucket(value));
+        count.incrementAndGet();
+        max.accumulateAndGet(value, Math::max);
+    }
+
+    /**
+     * @brief Returns a percentile of the recorded latencies.
+     * @param quantile The quantile between 0 and 1, e.g. 0.99.
+     * @return The upper bound of the bucket holding the percentile in nanoseconds, or 0 if nothing was recorded.
+     */
+    public long percentile(double quantile) {
+        long total = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            total += counts.get(i);
+        }
+        if (total == 0) {
+            return 0;
+        }
+
+        long rank = Math.max(1, (long) Math.ceil(quantile * total));
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += counts.get(i);
+            if (seen >= rank) {
+                return Math.min(upperBound(i), max.get());
+            }
+        }
+        return max.get();
+    }
+
+    @Override
+    public long getCount() {
+        return count.get();
+    }
+
+    @Override
+    public double getP50Micros() {
+        return percentile(0.5) / NANOS_PER_MICRO;
+    }
+
+    @Override
+    public double getP99Micros() {
+        return percentile(0.99) / NANOS_PER_MICRO;
+    }
+
+    @Override
+    public double getP999Micros() {
+        return percentile(0.999) / NANOS_PER_MICRO;
+    }
+
+    @Override
+    public double getMaxMicros() {
+        return max.get() / NANOS_PER_MICRO;
+    }
+
+    /**
+     * @brief Finds the bucket of a value.
+     * @param value The non-negative value.
+     * @return The bucket index.
+     */
+    static int bucket(long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+        int exponent = Long.SIZE - 1 - Long.numberOfLeadingZeros(value);
+        int subBucket = (int) (value >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+        return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + subBucket;
+    }
+
+    /**
+     * @brief Returns the highest value of a bucket.
+     * @param bucket The bucket index.
+     * @return The upper bound.
+     */
+    static long upperBound(int bucket) {
+        if (bucket < SUB_BUCKETS) {
+            return bucket;
+        }
+        int exponent = bucket / SUB_BUCKETS + SUB_BUCKET_BITS - 1;
+        long width = 1L << (exponent - SUB_BUCKET_BITS);
+        return (1L << exponent) + (bucket % SUB_BUCKETS + 1) * width - 1;
+    }
+}
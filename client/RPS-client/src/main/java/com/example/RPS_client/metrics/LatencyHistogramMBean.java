@@ -0,0 +1,38 @@
+package com.example.RPS_client.metrics;
+
+/**
+ * @file LatencyHistogramMBean.java
+ * @brief JMX view of a round-trip latency histogram.
+ */
+public interface LatencyHistogramMBean {
+
+    /**
+     * @brief Returns the number of recorded rounds.
+     * @return The round count.
+     */
+    long getCount();
+
+    /**
+     * @brief Returns the median latency.
+     * @return The 50th percentile in microseconds.
+     */
+    double getP50Micros();
+
+    /**
+     * @brief Returns the 99th percentile latency.
+     * @return The 99th percentile in microseconds.
+     */
+    double getP99Micros();
+
+    /**
+     * @brief Returns the 99.9th percentile latency.
+     * @return The 99.9th percentile in microseconds.
+     */
+    double getP999Micros();
+
+    /**
+     * @brief Returns the highest recorded latency.
+     * @return The maximum in microseconds.
+     */
+    double getMaxMicros();
+}
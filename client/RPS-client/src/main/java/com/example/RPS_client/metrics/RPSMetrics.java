@@ -0,0 +1,241 @@
+package com.example.RPS_client.metrics;
+
+import com.example.RPS_client.RPSGame.RPSMode;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * @file RPSMetrics.java
+ * @brief Process-wide metrics of the serial link, exposed as JMX MBeans.
+ * @details Communication and GameController record into the shared instance. Recording only updates striped
+ *          counters and lock-free histograms. Throughput and percentiles are computed when JMX reads them.
+ *          After register(), the counters are published as "com.example.RPS_client:type=Link" and the
+ *          latencies of each mode as "com.example.RPS_client:type=Latency,mode=<MODE>".
+ */
+public final class RPSMetrics implements RPSMetricsMBean {
+
+    /**
+     * @brief JMX domain of the MBeans.
+     */
+    public static final String DOMAIN = "com.example.RPS_client";
+
+    /**
+     * @brief The shared instance.
+     */
+    private static final RPSMetrics INSTANCE = new RPSMetrics();
+
+    /**
+     * @brief Round-trip latency histograms by game mode.
+     */
+    private final Map<RPSMode, LatencyHistogram> latencies = new EnumMap<>(RPSMode.class);
+
+    /**
+     * @brief Number of rounds whose results were received.
+     */
+    private final LongAdder rounds = new LongAdder();
+
+    /**
+     * @brief Number of bytes received.
+     */
+    private final LongAdder bytesIn = new LongAdder();
+
+    /**
+     * @brief Number of bytes sent.
+     */
+    private final LongAdder bytesOut = new LongAdder();
+
+    /**
+     * @brief Number of responses that could not be parsed.
+     */
+    private final LongAdder parseFailures = new LongAdder();
+
+    /**
+     * @brief Number of re-established links.
+     */
+    private final LongAdder reconnects = new LongAdder();
+
+    /**
+     * @brief Number of rounds resolved by the client without waiting for the server.
+     */
+    private final LongAdder localRounds = new LongAdder();
+
+    /**
+     * @brief Number of locally resolved rounds that were also played on the server for comparison.
+     */
+    private final LongAdder verifiedRounds = new LongAdder();
+
+    /**
+     * @brief Number of verified rounds whose server result differed from the local one.
+     */
+    private final LongAdder verificationMismatches = new LongAdder();
+
+    /**
+     * @brief Round count at the previous throughput reading.
+     */
+    private long sampledRounds;
+
+    /**
+     * @brief Time of the previous throughput reading, from System.nanoTime().
+     */
+    private long sampledNanos = System.nanoTime();
+
+    /**
+     * @brief Flag set once the MBeans are registered.
+     */
+    private boolean registered;
+
+    private RPSMetrics() {
+        for (RPSMode mode : RPSMode.values()) {
+            latencies.put(mode, new LatencyHistogram());
+        }
+    }
+
+    /**
+     * @brief Returns the shared instance.
+     * @return The process-wide metrics.
+     */
+    public static RPSMetrics instance() {
+        return INSTANCE;
+    }
+
+    /**
+     * @brief Registers the MBeans with the platform MBean server; later calls do nothing.
+     * @throws JMException If registration fails.
+     */
+    public synchronized void register() throws JMException {
+        if (registered) {
+            return;
+        }
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        server.registerMBean(this, new ObjectName(DOMAIN + ":type=Link"));
+        for (Map.Entry<RPSMode, LatencyHistogram> entry : latencies.entrySet()) {
+            server.registerMBean(entry.getValue(), new ObjectName(DOMAIN + ":type=Latency,mode=" + entry.getKey()));
+        }
+        registered = true;
+    }
+
+    /**
+     * @brief Records a completed round.
+     * @param mode The game mode.
+     * @param latencyNanos The round-trip latency in nanoseconds.
+     */
+    public void recordRound(RPSMode mode, long latencyNanos) {
+        latencies.get(mode).record(latencyNanos);
+        rounds.increment();
+    }
+
+    /**
+     * @brief Records received bytes.
+     * @param count The number of bytes.
+     */
+    public void recordBytesIn(int count) {
+        bytesIn.add(count);
+    }
+
+    /**
+     * @brief Records sent bytes.
+     * @param count The number of bytes.
+     */
+    public void recordBytesOut(int count) {
+        bytesOut.add(count);
+    }
+
+    /**
+     * @brief Records a response that could not be parsed.
+     */
+    public void recordParseFailure() {
+        parseFailures.increment();
+    }
+
+    /**
+     * @brief Records a re-established link.
+     */
+    public void recordReconnect() {
+        reconnects.increment();
+    }
+
+    /**
+     * @brief Records a round resolved by the client.
+     */
+    public void recordLocalRound() {
+        localRounds.increment();
+    }
+
+    /**
+     * @brief Records the comparison of a locally resolved round with the server's result.
+     * @param matched True if both results are equal.
+     */
+    public void recordVerification(boolean matched) {
+        verifiedRounds.increment();
+        if (!matched) {
+            verificationMismatches.increment();
+        }
+    }
+
+    /**
+     * @brief Returns the latency histogram of a game mode.
+     * @param mode The game mode.
+     * @return The histogram.
+     */
+    public LatencyHistogram latency(RPSMode mode) {
+        return latencies.get(mode);
+    }
+
+    @Override
+    public long getRounds() {
+        return rounds.sum();
+    }
+
+    @Override
+    public synchronized double getRoundsPerSecond() {
+        long now = System.nanoTime();
+        long total = rounds.sum();
+        double seconds = (now - sampledNanos) / (double) TimeUnit.SECONDS.toNanos(1);
+        double rate = seconds > 0 ? (total - sampledRounds) / seconds : 0;
+        sampledRounds = total;
+        sampledNanos = now;
+        return rate;
+    }
+
+    @Override
+    public long getBytesIn() {
+        return bytesIn.sum();
+    }
+
+    @Override
+    public long getBytesOut() {
+        return bytesOut.sum();
+    }
+
+    @Override
+    public long getParseFailures() {
+        return parseFailures.sum();
+    }
+
+    @Override
+    public long getReconnects() {
+        return reconnects.sum();
+    }
+
+    @Override
+    public long getLocalRounds() {
+        return localRounds.sum();
+    }
+
+    @Override
+    public long getVerifiedRounds() {
+        return verifiedRounds.sum();
+    }
+
+    @Override
+    public long getVerificationMismatches() {
+        return verificationMismatches.sum();
+    }
+}
@@ -0,0 +1,62 @@
+package com.example.RPS_client.metrics;
+
+/**
+ * @file RPSMetricsMBean.java
+ * @brief JMX view of the serial link counters.
+ */
+public interface RPSMetricsMBean {
+
+    /**
+     * @brief Returns the number of rounds whose results were received.
+     * @return The round count.
+     */
+    long getRounds();
+
+    /**
+     * @brief Returns the round throughput since the previous call.
+     * @return Rounds per second.
+     */
+    double getRoundsPerSecond();
+
+    /**
+     * @brief Returns the number of bytes received from the server.
+     * @return The byte count.
+     */
+    long getBytesIn();
+
+    /**
+     * @brief Returns the number of bytes sent to the server.
+     * @return The byte count.
+     */
+    long getBytesOut();
+
+    /**
+     * @brief Returns the number of server responses that could not be parsed.
+     * @return The failure count.
+     */
+    long getParseFailures();
+
+    /**
+     * @brief Returns the number of times the link was re-established after a loss.
+     * @return The reconnect count.
+     */
+    long getReconnects();
+
+    /**
+     * @brief Returns the number of rounds resolved by the client without waiting for the server.
+     * @return The round count.
+     */
+    long getLocalRounds();
+
+    /**
+     * @brief Returns the number of locally resolved rounds that were also played on the server for comparison.
+     * @return The round count.
+     */
+    long getVerifiedRounds();
+
+    /**
+     * @brief Returns the number of verified rounds whose server result differed from the local one.
+     * @return The mismatch count.
+     */
+    long getVerificationMismatches();
+}
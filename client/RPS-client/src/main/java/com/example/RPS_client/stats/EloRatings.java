@@ -0,0 +1,274 @@
+package com.example.RPS_client.stats;
+
+import com.example.RPS_client.DTO.GameDTO;
+import com.example.RPS_client.DTO.RatingDTO;
+import com.example.RPS_client.RPSGame.Outcome;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * @file EloRatings.java
+ * @brief Elo rating of every player, updated after each round and ranked on demand.
+ * @details Player names are interned into dense IDs. Ratings and game counts are primitive slots in fixed-size
+ *          chunks, so the table grows to any number of players without copying the slots. An update locks the
+ *          stripes of both players, always in stripe order, so rounds between unrelated players proceed in
+ *          parallel and a pair is never updated from stale ratings. Slots are written and read atomically,
+ *          so leaderboard queries take no locks; a query concurrent with updates may mix ratings from before
+ *          and after a round.
+ */
+public class EloRatings {
+
+    /**
+     * @brief Rating of a player who has not played yet.
+     */
+    public static final double DEFAULT_INITIAL_RATING = 1500;
+
+    /**
+     * @brief Maximum rating change per round.
+     */
+    public static final double DEFAULT_K_FACTOR = 32;
+
+    /**
+     * @brief Number of player slots per chunk; a power of two.
+     */
+    private static final int CHUNK_SIZE = 1024;
+
+    /**
+     * @brief Number of lock stripes; a power of two.
+     */
+    private static final int STRIPES = 64;
+
+    /**
+     * @brief Rating of a player who has not played yet.
+     */
+    private final double initialRating;
+
+    /**
+     * @brief Maximum rating change per round.
+     */
+    private final double kFactor;
+
+    /**
+     * @brief Locks guarding the updates of the players whose ID falls into each stripe.
+     */
+    private final Object[] stripes = new Object[STRIPES];
+
+    /**
+     * @brief Interned IDs by player name.
+     */
+    private final Map<String, Integer> ids = new ConcurrentHashMap<>();
+
+    /**
+     * @brief Slot chunks; the directory is replaced by a larger copy when it is full.
+     */
+    private volatile Chunk[] chunks = new Chunk[16];
+
+    /**
+     * @brief Number of interned players.
+     */
+    private volatile int playerCount;
+
+    /**
+     * @brief Constructor of the class with the default initial rating and K-factor.
+     */
+    public EloRatings() {
+        this(DEFAULT_INITIAL_RATING, DEFAULT_K_FACTOR);
+    }
+
+    /**
+     * @brief Constructor of the class.
+     * @param initialRating Rating of a player who has not played yet.
+     * @param kFactor Maximum rating change per round.
+     */
+    public EloRatings(double initialRating, double kFactor) {
+        this.initialRating = initialRating;
+        this.kFactor = kFactor;
+        for (int i = 0; i < STRIPES; i++) {
+            stripes[i] = new Object();
+        }
+    }
+
+    /**
+     * @brief Returns the interned ID of a player, registering the player on first use.
+     * @param name The player's name.
+     * @return The player ID.
+     */
+    public int playerId(String name) {
+        Integer id = ids.get(name);
+        return id != null ? id : register(name);
+    }
+
+    /**
+     * @brief Rates a round between two players.
+     * @param player1 The first player's name.
+     * @param player2 The second player's name.
+     * @param result The result of the round; an "AI" winner is the second player.
+     */
+    public void record(String player1, String player2, GameDTO result) {
+        Outcome outcome = result.outcome();
+        record(playerId(player1), playerId(player2),
+                outcome == Outcome.DRAW ? 0.5 : (outcome == Outcome.PLAYER_1 ? 1 : 0));
+    }
+
+    /**
+     * @brief Rates a round between two players given by their IDs.
+     * @param player1 The first player's ID.
+     * @param player2 The second player's ID.
+     * @param score1 The first player's score: 1 for a win, 0.5 for a draw and 0 for a loss.
+     * @details A round of a player against itself is ignored.
+     */
+    public void record(int player1, int player2, double score1) {
+        if (player1 == player2) {
+            return;
+        }
+        Chunk[] directory = chunks;
+        Chunk chunk1 = directory[player1 / CHUNK_SIZE];
+        Chunk chunk2 = directory[player2 / CHUNK_SIZE];
+        int slot1 = player1 & (CHUNK_SIZE - 1);
+        int slot2 = player2 & (CHUNK_SIZE - 1);
+        int stripe1 = player1 & (STRIPES - 1);
+        int stripe2 = player2 & (STRIPES - 1);
+
+        synchronized (stripes[Math.min(stripe1, stripe2)]) {
+            synchronized (stripes[Math.max(stripe1, stripe2)]) {
+                double rating1 = chunk1.rating(slot1);
+                double rating2 = chunk2.rating(slot2);
+                double expected1 = 1 / (1 + Math.pow(10, (rating2 - rating1) / 400));
+                double change = kFactor * (score1 - expected1);
+                chunk1.update(slot1, rating1 + change);
+                chunk2.update(slot2, rating2 - change);
+            }
+        }
+    }
+
+    /**
+     * @brief Returns a player's rating.
+     * @param name The player's name.
+     * @return The rating, or the initial rating if the player has not played.
+     */
+    public double rating(String name) {
+        Integer id = ids.get(name);
+        return id == null ? initialRating : chunks[id / CHUNK_SIZE].rating(id & (CHUNK_SIZE - 1));
+    }
+
+    /**
+     * @brief Returns the number of rated players.
+     * @return The player count.
+     */
+    public int size() {
+        return playerCount;
+    }
+
+    /**
+     * @brief Returns the highest rated players.
+     * @param k The maximum number of entries.
+     * @return The entries, highest rating first.
+     * @details Scans the rating slots once while keeping the best k in a min-heap, so a query over n players
+     *          costs O(n log k) time and O(k) memory, without locking out updates.
+     */
+    public List<RatingDTO> top(int k) {
+        if (k <= 0) {
+            return List.of();
+        }
+        int count = playerCount;
+        Chunk[] directory = chunks;
+        PriorityQueue<RatingDTO> best = new PriorityQueue<>(k + 1, Comparator.comparingDouble(RatingDTO::rating));
+
+        for (int id = 0; id < count; id++) {
+            Chunk chunk = directory[id / CHUNK_SIZE];
+            int slot = id & (CHUNK_SIZE - 1);
+            double rating = chunk.rating(slot);
+            if (best.size() == k && rating <= best.peek().rating()) {
+                continue;
+            }
+            best.add(new RatingDTO(chunk.names[slot], rating, chunk.games.get(slot)));
+            if (best.size() > k) {
+                best.poll();
+            }
+        }
+
+        List<RatingDTO> leaders = new ArrayList<>(best);
+        leaders.sort(Comparator.comparingDouble(RatingDTO::rating).reversed());
+        return leaders;
+    }
+
+    /**
+     * @brief Interns a new player.
+     * @param name The player's name.
+     * @return The player ID.
+     */
+    private synchronized int register(String name) {
+        Integer existing = ids.get(name);
+        if (existing != null) {
+            return existing;
+        }
+        int id = playerCount;
+        int chunkIndex = id / CHUNK_SIZE;
+        Chunk[] directory = chunks;
+        if (chunkIndex == directory.length) {
+            directory = Arrays.copyOf(directory, directory.length * 2);
+        }
+        if (directory[chunkIndex] == null) {
+            directory[chunkIndex] = new Chunk(initialRating);
+        }
+        directory[chunkIndex].names[id & (CHUNK_SIZE - 1)] = name;
+        chunks = directory;
+        playerCount = id + 1;
+        ids.put(name, id);
+        return id;
+    }
+
+    /**
+     * @brief Slots of CHUNK_SIZE consecutive player IDs.
+     */
+    private static final class Chunk {
+
+        /**
+         * @brief Ratings as raw double bits.
+         */
+        private final AtomicLongArray ratings = new AtomicLongArray(CHUNK_SIZE);
+
+        /**
+         * @brief Numbers of rated rounds.
+         */
+        private final AtomicLongArray games = new AtomicLongArray(CHUNK_SIZE);
+
+        /**
+         * @brief Player names; written before the player count is published.
+         */
+        private final String[] names = new String[CHUNK_SIZE];
+
+        Chunk(double initialRating) {
+            long bits = Double.doubleToRawLongBits(initialRating);
+            for (int i = 0; i < CHUNK_SIZE; i++) {
+                ratings.set(i, bits);
+            }
+        }
+
+        /**
+         * @brief Reads a rating.
+         * @param slot The slot.
+         * @return The rating.
+         */
+        double rating(int slot) {
+            return Double.longBitsToDouble(ratings.get(slot));
+        }
+
+        /**
+         * @brief Stores a new rating after a rated round; the caller holds the slot's stripe lock.
+         * @param slot The slot.
+         * @param rating The new rating.
+         */
+        void update(int slot, double rating) {
+            ratings.set(slot, Double.doubleToRawLongBits(rating));
+            games.incrementAndGet(slot);
+        }
+    }
+}
@@ -0,0 +1,289 @@
+package com.example.RPS_client.stats;
+
+import com.example.RPS_client.DTO.GameDTO;
+import com.example.RPS_client.DTO.PlayerStatsDTO;
+import com.example.RPS_client.RPSGame.Outcome;
+import com.example.RPS_client.RPSGame.RPSPlayer;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * @file PlayerStatistics.java
+ * @brief Incrementally updated statistics of every player, fed with each round result.
+ * @details Player names are interned into dense integer IDs once, and every player's statistics are a flat
+ *          array of primitive counters, so recording a round is a constant number of array increments. Updates of a
+ *          player are serialised by its StampedLock; queries read the counters optimistically like a seqlock and
+ *          retry if an update interleaved, so readers never block writers and never wait on them unless an update
+ *          is in progress on every attempt.
+ */
+public class PlayerStatistics {
+
+    /**
+     * @brief Counter slot of the number of wins.
+     */
+    private static final int WINS = 0;
+
+    /**
+     * @brief Counter slot of the number of losses.
+     */
+    private static final int LOSSES = 1;
+
+    /**
+     * @brief Counter slot of the number of draws.
+     */
+    private static final int DRAWS = 2;
+
+    /**
+     * @brief Counter slot of the current streak, positive for wins and negative for losses.
+     */
+    private static final int STREAK = 3;
+
+    /**
+     * @brief Counter slot of the longest win streak.
+     */
+    private static final int LONGEST_WIN_STREAK = 4;
+
+    /**
+     * @brief Counter slot of the longest loss streak.
+     */
+    private static final int LONGEST_LOSS_STREAK = 5;
+
+    /**
+     * @brief Number of moves.
+     */
+    private static final int MOVE_COUNT = RPSPlayer.Move.values().length;
+
+    /**
+     * @brief First of the counter slots of played moves, indexed by move ordinal.
+     */
+    private static final int MOVES = 6;
+
+    /**
+     * @brief First of the counter slots of rounds against each opponent move.
+     */
+    private static final int ROUNDS_AGAINST = MOVES + MOVE_COUNT;
+
+    /**
+     * @brief First of the counter slots of wins against each opponent move.
+     */
+    private static final int WINS_AGAINST = ROUNDS_AGAINST + MOVE_COUNT;
+
+    /**
+     * @brief Number of counter slots per player.
+     */
+    private static final int SLOTS = WINS_AGAINST + MOVE_COUNT;
+
+    /**
+     * @brief Number of optimistic reads attempted before a query waits for the update in progress.
+     */
+    private static final int OPTIMISTIC_ATTEMPTS = 8;
+
+    /**
+     * @brief Interned IDs by player name.
+     */
+    private final Map<String, Integer> ids = new ConcurrentHashMap<>();
+
+    /**
+     * @brief Statistics by player ID; replaced by a larger copy when it is full.
+     */
+    private volatile PlayerCounters[] players = new PlayerCounters[16];
+
+    /**
+     * @brief Number of interned players.
+     */
+    private volatile int playerCount;
+
+    /**
+     * @brief Returns the interned ID of a player, registering the player on first use.
+     * @param name The player's name.
+     * @return The player ID.
+     */
+    public int playerId(String name) {
+        Integer id = ids.get(name);
+        return id != null ? id : register(name);
+    }
+
+    /**
+     * @brief Records a round between two players.
+     * @param player1 The first player's name.
+     * @param player2 The second player's name.
+     * @param result The result and moves of the round.
+     */
+    public void record(String player1, String player2, GameDTO result) {
+        record(playerId(player1), playerId(player2), result);
+    }
+
+    /**
+     * @brief Records a round between two players given by their IDs.
+     * @param player1 The first player's ID.
+     * @param player2 The second player's ID.
+     * @param result The result and moves of the round; an "AI" winner is the second player.
+     */
+    public void record(int player1, int player2, GameDTO result) {
+        Outcome outcome = result.outcome();
+        int move1 = result.player1Move().ordinal();
+        int move2 = result.player2Move().ordinal();
+        boolean player1Won = outcome == Outcome.PLAYER_1;
+        boolean draw = outcome == Outcome.DRAW;
+
+        PlayerCounters[] current = players;
+        current[player1].update(move1, move2, draw, player1Won);
+        current[player2].update(move2, move1, draw, !draw && !player1Won);
+    }
+
+    /**
+     * @brief Returns a consistent snapshot of a player's statistics.
+     * @param name The player's name.
+     * @return The snapshot, or null if the player has not played.
+     */
+    public PlayerStatsDTO snapshot(String name) {
+        Integer id = ids.get(name);
+        return id == null ? null : snapshot(id);
+    }
+
+    /**
+     * @brief Returns a consistent snapshot of a player's statistics.
+     * @param playerId The player's ID.
+     * @return The snapshot.
+     */
+    public PlayerStatsDTO snapshot(int playerId) {
+        return players[playerId].snapshot();
+    }
+
+    /**
+     * @brief Returns snapshots of every player, in the order they first played.
+     * @return The snapshots.
+     */
+    public List<PlayerStatsDTO> snapshots() {
+        PlayerCounters[] current = players;
+        int count = playerCount;
+        List<PlayerStatsDTO> snapshots = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            snapshots.add(current[i].snapshot());
+        }
+        return snapshots;
+    }
+
+    /**
+     * @brief Interns a new player.
+     * @param name The player's name.
+     * @return The player ID.
+     */
+    private synchronized int register(String name) {
+        Integer existing = ids.get(name);
+        if (existing != null) {
+            return existing;
+        }
+        int id = playerCount;
+        PlayerCounters[] current = players;
+        if (id == current.length) {
+            current = Arrays.copyOf(current, id * 2);
+        }
+        current[id] = new PlayerCounters(name);
+        players = current;
+        playerCount = id + 1;
+        ids.put(name, id);
+        return id;
+    }
+
+    /**
+     * @brief Statistics counters of one player.
+     */
+    private static final class PlayerCounters {
+
+        /**
+         * @brief The player's name.
+         */
+        private final String name;
+
+        /**
+         * @brief The counters, indexed by slot.
+         */
+        private final long[] counters = new long[SLOTS];
+
+        /**
+         * @brief Serialises updates and validates optimistic reads.
+         */
+        private final StampedLock lock = new StampedLock();
+
+        PlayerCounters(String name) {
+            this.name = name;
+        }
+
+        /**
+         * @brief Applies one round to the counters.
+         * @param move The player's move ordinal.
+         * @param opponentMove The opponent's move ordinal.
+         * @param draw True if the round was drawn.
+         * @param won True if the player won.
+         */
+        void update(int move, int opponentMove, boolean draw, boolean won) {
+            long stamp = lock.writeLock();
+            try {
+                counters[MOVES + move]++;
+                counters[ROUNDS_AGAINST + opponentMove]++;
+                if (draw) {
+                    counters[DRAWS]++;
+                    counters[STREAK] = 0;
+                } else if (won) {
+                    counters[WINS]++;
+                    counters[WINS_AGAINST + opponentMove]++;
+                    long streak = Math.max(0, counters[STREAK]) + 1;
+                    counters[STREAK] = streak;
+                    counters[LONGEST_WIN_STREAK] = Math.max(counters[LONGEST_WIN_STREAK], streak);
+                } else {
+                    counters[LOSSES]++;
+                    long streak = Math.min(0, counters[STREAK]) - 1;
+                    counters[STREAK] = streak;
+                    counters[LONGEST_LOSS_STREAK] = Math.max(counters[LONGEST_LOSS_STREAK], -streak);
+                }
+            } finally {
+                lock.unlockWrite(stamp);
+            }
+        }
+
+        /**
+         * @brief Copies the counters without blocking an update, retrying if one interleaved.
+         * @return The snapshot.
+         */
+        PlayerStatsDTO snapshot() {
+            long[] copy = new long[SLOTS];
+            for (int attempt = 0; attempt < OPTIMISTIC_ATTEMPTS; attempt++) {
+                long stamp = lock.tryOptimisticRead();
+                if (stamp != 0) {
+                    System.arraycopy(counters, 0, copy, 0, SLOTS);
+                    if (lock.validate(stamp)) {
+                        return toDto(copy);
+                    }
+                }
+                Thread.onSpinWait();
+            }
+
+            long stamp = lock.readLock();
+            try {
+                System.arraycopy(counters, 0, copy, 0, SLOTS);
+            } finally {
+                lock.unlockRead(stamp);
+            }
+            return toDto(copy);
+        }
+
+        /**
+         * @brief Converts copied counters into a snapshot.
+         * @param copy The copied counters.
+         * @return The snapshot.
+         */
+        private PlayerStatsDTO toDto(long[] copy) {
+            return new PlayerStatsDTO(name, copy[WINS], copy[LOSSES], copy[DRAWS], copy[STREAK],
+                    copy[LONGEST_WIN_STREAK], copy[LONGEST_LOSS_STREAK],
+                    Arrays.copyOfRange(copy, MOVES, MOVES + MOVE_COUNT),
+                    Arrays.copyOfRange(copy, ROUNDS_AGAINST, ROUNDS_AGAINST + MOVE_COUNT),
+                    Arrays.copyOfRange(copy, WINS_AGAINST, WINS_AGAINST + MOVE_COUNT));
+        }
+    }
+}
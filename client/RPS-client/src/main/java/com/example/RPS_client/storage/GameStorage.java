@@ -0,0 +1,221 @@
+package com.example.RPS_client.storage;
+
+import com.example.RPS_client.DTO.ArchiveReportDTO;
+import com.example.RPS_client.DTO.SavedGameDTO;
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonIOException;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.MalformedJsonException;
+
+import java.io.BufferedReader;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+/**
+ * @file GameStorage.java
+ * @brief Saves and loads games as JSON files.
+ * @details The Gson instance is built once and shared, as it is thread-safe and expensive to create. Archives
+ *          holding many games are streamed with a JsonReader instead of being bound as a whole.
+ */
+public class GameStorage {
+
+    /**
+     * @brief JSON field names of a saved game, in SavedGameDTO component order.
+     */
+    private static final String[] FIELD_NAMES = {"Player1Name", "Player2Name", "Player1Move", "Player2Move", "Winner"};
+
+    /**
+     * @brief Gson instance writing pretty-printed JSON.
+     */
+    private final Gson gson = new GsonBuilder().setPrettyPrinting().create();
+
+    /**
+     * @brief Saves a game to a file, replacing its content.
+     * @param file The file to save the game to.
+     * @param game The game to save.
+     * @throws IOException If an I/O error occurs during file writing.
+     */
+    public void save(Path file, SavedGameDTO game) throws IOException {
+        try (Writer writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            save(writer, game);
+        }
+    }
+
+    /**
+     * @brief Writes a game as JSON.
+     * @param writer The writer receiving the JSON; it is not closed.
+     * @param game The game to save.
+     * @throws IOException If an I/O error occurs during writing.
+     */
+    public void save(Writer writer, SavedGameDTO game) throws IOException {
+        try {
+            gson.toJson(game, SavedGameDTO.class, writer);
+        } catch (JsonIOException e) {
+            throw new IOException("Failed to write game: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * @brief Loads a game from a file.
+     * @param file The file containing the saved game data.
+     * @return The game, or null if the file is empty.
+     * @throws IOException If an error occurs while reading the file.
+     * @throws com.google.gson.JsonSyntaxException If the file is not valid JSON.
+     */
+    public SavedGameDTO load(Path file) throws IOException {
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            return load(reader);
+        }
+    }
+
+    /**
+     * @brief Reads a game from JSON.
+     * @param reader The reader supplying the JSON; it is not closed.
+     * @return The game, or null if the input is empty.
+     * @throws IOException If an error occurs while reading.
+     * @throws com.google.gson.JsonSyntaxException If the input is not valid JSON.
+     */
+    public SavedGameDTO load(Reader reader) throws IOException {
+        try {
+            return gson.fromJson(reader, SavedGameDTO.class);
+        } catch (JsonIOException e) {
+            throw new IOException("Failed to read game: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * @brief Streams the games of an archive file to a callback.
+     * @param file A JSON file holding an array of games or a single game.
+     * @param onGame Receives each well-formed game.
+     * @param onMalformed Receives the index and a description of each skipped record.
+     * @return The numbers of loaded and skipped games.
+     * @throws IOException If the file cannot be read.
+     */
+    public ArchiveReportDTO loadArchive(Path file, Consumer<SavedGameDTO> onGame,
+                                        BiConsumer<Long, String> onMalformed) throws IOException {
+        try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            return loadArchive(reader, onGame, onMalformed);
+        }
+    }
+
+    /**
+     * @brief Streams the games of a JSON archive to a callback.
+     * @param reader The reader supplying the JSON; it is not closed.
+     * @param onGame Receives each well-formed game.
+     * @param onMalformed Receives the index and a description of each skipped record.
+     * @return The numbers of loaded and skipped games.
+     * @throws IOException If an error occurs while reading.
+     * @details Only one game is held in memory at a time. A record that is not an object or has a field of the
+     *          wrong type is skipped. A JSON syntax error cannot be skipped reliably, so it is reported and ends
+     *          the stream with an incomplete report.
+     */
+    public ArchiveReportDTO loadArchive(Reader reader, Consumer<SavedGameDTO> onGame,
+                                        BiConsumer<Long, String> onMalformed) throws IOException {
+        JsonReader jsonReader = new JsonReader(reader);
+        long index = 0;
+        long loaded = 0;
+        try {
+            if (jsonReader.peek() == JsonToken.END_DOCUMENT) {
+                return new ArchiveReportDTO(0, 0, true);
+            }
+            if (jsonReader.peek() != JsonToken.BEGIN_ARRAY) {
+                loaded += deliver(readGame(jsonReader, index, onMalformed), onGame);
+                index++;
+                return new ArchiveReportDTO(loaded, index - loaded, true);
+            }
+
+            jsonReader.beginArray();
+            while (jsonReader.hasNext()) {
+                loaded += deliver(readGame(jsonReader, index, onMalformed), onGame);
+                index++;
+            }
+            jsonReader.endArray();
+            return new ArchiveReportDTO(loaded, index - loaded, true);
+        } catch (MalformedJsonException | IllegalStateException | EOFException e) {
+            onMalformed.accept(index, "Unreadable JSON: " + e.getMessage());
+            return new ArchiveReportDTO(loaded, index + 1 - loaded, false);
+        }
+    }
+
+    /**
+     * @brief Passes a game to the callback unless its record was skipped.
+     * @param game The game, or null if the record was skipped.
+     * @param onGame Receives the game.
+     * @return 1 if the game was passed on, 0 otherwise.
+     */
+    private static int deliver(SavedGameDTO game, Consumer<SavedGameDTO> onGame) {
+        if (game == null) {
+            return 0;
+        }
+        onGame.accept(game);
+        return 1;
+    }
+
+    /**
+     * @brief Reads one archive record.
+     * @param jsonReader The reader positioned at the record.
+     * @param index The index of the record.
+     * @param onMalformed Receives the index and a description if the record is skipped.
+     * @return The game, or null if the record was skipped.
+     * @throws IOException If an error occurs while reading.
+     */
+    private static SavedGameDTO readGame(JsonReader jsonReader, long index,
+                                         BiConsumer<Long, String> onMalformed) throws IOException {
+        if (jsonReader.peek() != JsonToken.BEGIN_OBJECT) {
+            onMalformed.accept(index, "Expected a game object but found " + jsonReader.peek());
+            jsonReader.skipValue();
+            return null;
+        }
+
+        String[] fields = new String[FIELD_NAMES.length];
+        String problem = null;
+        jsonReader.beginObject();
+        while (jsonReader.hasNext()) {
+            String name = jsonReader.nextName();
+            int field = fieldIndex(name);
+            JsonToken token = jsonReader.peek();
+            if (field < 0) {
+                jsonReader.skipValue();
+            } else if (token == JsonToken.STRING) {
+                fields[field] = jsonReader.nextString();
+            } else if (token == JsonToken.NULL) {
+                jsonReader.nextNull();
+            } else {
+                jsonReader.skipValue();
+                if (problem == null) {
+                    problem = "Field " + name + " must be a string but is " + token;
+                }
+            }
+        }
+        jsonReader.endObject();
+
+        if (problem != null) {
+            onMalformed.accept(index, problem);
+            return null;
+        }
+        return new SavedGameDTO(fields[0], fields[1], fields[2], fields[3], fields[4]);
+    }
+
+    /**
+     * @brief Looks up a known game field.
+     * @param name The JSON field name.
+     * @return The index in FIELD_NAMES, or -1 for unknown fields.
+     */
+    private static int fieldIndex(String name) {
+        for (int i = 0; i < FIELD_NAMES.length; i++) {
+            if (FIELD_NAMES[i].equals(name)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
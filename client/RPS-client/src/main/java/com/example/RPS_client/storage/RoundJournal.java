@@ -0,0 +1,408 @@
+package com.example.RPS_client.storage;
+
+import com.example.RPS_client.DTO.GameDTO;
+import com.example.RPS_client.DTO.JournalEntryDTO;
+import com.example.RPS_client.RPSGame.Outcome;
+import com.example.RPS_client.RPSGame.RPSMode;
+import com.example.RPS_client.RPSGame.RPSPlayer;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.zip.CRC32;
+
+/**
+ * @file RoundJournal.java
+ * @brief Append-only journal of played rounds in a memory-mapped file.
+ * @details The file starts with a header followed by fixed-width records:
+ *          - round number (8 bytes)
+ *          - timestamp in milliseconds (8 bytes)
+ *          - mode, move 1, move 2 and outcome code (1 byte each)
+ *          - CRC-32 of the preceding 20 bytes (4 bytes)
+ *          Appends are plain memory writes; the mapping is forced to disk every syncInterval rounds, on flush() and
+ *          on close(). On open, records are validated in order and the journal ends at the first record with a
+ *          wrong round number or checksum, so a round torn by a crash is dropped. Timestamps never decrease, which
+ *          lets a sparse index of every INDEX_INTERVAL-th timestamp narrow a timestamp search down to one block.
+ */
+public class RoundJournal implements AutoCloseable {
+
+    /**
+     * @brief Size of the file header in bytes.
+     */
+    public static final int HEADER_SIZE = 16;
+
+    /**
+     * @brief Size of one record in bytes.
+     */
+    public static final int RECORD_SIZE = 24;
+
+    /**
+     * @brief Default number of appended rounds between two syncs to disk.
+     */
+    public static final int DEFAULT_SYNC_INTERVAL = 64;
+
+    /**
+     * @brief Number of rounds between two entries of the sparse timestamp index.
+     */
+    public static final int INDEX_INTERVAL = 1024;
+
+    /**
+     * @brief Magic number identifying a journal file ("RPSJ").
+     */
+    private static final int MAGIC = 0x5250534A;
+
+    /**
+     * @brief Version of the file format.
+     */
+    private static final int VERSION = 1;
+
+    /**
+     * @brief Number of records the mapping grows by when it is full.
+     */
+    private static final int GROWTH_RECORDS = 1 << 14;
+
+    /**
+     * @brief Number of record bytes covered by the checksum.
+     */
+    private static final int CHECKED_SIZE = RECORD_SIZE - Integer.BYTES;
+
+    /**
+     * @brief Cached mode values indexed by ordinal.
+     */
+    private static final RPSMode[] MODES = RPSMode.values();
+
+    /**
+     * @brief Cached move values indexed by ordinal.
+     */
+    private static final RPSPlayer.Move[] MOVES = RPSPlayer.Move.values();
+
+    /**
+     * @brief Cached outcome values indexed by code.
+     */
+    private static final Outcome[] OUTCOMES = Outcome.values();
+
+    /**
+     * @brief Channel of the journal file.
+     */
+    private final FileChannel channel;
+
+    /**
+     * @brief Number of appended rounds between two syncs to disk.
+     */
+    private final int syncInterval;
+
+    /**
+     * @brief Checksum calculator reused for every record.
+     */
+    private final CRC32 crc = new CRC32();
+
+    /**
+     * @brief Scratch record reused for every read and write.
+     */
+    private final byte[] record = new byte[RECORD_SIZE];
+
+    /**
+     * @brief View of the scratch record for multi-byte fields.
+     */
+    private final ByteBuffer recordView = ByteBuffer.wrap(record);
+
+    /**
+     * @brief Mapping of the header and all record slots.
+     */
+    private MappedByteBuffer buffer;
+
+    /**
+     * @brief Number of record slots covered by the mapping.
+     */
+    private long capacity;
+
+    /**
+     * @brief Number of valid rounds.
+     */
+    private long size;
+
+    /**
+     * @brief Timestamp of the last round.
+     */
+    private long lastTimestamp;
+
+    /**
+     * @brief Rounds appended since the last sync to disk.
+     */
+    private int unsynced;
+
+    /**
+     * @brief Timestamp of every INDEX_INTERVAL-th round.
+     */
+    private long[] index = new long[16];
+
+    /**
+     * @brief Number of used index entries.
+     */
+    private int indexSize;
+
+    /**
+     * @brief Opens or creates a journal with the default sync interval.
+     * @param file The journal file.
+     * @throws IOException If the file cannot be opened or is not a journal.
+     */
+    public RoundJournal(Path file) throws IOException {
+        this(file, DEFAULT_SYNC_INTERVAL);
+    }
+
+    /**
+     * @brief Opens or creates a journal and recovers its valid rounds.
+     * @param file The journal file.
+     * @param syncInterval Number of appended rounds between two syncs to disk.
+     * @throws IOException If the file cannot be opened or is not a journal.
+     */
+    public RoundJournal(Path file, int syncInterval) throws IOException {
+        if (syncInterval <= 0) {
+            throw new IllegalArgumentException("Sync interval must be positive: " + syncInterval);
+        }
+        this.syncInterval = syncInterval;
+        channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            long fileSize = channel.size();
+            long slots = Math.max(0, (fileSize - HEADER_SIZE) / RECORD_SIZE);
+            map(Math.max(slots, GROWTH_RECORDS));
+            if (fileSize < HEADER_SIZE) {
+                buffer.putInt(0, MAGIC).putInt(4, VERSION).putInt(8, RECORD_SIZE);
+                buffer.force();
+            } else if (buffer.getInt(0) != MAGIC || buffer.getInt(4) != VERSION || buffer.getInt(8) != RECORD_SIZE) {
+                throw new IOException("Not a round journal: " + file);
+            }
+            recover(slots);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * @brief Appends a round stamped with the current time.
+     * @param mode The game mode.
+     * @param result The result and moves of the round.
+     * @return The round number.
+     * @throws IOException If the journal cannot grow or sync.
+     */
+    public long append(RPSMode mode, GameDTO result) throws IOException {
+        return append(mode, result, System.currentTimeMillis());
+    }
+
+    /**
+     * @brief Appends a round.
+     * @param mode The game mode.
+     * @param result The result and moves of the round.
+     * @param timestampMillis The time of the round; raised to the previous round's time if it is earlier.
+     * @return The round number.
+     * @throws IOException If the journal is closed or cannot grow or sync.
+     */
+    public synchronized long append(RPSMode mode, GameDTO result, long timestampMillis) throws IOException {
+        ensureOpen();
+        if (size == capacity) {
+            flush();
+            map(capacity + GROWTH_RECORDS);
+        }
+
+        long roundNumber = size;
+        long timestamp = Math.max(timestampMillis, lastTimestamp);
+        recordView.putLong(0, roundNumber).putLong(8, timestamp);
+        record[16] = (byte) mode.ordinal();
+        record[17] = (byte) result.player1Move().ordinal();
+        record[18] = (byte) result.player2Move().ordinal();
+        record[19] = (byte) result.outcome().code();
+        crc.reset();
+        crc.update(record, 0, CHECKED_SIZE);
+        recordView.putInt(CHECKED_SIZE, (int) crc.getValue());
+        buffer.put(offset(roundNumber), record);
+
+        size++;
+        lastTimestamp = timestamp;
+        if (roundNumber % INDEX_INTERVAL == 0) {
+            addIndexEntry(timestamp);
+        }
+        if (++unsynced >= syncInterval) {
+            flush();
+        }
+        return roundNumber;
+    }
+
+    /**
+     * @brief Reads a round.
+     * @param roundNumber The round number.
+     * @return The round.
+     * @throws IndexOutOfBoundsException If no round with that number exists.
+     * @throws IOException If the journal is closed.
+     */
+    public synchronized JournalEntryDTO read(long roundNumber) throws IOException {
+        ensureOpen();
+        if (roundNumber < 0 || roundNumber >= size) {
+            throw new IndexOutOfBoundsException("Round " + roundNumber + " not in journal of " + size + " rounds");
+        }
+        buffer.get(offset(roundNumber), record);
+        GameDTO result = GameDTO.of(OUTCOMES[record[19]], MOVES[record[17]], MOVES[record[18]]);
+        return new JournalEntryDTO(roundNumber, recordView.getLong(8), MODES[record[16]], result);
+    }
+
+    /**
+     * @brief Finds the first round recorded at or after a given time.
+     * @param timestampMillis The time in milliseconds since the epoch.
+     * @return The round number, or size() if all rounds are older.
+     * @throws IOException If the journal is closed.
+     */
+    public synchronized long findByTimestamp(long timestampMillis) throws IOException {
+        ensureOpen();
+        int low = 0;
+        int high = indexSize;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (index[middle] < timestampMillis) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        if (low == 0) {
+            return 0;
+        }
+
+        long roundNumber = (long) (low - 1) * INDEX_INTERVAL;
+        long end = Math.min(size, (long) low * INDEX_INTERVAL);
+        while (roundNumber < end && buffer.getLong(offset(roundNumber) + 8) < timestampMillis) {
+            roundNumber++;
+        }
+        return roundNumber;
+    }
+
+    /**
+     * @brief Returns the number of rounds in the journal.
+     * @return The round count.
+     */
+    public synchronized long size() {
+        return size;
+    }
+
+    /**
+     * @brief Syncs the appended rounds to disk.
+     * @throws IOException If the journal is closed.
+     */
+    public synchronized void flush() throws IOException {
+        ensureOpen();
+        if (unsynced > 0) {
+            buffer.force();
+            unsynced = 0;
+        }
+    }
+
+    /**
+     * @brief Syncs the appended rounds to disk and closes the file.
+     * @throws IOException If the file cannot be closed.
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        if (buffer == null) {
+            return;
+        }
+        try {
+            flush();
+        } finally {
+            buffer = null;
+            channel.close();
+        }
+    }
+
+    /**
+     * @brief Maps the header and a number of record slots, growing the file if needed.
+     * @param slots The number of record slots.
+     * @throws IOException If the mapping exceeds the maximum size or fails.
+     */
+    private void map(long slots) throws IOException {
+        long length = HEADER_SIZE + slots * RECORD_SIZE;
+        if (length > Integer.MAX_VALUE) {
+            throw new IOException("Round journal is full");
+        }
+        buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, length);
+        capacity = slots;
+    }
+
+    /**
+     * @brief Counts the valid rounds, rebuilds the index and clears the slots after the last valid round.
+     * @param slots The number of record slots in the file.
+     */
+    private void recover(long slots) {
+        while (size < slots && isValid(size)) {
+            long timestamp = recordView.getLong(8);
+            if (size % INDEX_INTERVAL == 0) {
+                addIndexEntry(timestamp);
+            }
+            lastTimestamp = timestamp;
+            size++;
+        }
+
+        boolean cleared = false;
+        Arrays.fill(record, (byte) 0);
+        for (long slot = size; slot < slots; slot++) {
+            if (buffer.getLong(offset(slot)) != 0 || buffer.getLong(offset(slot) + 8) != 0
+                    || buffer.getLong(offset(slot) + 16) != 0) {
+                buffer.put(offset(slot), record);
+                cleared = true;
+            }
+        }
+        if (cleared) {
+            buffer.force();
+        }
+    }
+
+    /**
+     * @brief Loads a record into the scratch record and validates it.
+     * @param roundNumber The expected round number of the slot.
+     * @return True if the record holds that round and its checksum matches.
+     */
+    private boolean isValid(long roundNumber) {
+        buffer.get(offset(roundNumber), record);
+        crc.reset();
+        crc.update(record, 0, CHECKED_SIZE);
+        return recordView.getLong(0) == roundNumber
+                && recordView.getInt(CHECKED_SIZE) == (int) crc.getValue()
+                && recordView.getLong(8) >= lastTimestamp
+                && record[16] >= 0 && record[16] < MODES.length
+                && record[17] >= 0 && record[17] < MOVES.length
+                && record[18] >= 0 && record[18] < MOVES.length
+                && record[19] >= 0 && record[19] < OUTCOMES.length;
+    }
+
+    /**
+     * @brief Adds a timestamp to the sparse index.
+     * @param timestamp The timestamp of the round starting the next index block.
+     */
+    private void addIndexEntry(long timestamp) {
+        if (indexSize == index.length) {
+            index = Arrays.copyOf(index, indexSize * 2);
+        }
+        index[indexSize++] = timestamp;
+    }
+
+    /**
+     * @brief Returns the byte offset of a record slot.
+     * @param roundNumber The round number.
+     * @return The offset in the mapping.
+     */
+    private static int offset(long roundNumber) {
+        return (int) (HEADER_SIZE + roundNumber * RECORD_SIZE);
+    }
+
+    /**
+     * @brief Checks that the journal has not been closed.
+     * @throws IOException If the journal is closed.
+     */
+    private void ensureOpen() throws IOException {
+        if (buffer == null) {
+            throw new IOException("Round journal is closed");
+        }
+    }
+}
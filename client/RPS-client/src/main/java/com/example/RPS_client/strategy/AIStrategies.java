@@ -0,0 +1,58 @@
+package com.example.RPS_client.strategy;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.ServiceLoader;
+
+/**
+ * @file AIStrategies.java
+ * @brief Registry of the AI strategies available through the AIStrategyProvider SPI.
+ */
+public final class AIStrategies {
+
+    /**
+     * @brief Providers by name, in discovery order.
+     */
+    private static final Map<String, AIStrategyProvider> PROVIDERS = load();
+
+    private AIStrategies() {
+    }
+
+    /**
+     * @brief Returns the names of all registered strategies.
+     * @return The strategy names.
+     */
+    public static List<String> names() {
+        return Collections.unmodifiableList(new ArrayList<>(PROVIDERS.keySet()));
+    }
+
+    /**
+     * @brief Creates a strategy for a new game.
+     * @param name The strategy name.
+     * @param seed Seed for any randomness of the strategy.
+     * @return A new strategy instance.
+     * @throws IllegalArgumentException If no strategy with that name is registered.
+     */
+    public static AIStrategy create(String name, long seed) {
+        AIStrategyProvider provider = PROVIDERS.get(name);
+        if (provider == null) {
+            throw new IllegalArgumentException("Unknown AI strategy: " + name);
+        }
+        return provider.create(seed);
+    }
+
+    /**
+     * @brief Discovers the registered providers.
+     * @return Providers by name.
+     */
+    private static Map<String, AIStrategyProvider> load() {
+        Map<String, AIStrategyProvider> providers = new LinkedHashMap<>();
+        for (AIStrategyProvider provider : ServiceLoader.load(AIStrategyProvider.class, AIStrategies.class.getClassLoader())) {
+            providers.putIfAbsent(provider.name(), provider);
+        }
+        return providers;
+    }
+}
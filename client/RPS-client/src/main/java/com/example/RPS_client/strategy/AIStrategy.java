@@ -0,0 +1,24 @@
+package com.example.RPS_client.strategy;
+
+import com.example.RPS_client.RPSGame.RPSPlayer;
+
+/**
+ * @file AIStrategy.java
+ * @brief Move selection of an AI player for a single game.
+ * @details Implementations keep per-game state, so a fresh instance is created for every game through an
+ *          AIStrategyProvider. Both operations are expected to run in constant time without allocating.
+ */
+public interface AIStrategy {
+
+    /**
+     * @brief Chooses the AI's next move.
+     * @return The move.
+     */
+    RPSPlayer.Move nextMove();
+
+    /**
+     * @brief Records the opponent's move of the round just played.
+     * @param opponentMove The opponent's move.
+     */
+    void observe(RPSPlayer.Move opponentMove);
+}
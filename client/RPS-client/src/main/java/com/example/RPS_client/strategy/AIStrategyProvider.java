@@ -0,0 +1,23 @@
+package com.example.RPS_client.strategy;
+
+/**
+ * @file AIStrategyProvider.java
+ * @brief Service provider interface for AI strategies.
+ * @details Providers are discovered with java.util.ServiceLoader: declare them with "provides" in module-info and,
+ *          for classpath deployments, in META-INF/services.
+ */
+public interface AIStrategyProvider {
+
+    /**
+     * @brief Returns the unique name the strategy is selected by.
+     * @return The strategy name.
+     */
+    String name();
+
+    /**
+     * @brief Creates the strategy state for a new game.
+     * @param seed Seed for any randomness of the strategy.
+     * @return A new strategy instance.
+     */
+    AIStrategy create(long seed);
+}
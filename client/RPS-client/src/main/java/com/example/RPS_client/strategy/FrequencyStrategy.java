@@ -0,0 +1,49 @@
+package com.example.RPS_client.strategy;
+
+import com.example.RPS_client.RPSGame.RPSPlayer;
+
+/**
+ * @file FrequencyStrategy.java
+ * @brief Strategy countering the opponent's most frequent move.
+ */
+public final class FrequencyStrategy implements AIStrategy {
+
+    /**
+     * @brief Move counts of the opponent in a single context.
+     */
+    private final PredictionTable table;
+
+    /**
+     * @brief Creates the strategy.
+     * @param seed Seed for tie breaking.
+     */
+    public FrequencyStrategy(long seed) {
+        table = new PredictionTable(1, seed);
+    }
+
+    @Override
+    public RPSPlayer.Move nextMove() {
+        return table.counter(0);
+    }
+
+    @Override
+    public void observe(RPSPlayer.Move opponentMove) {
+        table.record(0, opponentMove.ordinal());
+    }
+
+    /**
+     * @brief Provider registering the strategy as "FREQUENCY".
+     */
+    public static final class Provider implements AIStrategyProvider {
+
+        @Override
+        public String name() {
+            return "FREQUENCY";
+        }
+
+        @Override
+        public AIStrategy create(long seed) {
+            return new FrequencyStrategy(seed);
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.example.RPS_client.strategy;
+
+import com.example.RPS_client.RPSGame.RPSPlayer;
+
+/**
+ * @file MarkovStrategy.java
+ * @brief First-order Markov chain strategy.
+ * @details Counts which move the opponent plays after each of their moves and counters the most likely successor
+ *          of their last move.
+ */
+public final class MarkovStrategy implements AIStrategy {
+
+    /**
+     * @brief Transition counts: context = previous opponent move, plus one context before the first move.
+     */
+    private final PredictionTable table;
+
+    /**
+     * @brief Context of the next prediction.
+     */
+    private int lastMove = PredictionTable.MOVES;
+
+    /**
+     * @brief Creates the strategy.
+     * @param seed Seed for tie breaking.
+     */
+    public MarkovStrategy(long seed) {
+        table = new PredictionTable(PredictionTable.MOVES + 1, seed);
+    }
+
+    @Override
+    public RPSPlayer.Move nextMove() {
+        return table.counter(lastMove);
+    }
+
+    @Override
+    public void observe(RPSPlayer.Move opponentMove) {
+        int move = opponentMove.ordinal();
+        table.record(lastMove, move);
+        lastMove = move;
+    }
+
+    /**
+     * @brief Provider registering the strategy as "MARKOV".
+     */
+    public static final class Provider implements AIStrategyProvider {
+
+        @Override
+        public String name() {
+            return "MARKOV";
+        }
+
+        @Override
+        public AIStrategy create(long seed) {
+            return new MarkovStrategy(seed);
+        }
+    }
+}
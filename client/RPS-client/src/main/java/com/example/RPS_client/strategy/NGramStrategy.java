@@ -0,0 +1,92 @@
+package com.example.RPS_client.strategy;
+
+import com.example.RPS_client.RPSGame.RPSPlayer;
+
+/**
+ * @file NGramStrategy.java
+ * @brief N-gram strategy predicting the opponent's move from their last N moves.
+ * @details The last N moves are kept as a rolling base-3 number, so updating the context and looking up its
+ *          counters are constant-time array operations. Memory is 3^(N+1) counters.
+ */
+public final class NGramStrategy implements AIStrategy {
+
+    /**
+     * @brief Default history length.
+     */
+    public static final int DEFAULT_ORDER = 3;
+
+    /**
+     * @brief Move counts per history.
+     */
+    private final PredictionTable table;
+
+    /**
+     * @brief Number of distinct histories, 3^N.
+     */
+    private final int contexts;
+
+    /**
+     * @brief Rolling base-3 encoding of the last N opponent moves.
+     */
+    private int context;
+
+    /**
+     * @brief Number of moves observed, capped at N.
+     */
+    private int observed;
+
+    /**
+     * @brief History length N.
+     */
+    private final int order;
+
+    /**
+     * @brief Creates the strategy.
+     * @param order History length N, between 1 and 10.
+     * @param seed Seed for tie breaking.
+     */
+    public NGramStrategy(int order, long seed) {
+        if (order < 1 || order > 10) {
+            throw new IllegalArgumentException("N-gram order must be between 1 and 10: " + order);
+        }
+        int size = 1;
+        for (int i = 0; i < order; i++) {
+            size *= PredictionTable.MOVES;
+        }
+        this.order = order;
+        contexts = size;
+        table = new PredictionTable(contexts, seed);
+    }
+
+    @Override
+    public RPSPlayer.Move nextMove() {
+        return observed < order ? table.randomMove() : table.counter(context);
+    }
+
+    @Override
+    public void observe(RPSPlayer.Move opponentMove) {
+        int move = opponentMove.ordinal();
+        if (observed < order) {
+            observed++;
+        } else {
+            table.record(context, move);
+        }
+        context = (context * PredictionTable.MOVES + move) % contexts;
+    }
+
+    /**
+     * @brief Provider registering the strategy as "NGRAM" with the default order.
+     */
+    public static final class Provider implements AIStrategyProvider {
+
+        @Override
+        public String name() {
+            return "NGRAM";
+        }
+
+        @Override
+        public AIStrategy create(long seed) {
+            return new NGramStrategy(DEFAULT_ORDER, seed);
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package com.example.RPS_client.strategy;
+
+import com.example.RPS_client.RPSGame.RPSPlayer;
+
+import java.util.SplittableRandom;
+
+/**
+ * @file PredictionTable.java
+ * @brief Primitive move-count table shared by the predicting strategies.
+ * @details Holds three counters per context in a flat int array. Counters of a context are halved once one of them
+ *          reaches a limit, which bounds them and lets old behaviour fade out.
+ */
+final class PredictionTable {
+
+    /**
+     * @brief Number of moves.
+     */
+    static final int MOVES = 3;
+
+    /**
+     * @brief Counter value that triggers halving of a context.
+     */
+    private static final int COUNT_LIMIT = 1 << 20;
+
+    /**
+     * @brief Cached move values indexed by ordinal.
+     */
+    private static final RPSPlayer.Move[] VALUES = RPSPlayer.Move.values();
+
+    /**
+     * @brief Counters indexed by context * MOVES + move.
+     */
+    private final int[] counts;
+
+    /**
+     * @brief Random generator breaking ties and covering unseen contexts.
+     */
+    private final SplittableRandom random;
+
+    /**
+     * @brief Creates a table.
+     * @param contexts Number of contexts.
+     * @param seed Seed of the tie-breaking random generator.
+     */
+    PredictionTable(int contexts, long seed) {
+        counts = new int[contexts * MOVES];
+        random = new SplittableRandom(seed);
+    }
+
+    /**
+     * @brief Counts a move in a context.
+     * @param context The context.
+     * @param move Ordinal of the move.
+     */
+    void record(int context, int move) {
+        int base = context * MOVES;
+        if (++counts[base + move] >= COUNT_LIMIT) {
+            counts[base] >>= 1;
+            counts[base + 1] >>= 1;
+            counts[base + 2] >>= 1;
+        }
+    }
+
+    /**
+     * @brief Returns the move beating the most frequent move of a context.
+     * @param context The context.
+     * @return The counter move, or a random move if the context has no clear favourite.
+     */
+    RPSPlayer.Move counter(int context) {
+        int base = context * MOVES;
+        int rock = counts[base];
+        int paper = counts[base + 1];
+        int scissors = counts[base + 2];
+
+        int predicted;
+        if (rock > paper && rock > scissors) {
+            predicted = 0;
+        } else if (paper > rock && paper > scissors) {
+            predicted = 1;
+        } else if (scissors > rock && scissors > paper) {
+            predicted = 2;
+        } else {
+            return randomMove();
+        }
+        return beating(predicted);
+    }
+
+    /**
+     * @brief Returns a uniformly random move.
+     * @return The move.
+     */
+    RPSPlayer.Move randomMove() {
+        return VALUES[random.nextInt(MOVES)];
+    }
+
+    /**
+     * @brief Returns the move that beats a move.
+     * @param move Ordinal of the move to beat.
+     * @return The winning move: PAPER beats ROCK, SCISSORS beats PAPER, ROCK beats SCISSORS.
+     */
+    static RPSPlayer.Move beating(int move) {
+        return VALUES[move == MOVES - 1 ? 0 : move + 1];
+    }
+}
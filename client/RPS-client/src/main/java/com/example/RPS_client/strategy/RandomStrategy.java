@@ -0,0 +1,55 @@
+package com.example.RPS_client.strategy;
+
+import com.example.RPS_client.RPSGame.RPSPlayer;
+
+import java.util.SplittableRandom;
+
+/**
+ * @file RandomStrategy.java
+ * @brief Strategy playing uniformly random moves, like the firmware's generateAIMove().
+ */
+public final class RandomStrategy implements AIStrategy {
+
+    /**
+     * @brief Cached move values indexed by ordinal.
+     */
+    private static final RPSPlayer.Move[] VALUES = RPSPlayer.Move.values();
+
+    /**
+     * @brief Random generator of the moves.
+     */
+    private final SplittableRandom random;
+
+    /**
+     * @brief Creates the strategy.
+     * @param seed Seed of the random generator.
+     */
+    public RandomStrategy(long seed) {
+        random = new SplittableRandom(seed);
+    }
+
+    @Override
+    public RPSPlayer.Move nextMove() {
+        return VALUES[random.nextInt(VALUES.length)];
+    }
+
+    @Override
+    public void observe(RPSPlayer.Move opponentMove) {
+    }
+
+    /**
+     * @brief Provider registering the strategy as "RANDOM".
+     */
+    public static final class Provider implements AIStrategyProvider {
+
+        @Override
+        public String name() {
+            return "RANDOM";
+        }
+
+        @Override
+        public AIStrategy create(long seed) {
+            return new RandomStrategy(seed);
+        }
+    }
+}
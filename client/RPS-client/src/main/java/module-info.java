@@ -6,7 +6,18 @@ module com.example.RPS_client {
     requires javafx.graphics;
     requires static lombok;
     requires com.google.gson;
+    requires java.management;
 
     opens com.example.RPS_client.RPSGame to javafx.fxml;
+    opens com.example.RPS_client.DTO to com.google.gson;
     exports com.example.RPS_client.RPSGame;
-}
\ No newline at end of file
+    exports com.example.RPS_client.strategy;
+    exports com.example.RPS_client.metrics;
+
+    uses com.example.RPS_client.strategy.AIStrategyProvider;
+    provides com.example.RPS_client.strategy.AIStrategyProvider with
+            com.example.RPS_client.strategy.RandomStrategy.Provider,
+            com.example.RPS_client.strategy.FrequencyStrategy.Provider,
+            com.example.RPS_client.strategy.MarkovStrategy.Provider,
+            com.example.RPS_client.strategy.NGramStrategy.Provider;
+}
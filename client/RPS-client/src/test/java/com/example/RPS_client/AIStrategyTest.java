@@ -0,0 +1,71 @@
+package com.example.RPS_client;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.example.RPS_client.DTO.GameDTO;
+import com.example.RPS_client.RPSGame.RPSPlayer;
+import com.example.RPS_client.communication.RPSServerEmulator;
+import com.example.RPS_client.controller.GameController;
+import com.example.RPS_client.strategy.AIStrategies;
+import com.example.RPS_client.strategy.AIStrategy;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+public class AIStrategyTest {
+
+    @Test
+    void names_ShouldListStrategiesDiscoveredThroughServiceLoader() {
+        // Act
+        List<String> names = AIStrategies.names();
+
+        // Assert
+        assertTrue(names.containsAll(List.of("RANDOM", "FREQUENCY", "MARKOV", "NGRAM")));
+        assertThrows(IllegalArgumentException.class, () -> AIStrategies.create("UNKNOWN", 1L));
+    }
+
+    @Test
+    void predictiveStrategies_PatternedOpponent_ShouldWinMostRounds() {
+        RPSPlayer.Move[] moves = RPSPlayer.Move.values();
+
+        for (String name : List.of("FREQUENCY", "MARKOV", "NGRAM")) {
+            // Arrange
+            AIStrategy strategy = AIStrategies.create(name, 42L);
+            int wins = 0;
+
+            // Act
+            for (int i = 0; i < 300; i++) {
+                RPSPlayer.Move opponent = name.equals("FREQUENCY") ? RPSPlayer.Move.PAPER : moves[i % 3];
+                RPSPlayer.Move move = strategy.nextMove();
+                strategy.observe(opponent);
+                if (move.ordinal() == (opponent.ordinal() + 1) % 3) {
+                    wins++;
+                }
+            }
+
+            // Assert
+            assertTrue(wins > 250, name + " won only " + wins + " of 300 rounds");
+        }
+    }
+
+    @Test
+    void playAgainstAsync_StrategyWins_ShouldReportAiAsWinner() throws Exception {
+        // Arrange
+        GameController gameController = new GameController(new RPSServerEmulator(3L));
+        AIStrategy strategy = AIStrategies.create("FREQUENCY", 3L);
+        GameDTO result = null;
+
+        // Act
+        for (int i = 0; i < 20; i++) {
+            result = gameController.playAgainstAsync(strategy, RPSPlayer.Move.ROCK).get(5, TimeUnit.SECONDS);
+        }
+        gameController.close();
+
+        // Assert
+        assertEquals("AI", result.gameResult());
+        assertEquals(RPSPlayer.Move.ROCK, result.player1Move());
+        assertEquals(RPSPlayer.Move.PAPER, result.player2Move());
+    }
+}
@@ -0,0 +1,114 @@
+package com.example.RPS_client;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.example.RPS_client.DTO.GameDTO;
+import com.example.RPS_client.RPSGame.Outcome;
+import com.example.RPS_client.RPSGame.RPSMode;
+import com.example.RPS_client.RPSGame.RPSPlayer;
+import com.example.RPS_client.communication.RPSServerEmulator;
+import com.example.RPS_client.communication.StreamTransport;
+import com.example.RPS_client.controller.GameController;
+import com.example.RPS_client.metrics.RPSMetrics;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+public class AsyncGameControllerTest {
+
+    @Test
+    void playAsync_ManyRoundsInFlight_ShouldCompleteEachWithItsOwnResult() throws Exception {
+        // Arrange
+        GameController gameController = new GameController(new RPSServerEmulator(7L));
+        List<CompletableFuture<GameDTO>> futures = new ArrayList<>();
+        RPSPlayer.Move[] moves = RPSPlayer.Move.values();
+
+        // Act
+        for (int i = 0; i < 300; i++) {
+            futures.add(gameController.playAsync(RPSMode.MAN_VS_MAN, moves[i % 3], moves[(i / 3) % 3]));
+        }
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).get(10, TimeUnit.SECONDS);
+
+        // Assert
+        for (int i = 0; i < futures.size(); i++) {
+            GameDTO result = futures.get(i).get();
+            assertEquals(moves[i % 3], result.player1Move());
+            assertEquals(moves[(i / 3) % 3], result.player2Move());
+        }
+        gameController.close();
+    }
+
+    @Test
+    void playAsync_ResultForDifferentRound_ShouldFailFuture() {
+        // Arrange
+        ByteArrayInputStream input = new ByteArrayInputStream("DRAW,PAPER,PAPER|".getBytes(StandardCharsets.US_ASCII));
+        GameController gameController = new GameController(new StreamTransport(input, new ByteArrayOutputStream()));
+
+        // Act
+        CompletableFuture<GameDTO> future = gameController.playAsync(RPSMode.MAN_VS_MAN, RPSPlayer.Move.ROCK,
+                RPSPlayer.Move.ROCK);
+
+        // Assert
+        ExecutionException exception = assertThrows(ExecutionException.class, () -> future.get(5, TimeUnit.SECONDS));
+        assertTrue(exception.getCause().getMessage().contains("round #1"));
+        gameController.close();
+    }
+
+    @Test
+    void playAsync_MissingMove_ShouldFailFutureInsteadOfThrowing() {
+        // Arrange
+        GameController gameController = new GameController(new RPSServerEmulator(7L));
+        gameController.setLocalResolution(1);
+
+        // Act
+        CompletableFuture<GameDTO> future = gameController.playAsync(RPSMode.MAN_VS_MAN, RPSPlayer.Move.ROCK, null);
+
+        // Assert
+        ExecutionException failure = assertThrows(ExecutionException.class, future::get);
+        assertInstanceOf(IllegalArgumentException.class, failure.getCause());
+        gameController.close();
+    }
+
+    @Test
+    void playAsync_LocalResolution_ShouldCompleteAtOnceAndReportMismatchingSamples() throws Exception {
+        // Arrange
+        ByteArrayInputStream input = new ByteArrayInputStream(
+                "Player 1,ROCK,SCISSORS|Player 2,ROCK,SCISSORS|".getBytes(StandardCharsets.US_ASCII));
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        GameController gameController = new GameController(new StreamTransport(input, output));
+        gameController.setLocalResolution(2);
+        RPSMetrics metrics = RPSMetrics.instance();
+        long verifiedBefore = metrics.getVerifiedRounds();
+        long mismatchesBefore = metrics.getVerificationMismatches();
+        List<CompletableFuture<GameDTO>> futures = new ArrayList<>();
+
+        // Act
+        for (int i = 0; i < 3; i++) {
+            futures.add(gameController.playAsync(RPSMode.MAN_VS_MAN, RPSPlayer.Move.ROCK, RPSPlayer.Move.SCISSORS));
+        }
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (metrics.getVerifiedRounds() - verifiedBefore < 2 && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        gameController.close();
+
+        // Assert
+        for (CompletableFuture<GameDTO> future : futures) {
+            assertTrue(future.isDone());
+            assertEquals(Outcome.PLAYER_1, future.get().outcome());
+        }
+        assertEquals(2, metrics.getVerifiedRounds() - verifiedBefore);
+        assertEquals(1, metrics.getVerificationMismatches() - mismatchesBefore);
+        assertEquals("MAN_VS_MAN,ROCK,SCISSORS\nMAN_VS_MAN,ROCK,SCISSORS\n",
+                output.toString(StandardCharsets.US_ASCII));
+    }
+}
@@ -0,0 +1,63 @@
+package com.example.RPS_client;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.example.RPS_client.RPSGame.RPSPlayer;
+import com.example.RPS_client.engine.BulkSimulator;
+import com.example.RPS_client.engine.RPSRules;
+import com.example.RPS_client.engine.SimulationTally;
+import java.util.concurrent.ForkJoinPool;
+import org.junit.jupiter.api.Test;
+
+public class BulkSimulatorTest {
+
+    @Test
+    void outcome_AllMovePairs_ShouldMatchFirmwareRules() {
+        // Assert
+        assertEquals(RPSRules.PLAYER_1, RPSRules.outcome(RPSPlayer.Move.ROCK, RPSPlayer.Move.SCISSORS));
+        assertEquals(RPSRules.PLAYER_1, RPSRules.outcome(RPSPlayer.Move.PAPER, RPSPlayer.Move.ROCK));
+        assertEquals(RPSRules.PLAYER_1, RPSRules.outcome(RPSPlayer.Move.SCISSORS, RPSPlayer.Move.PAPER));
+        assertEquals(RPSRules.PLAYER_2, RPSRules.outcome(RPSPlayer.Move.SCISSORS, RPSPlayer.Move.ROCK));
+        assertEquals(RPSRules.PLAYER_2, RPSRules.outcome(RPSPlayer.Move.ROCK, RPSPlayer.Move.PAPER));
+        assertEquals(RPSRules.PLAYER_2, RPSRules.outcome(RPSPlayer.Move.PAPER, RPSPlayer.Move.SCISSORS));
+        for (RPSPlayer.Move move : RPSPlayer.Move.values()) {
+            assertEquals(RPSRules.DRAW, RPSRules.outcome(move, move));
+        }
+    }
+
+    @Test
+    void simulate_SameSeed_ShouldBeReproducibleAcrossPools() {
+        // Arrange
+        long rounds = 1_000_003;
+
+        // Act
+        SimulationTally first = new BulkSimulator().simulate(rounds, 2024L);
+        SimulationTally second = new BulkSimulator(new ForkJoinPool(2)).simulate(rounds, 2024L);
+        SimulationTally otherSeed = new BulkSimulator().simulate(rounds, 2025L);
+
+        // Assert
+        assertEquals(first, second);
+        assertNotEquals(first, otherSeed);
+    }
+
+    @Test
+    void simulate_ManyRounds_ShouldProduceConsistentTally() {
+        // Act
+        SimulationTally tally = new BulkSimulator().simulate(900_000, 1L);
+
+        // Assert
+        assertEquals(900_000, tally.rounds());
+        long player1Moves = 0;
+        long player2Moves = 0;
+        for (int move = 0; move < RPSRules.MOVES; move++) {
+            player1Moves += tally.player1MoveCount(move);
+            player2Moves += tally.player2MoveCount(move);
+            assertTrue(Math.abs(tally.player1MoveCount(move) - 300_000) < 5_000);
+        }
+        assertEquals(900_000, player1Moves);
+        assertEquals(900_000, player2Moves);
+        assertTrue(Math.abs(tally.wins() - 300_000) < 5_000);
+    }
+}
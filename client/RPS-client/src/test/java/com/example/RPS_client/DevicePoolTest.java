@@ -0,0 +1,146 @@
+package com.example.RPS_client;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.example.RPS_client.DTO.GameDTO;
+import com.example.RPS_client.RPSGame.RPSMode;
+import com.example.RPS_client.RPSGame.RPSPlayer;
+import com.example.RPS_client.communication.RPSServerEmulator;
+import com.example.RPS_client.communication.StreamTransport;
+import com.example.RPS_client.communication.Transport;
+import com.example.RPS_client.controller.DevicePool;
+import com.example.RPS_client.controller.GameController;
+import java.io.OutputStream;
+import java.io.PipedInputStream;
+import java.io.PipedOutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class DevicePoolTest {
+    private Set<String> attachedDevices;
+    private DevicePool devicePool;
+
+    @BeforeEach
+    void setUp() {
+        attachedDevices = ConcurrentHashMap.newKeySet();
+        devicePool = new DevicePool(() -> List.copyOf(attachedDevices),
+                id -> new GameController(new RPSServerEmulator(id.hashCode())));
+    }
+
+    @AfterEach
+    void tearDown() {
+        devicePool.close();
+    }
+
+    @Test
+    void scan_DevicesPluggedAndUnplugged_ShouldTrackThem() {
+        // Arrange
+        attachedDevices.add("board-1");
+        attachedDevices.add("board-2");
+
+        // Act
+        devicePool.scan();
+        List<String> initial = devicePool.devices();
+        attachedDevices.remove("board-1");
+        devicePool.scan();
+
+        // Assert
+        assertEquals(2, initial.size());
+        assertEquals(List.of("board-2"), devicePool.devices());
+    }
+
+    @Test
+    void playAsync_SeveralDevices_ShouldCompleteAllRounds() throws Exception {
+        // Arrange
+        attachedDevices.add("board-1");
+        attachedDevices.add("board-2");
+        attachedDevices.add("board-3");
+        devicePool.scan();
+        List<CompletableFuture<GameDTO>> futures = new ArrayList<>();
+
+        // Act
+        for (int i = 0; i < 600; i++) {
+            futures.add(devicePool.playAsync(RPSMode.MAN_VS_MAN, RPSPlayer.Move.ROCK, RPSPlayer.Move.PAPER));
+        }
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).get(10, TimeUnit.SECONDS);
+
+        // Assert
+        for (CompletableFuture<GameDTO> future : futures) {
+            assertEquals("Player 2", future.get().gameResult());
+        }
+    }
+
+    @Test
+    void scan_DeviceNeverAnswers_ShouldSkipIt() throws Exception {
+        // Arrange
+        Transport silentPort = new StreamTransport(new PipedInputStream(new PipedOutputStream()),
+                OutputStream.nullOutputStream());
+        devicePool = new DevicePool(() -> List.of("board-1", "silent"), id -> new GameController(id.equals("silent")
+                ? silentPort
+                : new RPSServerEmulator(1)), 200);
+
+        // Act
+        devicePool.scan();
+
+        // Assert
+        assertEquals(List.of("board-1"), devicePool.devices());
+    }
+
+    @Test
+    void scan_DeviceStopsAnswering_ShouldEvictIt() throws Exception {
+        // Arrange
+        Map<String, RPSServerEmulator> boards = new ConcurrentHashMap<>();
+        devicePool = new DevicePool(() -> List.of("board-1"), id -> new GameController(
+                boards.computeIfAbsent(id, ignored -> new RPSServerEmulator(new Random(1), 60_000))), 200);
+        devicePool.scan();
+        devicePool.playAsync(RPSMode.MAN_VS_MAN, RPSPlayer.Move.ROCK, RPSPlayer.Move.PAPER).get(5, TimeUnit.SECONDS);
+        CompletableFuture<GameDTO> stalled = devicePool.playAsync(RPSMode.MAN_VS_MAN, RPSPlayer.Move.ROCK,
+                RPSPlayer.Move.PAPER);
+
+        // Act
+        Thread.sleep(300);
+        devicePool.scan();
+
+        // Assert
+        assertTrue(devicePool.devices().isEmpty());
+        assertThrows(ExecutionException.class, () -> stalled.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void playAsync_OneDeviceBusy_ShouldRouteToLeastLoadedDevice() throws Exception {
+        // Arrange
+        devicePool = new DevicePool(() -> List.of("busy", "idle"), id -> new GameController(id.equals("busy")
+                ? new RPSServerEmulator(new Random(1), 60_000)
+                : new RPSServerEmulator(1)));
+        devicePool.scan();
+
+        // Act & Assert
+        for (int i = 0; i < 100; i++) {
+            GameDTO result = devicePool.playAsync(RPSMode.MAN_VS_MAN, RPSPlayer.Move.ROCK, RPSPlayer.Move.PAPER)
+                    .get(5, TimeUnit.SECONDS);
+            assertEquals("Player 2", result.gameResult());
+        }
+    }
+
+    @Test
+    void playAsync_NoDevices_ShouldFail() {
+        // Act
+        CompletableFuture<GameDTO> future = devicePool.playAsync(RPSMode.AI_VS_AI, RPSPlayer.Move.ROCK,
+                RPSPlayer.Move.ROCK);
+
+        // Assert
+        assertThrows(ExecutionException.class, future::get);
+    }
+}
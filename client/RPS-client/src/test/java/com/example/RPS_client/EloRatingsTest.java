@@ -0,0 +1,94 @@
+package com.example.RPS_client;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.example.RPS_client.DTO.GameDTO;
+import com.example.RPS_client.DTO.RatingDTO;
+import com.example.RPS_client.RPSGame.RPSPlayer;
+import com.example.RPS_client.stats.EloRatings;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+public class EloRatingsTest {
+
+    @Test
+    void record_EqualPlayers_ShouldMoveRatingsByHalfTheKFactor() {
+        // Arrange
+        EloRatings ratings = new EloRatings(1500, 32);
+
+        // Act
+        ratings.record("Alice", "Bob", new GameDTO("Player 1", RPSPlayer.Move.PAPER, RPSPlayer.Move.ROCK));
+        ratings.record("Carol", "AI", new GameDTO("AI", RPSPlayer.Move.ROCK, RPSPlayer.Move.PAPER));
+        ratings.record("Dave", "Erin", new GameDTO("DRAW", RPSPlayer.Move.ROCK, RPSPlayer.Move.ROCK));
+
+        // Assert
+        assertEquals(1516, ratings.rating("Alice"), 1e-9);
+        assertEquals(1484, ratings.rating("Bob"), 1e-9);
+        assertEquals(1516, ratings.rating("AI"), 1e-9);
+        assertEquals(1500, ratings.rating("Dave"), 1e-9);
+        assertEquals(1500, ratings.rating("Nobody"), 1e-9);
+    }
+
+    @Test
+    void record_ConcurrentRounds_ShouldConserveTotalRatingAndCountEveryGame() throws Exception {
+        // Arrange
+        EloRatings ratings = new EloRatings();
+        int players = 5_000;
+        int threads = 8;
+        int roundsPerThread = 20_000;
+        for (int i = 0; i < players; i++) {
+            ratings.playerId("P" + i);
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        List<Future<?>> workers = new ArrayList<>();
+
+        // Act
+        for (int t = 0; t < threads; t++) {
+            long seed = t;
+            workers.add(executor.submit(() -> {
+                Random random = new Random(seed);
+                for (int i = 0; i < roundsPerThread; i++) {
+                    ratings.record(random.nextInt(players), random.nextInt(players), random.nextInt(3) / 2.0);
+                }
+            }));
+        }
+        for (Future<?> worker : workers) {
+            worker.get();
+        }
+        executor.shutdown();
+        List<RatingDTO> all = ratings.top(players);
+
+        // Assert
+        assertEquals(players, all.size());
+        assertEquals(players * EloRatings.DEFAULT_INITIAL_RATING, all.stream().mapToDouble(RatingDTO::rating).sum(), 1e-3);
+        long games = all.stream().mapToLong(RatingDTO::games).sum();
+        assertTrue(games <= 2L * threads * roundsPerThread && games > 2L * threads * roundsPerThread * 99 / 100);
+    }
+
+    @Test
+    void top_ManyPlayers_ShouldReturnHighestRatingsInOrder() {
+        // Arrange
+        EloRatings ratings = new EloRatings();
+        Random random = new Random(7);
+        for (int i = 0; i < 100_000; i++) {
+            ratings.record(ratings.playerId("P" + i), ratings.playerId("P" + random.nextInt(i + 1)), random.nextInt(2));
+        }
+
+        // Act
+        List<RatingDTO> top = ratings.top(10);
+
+        // Assert
+        List<Double> expected = IntStream.range(0, 100_000).mapToObj(i -> ratings.rating("P" + i))
+                .sorted(Comparator.reverseOrder()).limit(10).toList();
+        assertEquals(100_000, ratings.size());
+        assertEquals(expected, top.stream().map(RatingDTO::rating).toList());
+    }
+}
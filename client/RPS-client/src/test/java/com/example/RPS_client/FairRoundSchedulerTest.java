@@ -0,0 +1,140 @@
+package com.example.RPS_client;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.example.RPS_client.DTO.GameDTO;
+import com.example.RPS_client.RPSGame.RPSMode;
+import com.example.RPS_client.RPSGame.RPSPlayer;
+import com.example.RPS_client.controller.FairRoundScheduler;
+import com.example.RPS_client.controller.RoundPlayer;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+public class FairRoundSchedulerTest {
+
+    @Test
+    void playAsync_AiFloodAndInteractiveRounds_ShouldServeInteractiveSessionByWeight() throws Exception {
+        // Arrange
+        ManualBackend backend = new ManualBackend();
+        FairRoundScheduler scheduler = new FairRoundScheduler(backend, 1000, 500, 1);
+        RPSPlayer.Move rock = RPSPlayer.Move.ROCK;
+        List<CompletableFuture<GameDTO>> flood = new ArrayList<>();
+        for (int i = 0; i < 400; i++) {
+            flood.add(scheduler.playAsync("bots", RPSMode.AI_VS_AI, rock, rock));
+        }
+        backend.awaitRound();
+        List<CompletableFuture<GameDTO>> interactive = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            interactive.add(scheduler.playAsync("alice", RPSMode.MAN_VS_MAN, rock, rock));
+        }
+
+        // Act
+        List<RPSMode> order = new ArrayList<>();
+        backend.completeNext();
+        for (int i = 0; i < 10; i++) {
+            order.add(backend.awaitRound());
+            backend.completeNext();
+        }
+        scheduler.close();
+
+        // Assert
+        assertEquals(List.of(RPSMode.AI_VS_AI, RPSMode.MAN_VS_MAN, RPSMode.MAN_VS_MAN, RPSMode.MAN_VS_MAN,
+                RPSMode.MAN_VS_MAN, RPSMode.AI_VS_AI, RPSMode.MAN_VS_MAN, RPSMode.MAN_VS_MAN, RPSMode.MAN_VS_MAN,
+                RPSMode.MAN_VS_MAN), order);
+        assertTrue(interactive.stream().allMatch(CompletableFuture::isDone));
+        assertTrue(flood.get(399).isCompletedExceptionally());
+    }
+
+    @Test
+    void playAsync_SessionOverCapacity_ShouldRejectOnlyThatSession() throws Exception {
+        // Arrange
+        ManualBackend backend = new ManualBackend();
+        FairRoundScheduler scheduler = new FairRoundScheduler(backend, 10, 3, 1);
+        RPSPlayer.Move rock = RPSPlayer.Move.ROCK;
+        scheduler.playAsync("bots", RPSMode.AI_VS_AI, rock, rock);
+        backend.awaitRound();
+
+        // Act
+        for (int i = 0; i < 3; i++) {
+            scheduler.playAsync("bots", RPSMode.AI_VS_AI, rock, rock);
+        }
+        CompletableFuture<GameDTO> rejected = scheduler.playAsync("bots", RPSMode.AI_VS_AI, rock, rock);
+        CompletableFuture<GameDTO> accepted = scheduler.playAsync("alice", RPSMode.MAN_VS_MAN, rock, rock);
+        long start = System.nanoTime();
+        CompletableFuture<GameDTO> timedOut = scheduler.playAsync("bots", RPSMode.AI_VS_AI, rock, rock, 50);
+        long waitedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        // Assert
+        ExecutionException error = assertThrows(ExecutionException.class, rejected::get);
+        assertInstanceOf(IOException.class, error.getCause());
+        assertFalse(accepted.isDone());
+        assertTrue(timedOut.isCompletedExceptionally());
+        assertTrue(waitedMillis >= 40, "Parked for " + waitedMillis + " ms");
+        assertEquals(4, scheduler.queuedCount());
+        scheduler.close();
+    }
+
+    @Test
+    void playAsync_ParkedProducer_ShouldBeAdmittedWhenRoomFrees() throws Exception {
+        // Arrange
+        ManualBackend backend = new ManualBackend();
+        FairRoundScheduler scheduler = new FairRoundScheduler(backend, 1, 1, 1);
+        RPSPlayer.Move rock = RPSPlayer.Move.ROCK;
+        scheduler.playAsync("alice", RPSMode.MAN_VS_MAN, rock, rock);
+        backend.awaitRound();
+        scheduler.playAsync("alice", RPSMode.MAN_VS_MAN, rock, rock);
+
+        // Act
+        CompletableFuture<CompletableFuture<GameDTO>> parked = CompletableFuture.supplyAsync(() -> {
+            try {
+                return scheduler.playAsync("bob", RPSMode.MAN_VS_MAN, rock, rock, 5000);
+            } catch (InterruptedException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        Thread.sleep(50);
+        boolean admittedEarly = parked.isDone();
+        backend.completeNext();
+
+        // Assert
+        assertFalse(admittedEarly);
+        assertFalse(parked.get(5, TimeUnit.SECONDS).isCompletedExceptionally());
+        scheduler.close();
+    }
+
+    /**
+     * Backend completing its rounds only when told to.
+     */
+    private static final class ManualBackend implements RoundPlayer {
+
+        private final LinkedBlockingQueue<RPSMode> started = new LinkedBlockingQueue<>();
+
+        private final LinkedBlockingQueue<CompletableFuture<GameDTO>> outstanding = new LinkedBlockingQueue<>();
+
+        @Override
+        public CompletableFuture<GameDTO> playAsync(RPSMode mode, RPSPlayer.Move move1, RPSPlayer.Move move2) {
+            CompletableFuture<GameDTO> future = new CompletableFuture<>();
+            outstanding.add(future);
+            started.add(mode);
+            return future;
+        }
+
+        RPSMode awaitRound() throws InterruptedException {
+            return started.poll(5, TimeUnit.SECONDS);
+        }
+
+        void completeNext() throws InterruptedException {
+            outstanding.poll(5, TimeUnit.SECONDS).complete(new GameDTO("DRAW", RPSPlayer.Move.ROCK, RPSPlayer.Move.ROCK));
+        }
+    }
+}
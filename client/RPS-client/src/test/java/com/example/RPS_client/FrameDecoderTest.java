@@ -0,0 +1,100 @@
+package com.example.RPS_client;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.example.RPS_client.communication.Communication;
+import com.example.RPS_client.communication.FrameDecoder;
+import com.example.RPS_client.communication.StreamTransport;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.Test;
+
+public class FrameDecoderTest {
+    private static final byte[] DELIMITER = "|".getBytes(StandardCharsets.US_ASCII);
+
+    @Test
+    void pollFrame_BytesAfterDelimiter_ShouldKeepThemForNextFrame() throws IOException {
+        // Arrange
+        FrameDecoder decoder = new FrameDecoder(16);
+        byte[] frame = new byte[16];
+        byte[] input = "DRAW,ROCK|AI,".getBytes(StandardCharsets.US_ASCII);
+
+        // Act
+        decoder.write(input, 0, input.length);
+        int firstLength = decoder.pollFrame(DELIMITER, frame);
+        String first = new String(frame, 0, firstLength, StandardCharsets.US_ASCII);
+        int incomplete = decoder.pollFrame(DELIMITER, frame);
+
+        // Assert
+        assertEquals("DRAW,ROCK", first);
+        assertEquals(-1, incomplete);
+        assertEquals(3, decoder.size());
+    }
+
+    @Test
+    void pollFrame_FrameWrapsAroundRing_ShouldReturnWholeFrame() throws IOException {
+        // Arrange
+        FrameDecoder decoder = new FrameDecoder(8);
+        byte[] frame = new byte[8];
+        byte[] first = "abcdef|".getBytes(StandardCharsets.US_ASCII);
+        byte[] second = "ghijk|".getBytes(StandardCharsets.US_ASCII);
+
+        // Act
+        decoder.write(first, 0, first.length);
+        decoder.pollFrame(DELIMITER, frame);
+        decoder.write(second, 0, second.length);
+        int length = decoder.pollFrame(DELIMITER, frame);
+
+        // Assert
+        assertEquals("ghijk", new String(frame, 0, length, StandardCharsets.US_ASCII));
+    }
+
+    @Test
+    void pollFrame_DelimiterSplitAcrossWrites_ShouldMatch() throws IOException {
+        // Arrange
+        FrameDecoder decoder = new FrameDecoder(32);
+        byte[] delimiter = "\r\n".getBytes(StandardCharsets.US_ASCII);
+        byte[] frame = new byte[32];
+        byte[] part1 = "PONG\r".getBytes(StandardCharsets.US_ASCII);
+        byte[] part2 = "\n".getBytes(StandardCharsets.US_ASCII);
+
+        // Act
+        decoder.write(part1, 0, part1.length);
+        int incomplete = decoder.pollFrame(delimiter, frame);
+        decoder.write(part2, 0, part2.length);
+        int length = decoder.pollFrame(delimiter, frame);
+
+        // Assert
+        assertEquals(-1, incomplete);
+        assertEquals("PONG", new String(frame, 0, length, StandardCharsets.US_ASCII));
+    }
+
+    @Test
+    void write_MoreThanCapacity_ShouldThrowIOException() {
+        // Arrange
+        FrameDecoder decoder = new FrameDecoder(4);
+        byte[] input = "too long".getBytes(StandardCharsets.US_ASCII);
+
+        // Act & Assert
+        assertThrows(IOException.class, () -> decoder.write(input, 0, input.length));
+    }
+
+    @Test
+    void receiveMessageUntil_SeveralFramesInOneRead_ShouldReturnThemInOrder() throws IOException {
+        // Arrange
+        ByteArrayInputStream input = new ByteArrayInputStream(
+                "Player 1,ROCK,SCISSORS|DRAW,PAPER,PAPER|".getBytes(StandardCharsets.US_ASCII));
+        Communication communication = new Communication(new StreamTransport(input, new ByteArrayOutputStream()));
+
+        // Act
+        String first = communication.receiveMessageUntil("|");
+        String second = communication.receiveMessageUntil("|");
+
+        // Assert
+        assertEquals("Player 1,ROCK,SCISSORS", first);
+        assertEquals("DRAW,PAPER,PAPER", second);
+    }
+}
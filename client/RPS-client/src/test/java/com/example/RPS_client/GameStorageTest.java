@@ -0,0 +1,113 @@
+package com.example.RPS_client;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.example.RPS_client.DTO.ArchiveReportDTO;
+import com.example.RPS_client.DTO.SavedGameDTO;
+import com.example.RPS_client.storage.GameStorage;
+import com.google.gson.JsonSyntaxException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class GameStorageTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void saveAndLoad_ShouldRoundTripGame() throws Exception {
+        // Arrange
+        GameStorage gameStorage = new GameStorage();
+        SavedGameDTO game = new SavedGameDTO("Alice", "Bob", "ROCK", "PAPER", "Player 2");
+        Path file = tempDir.resolve("game.json");
+
+        // Act
+        gameStorage.save(file, game);
+        SavedGameDTO loaded = gameStorage.load(file);
+
+        // Assert
+        assertEquals(game, loaded);
+        assertEquals("Player 2", gameStorage.load(new StringReader(Files.readString(file))).winner());
+    }
+
+    @Test
+    void save_MissingMove_ShouldKeepLegacyFieldNamesAndOmitMove() throws Exception {
+        // Arrange
+        GameStorage gameStorage = new GameStorage();
+        StringWriter writer = new StringWriter();
+
+        // Act
+        gameStorage.save(writer, new SavedGameDTO("Alice", "Bob", "ROCK", null, "DRAW"));
+        String json = writer.toString();
+
+        // Assert
+        assertEquals("Alice", gameStorage.load(new StringReader("{\"Player1Name\":\"Alice\"}")).player1Name());
+        assertFalse(json.contains("Player2Move"));
+        assertThrows(JsonSyntaxException.class, () -> gameStorage.load(new StringReader("{\"Player1Name\":")));
+    }
+
+    @Test
+    void loadArchive_MalformedRecords_ShouldSkipThemAndStreamTheRest() throws Exception {
+        // Arrange
+        GameStorage gameStorage = new GameStorage();
+        StringBuilder json = new StringBuilder("[");
+        for (int i = 0; i < 10_000; i++) {
+            json.append("{\"Player1Name\":\"P").append(i).append("\",\"Winner\":\"DRAW\",\"Extra\":[1,2]},");
+        }
+        json.append("42,{\"Player1Name\":{\"nested\":true},\"Winner\":\"AI\"},{\"Player2Name\":\"Last\"}]");
+        Path file = tempDir.resolve("archive.json");
+        Files.writeString(file, json);
+        List<SavedGameDTO> games = new ArrayList<>();
+        List<Long> skipped = new ArrayList<>();
+
+        // Act
+        ArchiveReportDTO report = gameStorage.loadArchive(file, games::add, (index, problem) -> skipped.add(index));
+
+        // Assert
+        assertEquals(new ArchiveReportDTO(10_001, 2, true), report);
+        assertEquals(List.of(10_000L, 10_001L), skipped);
+        assertEquals("P9999", games.get(9_999).player1Name());
+        assertEquals("Last", games.get(10_000).player2Name());
+    }
+
+    @Test
+    void loadArchive_TruncatedFile_ShouldReportIncompleteArchive() throws Exception {
+        // Arrange
+        GameStorage gameStorage = new GameStorage();
+        List<SavedGameDTO> games = new ArrayList<>();
+
+        // Act
+        ArchiveReportDTO report = gameStorage.loadArchive(
+                new StringReader("[{\"Player1Name\":\"A\"},{\"Player1Name\":"), games::add, (index, problem) -> { });
+
+        // Assert
+        assertEquals(new ArchiveReportDTO(1, 1, false), report);
+        assertEquals("A", games.get(0).player1Name());
+    }
+
+    @Test
+    void loadArchive_EmptyArray_ShouldReportCompleteEmptyArchive() throws Exception {
+        // Arrange
+        GameStorage gameStorage = new GameStorage();
+        List<SavedGameDTO> games = new ArrayList<>();
+        List<String> problems = new ArrayList<>();
+
+        // Act
+        ArchiveReportDTO report = gameStorage.loadArchive(new StringReader(" [ ] "), games::add,
+                (index, problem) -> problems.add(problem));
+
+        // Assert
+        assertEquals(new ArchiveReportDTO(0, 0, true), report);
+        assertTrue(games.isEmpty());
+        assertTrue(problems.isEmpty());
+    }
+}
@@ -0,0 +1,195 @@
+package com.example.RPS_client;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.example.RPS_client.DTO.GameDTO;
+import com.example.RPS_client.RPSGame.RPSMode;
+import com.example.RPS_client.RPSGame.RPSPlayer;
+import com.example.RPS_client.communication.RPSServerEmulator;
+import com.example.RPS_client.communication.StreamTransport;
+import com.example.RPS_client.controller.GameController;
+import com.example.RPS_client.controller.LinkState;
+import com.example.RPS_client.controller.LinkSupervisor;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PipedInputStream;
+import java.io.PipedOutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+import org.junit.jupiter.api.Test;
+
+public class LinkSupervisorTest {
+
+    @Test
+    void playAsync_BoardResetDuringSession_ShouldReplayRoundsOnNewLink() throws Exception {
+        // Arrange
+        List<RPSServerEmulator> boards = new CopyOnWriteArrayList<>();
+        LinkSupervisor link = new LinkSupervisor(() -> {
+            RPSServerEmulator board = new RPSServerEmulator(boards.size());
+            boards.add(board);
+            return new GameController(board);
+        }, 10, 100, 1000, 500, 256);
+        link.start();
+        awaitCondition(() -> link.state() == LinkState.UP);
+        RPSPlayer.Move[] moves = RPSPlayer.Move.values();
+        List<CompletableFuture<GameDTO>> futures = new ArrayList<>();
+
+        // Act
+        for (int i = 0; i < 200; i++) {
+            if (i == 100) {
+                boards.get(0).close();
+            }
+            futures.add(link.playAsync(RPSMode.MAN_VS_MAN, moves[i % 3], moves[(i / 3) % 3]));
+        }
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).get(10, TimeUnit.SECONDS);
+        link.close();
+
+        // Assert
+        assertTrue(boards.size() >= 2);
+        for (int i = 0; i < futures.size(); i++) {
+            GameDTO result = futures.get(i).get();
+            assertEquals(moves[i % 3], result.player1Move());
+            assertEquals(moves[(i / 3) % 3], result.player2Move());
+        }
+    }
+
+    @Test
+    void playAsync_NoDevice_ShouldQueueRoundsUpToCapacity() throws Exception {
+        // Arrange
+        LinkSupervisor link = new LinkSupervisor(() -> {
+            throw new IOException("No device attached");
+        }, 10, 40, 1000, 500, 2);
+        link.start();
+        awaitCondition(() -> link.state() == LinkState.DOWN);
+
+        // Act
+        CompletableFuture<GameDTO> first = link.playAsync(RPSMode.AI_VS_AI, RPSPlayer.Move.ROCK, RPSPlayer.Move.ROCK);
+        CompletableFuture<GameDTO> second = link.playAsync(RPSMode.AI_VS_AI, RPSPlayer.Move.ROCK, RPSPlayer.Move.ROCK);
+        CompletableFuture<GameDTO> third = link.playAsync(RPSMode.AI_VS_AI, RPSPlayer.Move.ROCK, RPSPlayer.Move.ROCK);
+
+        // Assert
+        assertFalse(first.isDone());
+        assertFalse(second.isDone());
+        ExecutionException rejected = assertThrows(ExecutionException.class, third::get);
+        assertInstanceOf(IOException.class, rejected.getCause());
+        link.close();
+        assertTrue(first.isCompletedExceptionally());
+    }
+
+    @Test
+    void playAsync_InvalidRound_ShouldFailOnlyThatRound() throws Exception {
+        // Arrange
+        AtomicInteger connects = new AtomicInteger();
+        LinkSupervisor link = new LinkSupervisor(() -> {
+            connects.incrementAndGet();
+            return new GameController(new RPSServerEmulator(1));
+        }, 10, 100, 1000, 500, 16);
+        link.start();
+        awaitCondition(() -> link.state() == LinkState.UP);
+
+        // Act
+        CompletableFuture<GameDTO> invalid = link.playAsync(RPSMode.MAN_VS_MAN, RPSPlayer.Move.ROCK, null);
+        ExecutionException rejected = assertThrows(ExecutionException.class, () -> invalid.get(5, TimeUnit.SECONDS));
+        GameDTO next = link.playAsync(RPSMode.MAN_VS_MAN, RPSPlayer.Move.ROCK, RPSPlayer.Move.PAPER)
+                .get(5, TimeUnit.SECONDS);
+
+        // Assert
+        assertInstanceOf(IllegalArgumentException.class, rejected.getCause());
+        assertEquals(RPSPlayer.Move.PAPER, next.player2Move());
+        assertEquals(1, connects.get());
+        assertEquals(LinkState.UP, link.state());
+        link.close();
+    }
+
+    @Test
+    void playAsync_ControllerThrows_ShouldFailRoundAndKeepSupervising() throws Exception {
+        // Arrange
+        LinkSupervisor link = new LinkSupervisor(() -> new GameController(new RPSServerEmulator(1)) {
+            @Override
+            public CompletableFuture<GameDTO> playAsync(RPSMode mode, RPSPlayer.Move move1, RPSPlayer.Move move2) {
+                if (move1 == RPSPlayer.Move.SCISSORS) {
+                    throw new IllegalStateException("Rejected by controller");
+                }
+                return super.playAsync(mode, move1, move2);
+            }
+        }, 10, 100, 1000, 500, 16);
+        link.start();
+        awaitCondition(() -> link.state() == LinkState.UP);
+
+        // Act
+        CompletableFuture<GameDTO> thrown = link.playAsync(RPSMode.MAN_VS_MAN, RPSPlayer.Move.SCISSORS,
+                RPSPlayer.Move.ROCK);
+        GameDTO next = link.playAsync(RPSMode.MAN_VS_MAN, RPSPlayer.Move.ROCK, RPSPlayer.Move.PAPER)
+                .get(5, TimeUnit.SECONDS);
+
+        // Assert
+        ExecutionException rejected = assertThrows(ExecutionException.class, () -> thrown.get(5, TimeUnit.SECONDS));
+        assertInstanceOf(IllegalStateException.class, rejected.getCause());
+        assertEquals(RPSPlayer.Move.PAPER, next.player2Move());
+        assertEquals(LinkState.UP, link.state());
+        link.close();
+    }
+
+    @Test
+    void playAsync_BackToBackRoundsWithFirmwareDelay_ShouldNotTimeOut() throws Exception {
+        // Arrange
+        AtomicInteger connects = new AtomicInteger();
+        List<LinkState> states = new CopyOnWriteArrayList<>();
+        LinkSupervisor link = new LinkSupervisor(() -> {
+            connects.incrementAndGet();
+            return new GameController(new RPSServerEmulator(new Random(1), 2000));
+        });
+        link.setStateListener(states::add);
+        link.start();
+        awaitCondition(() -> link.state() == LinkState.UP);
+        List<CompletableFuture<GameDTO>> futures = new ArrayList<>();
+
+        // Act
+        for (int i = 0; i < 3; i++) {
+            futures.add(link.playAsync(RPSMode.MAN_VS_MAN, RPSPlayer.Move.ROCK, RPSPlayer.Move.PAPER));
+        }
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).get(15, TimeUnit.SECONDS);
+        link.close();
+
+        // Assert
+        assertEquals(1, connects.get());
+        assertEquals(List.of(LinkState.UP, LinkState.DOWN), states);
+    }
+
+    @Test
+    void heartbeat_SilentDevice_ShouldDegradeThenTakeLinkDown() throws Exception {
+        // Arrange
+        List<LinkState> states = new CopyOnWriteArrayList<>();
+        LinkSupervisor link = new LinkSupervisor(() -> new GameController(new StreamTransport(
+                new PipedInputStream(new PipedOutputStream()), OutputStream.nullOutputStream())),
+                1000, 1000, 50, 100, 16);
+        link.setStateListener(states::add);
+
+        // Act
+        link.start();
+        awaitCondition(() -> states.contains(LinkState.DOWN));
+        link.close();
+
+        // Assert
+        assertEquals(List.of(LinkState.UP, LinkState.DEGRADED, LinkState.DOWN), states.subList(0, 3));
+    }
+
+    private static void awaitCondition(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (!condition.getAsBoolean()) {
+            assertTrue(System.nanoTime() < deadline, "Condition not reached in time");
+            Thread.sleep(5);
+        }
+    }
+}
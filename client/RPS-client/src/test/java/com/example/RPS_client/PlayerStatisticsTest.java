@@ -0,0 +1,79 @@
+package com.example.RPS_client;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import com.example.RPS_client.DTO.GameDTO;
+import com.example.RPS_client.DTO.PlayerStatsDTO;
+import com.example.RPS_client.RPSGame.RPSPlayer;
+import com.example.RPS_client.stats.PlayerStatistics;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.jupiter.api.Test;
+
+public class PlayerStatisticsTest {
+
+    @Test
+    void record_MixedResults_ShouldCountOutcomesStreaksAndMoves() {
+        // Arrange
+        PlayerStatistics statistics = new PlayerStatistics();
+
+        // Act
+        statistics.record("Alice", "Bob", new GameDTO("Player 1", RPSPlayer.Move.ROCK, RPSPlayer.Move.SCISSORS));
+        statistics.record("Alice", "Bob", new GameDTO("Player 1", RPSPlayer.Move.PAPER, RPSPlayer.Move.ROCK));
+        statistics.record("Alice", "Bob", new GameDTO("DRAW", RPSPlayer.Move.ROCK, RPSPlayer.Move.ROCK));
+        statistics.record("Alice", "Bob", new GameDTO("Player 2", RPSPlayer.Move.ROCK, RPSPlayer.Move.PAPER));
+        statistics.record("Alice", "AI", new GameDTO("AI", RPSPlayer.Move.SCISSORS, RPSPlayer.Move.ROCK));
+        PlayerStatsDTO alice = statistics.snapshot("Alice");
+        PlayerStatsDTO bob = statistics.snapshot("Bob");
+
+        // Assert
+        assertEquals(2, alice.wins());
+        assertEquals(2, alice.losses());
+        assertEquals(1, alice.draws());
+        assertEquals(-2, alice.currentStreak());
+        assertEquals(2, alice.longestWinStreak());
+        assertEquals(2, alice.longestLossStreak());
+        assertEquals(3, alice.moveCount(RPSPlayer.Move.ROCK));
+        assertEquals(1.0 / 3, alice.winRateAgainst(RPSPlayer.Move.ROCK), 1e-9);
+        assertEquals(1.0, alice.winRateAgainst(RPSPlayer.Move.SCISSORS));
+        assertEquals(1, bob.wins());
+        assertEquals(1, bob.currentStreak());
+        assertEquals(1, statistics.snapshot("AI").wins());
+        assertNull(statistics.snapshot("Carol"));
+    }
+
+    @Test
+    void snapshot_DuringUpdates_ShouldAlwaysBeConsistent() throws Exception {
+        // Arrange
+        PlayerStatistics statistics = new PlayerStatistics();
+        int alice = statistics.playerId("Alice");
+        int bob = statistics.playerId("Bob");
+        AtomicBoolean running = new AtomicBoolean(true);
+        RPSPlayer.Move[] moves = RPSPlayer.Move.values();
+        String[] results = {"DRAW", "Player 1", "Player 2"};
+        Thread writer = new Thread(() -> {
+            for (int i = 0; running.get(); i++) {
+                statistics.record(alice, bob, new GameDTO(results[i % 3], moves[i % 3], moves[i / 3 % 3]));
+            }
+        });
+
+        // Act
+        writer.start();
+        long inconsistent = 0;
+        for (int i = 0; i < 100_000; i++) {
+            PlayerStatsDTO snapshot = statistics.snapshot(alice);
+            long moveTotal = Arrays.stream(snapshot.moveCounts()).sum();
+            long opponentTotal = Arrays.stream(snapshot.roundsAgainstMove()).sum();
+            if (snapshot.rounds() != moveTotal || moveTotal != opponentTotal) {
+                inconsistent++;
+            }
+        }
+        running.set(false);
+        writer.join();
+
+        // Assert
+        assertEquals(0, inconsistent);
+        assertEquals(statistics.snapshot(alice).wins(), statistics.snapshot(bob).losses());
+    }
+}
@@ -0,0 +1,115 @@
+package com.example.RPS_client;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.example.RPS_client.DTO.GameDTO;
+import com.example.RPS_client.DTO.RoundDTO;
+import com.example.RPS_client.RPSGame.RPSMode;
+import com.example.RPS_client.RPSGame.RPSPlayer;
+import com.example.RPS_client.communication.RPSServerEmulator;
+import com.example.RPS_client.communication.StreamTransport;
+import com.example.RPS_client.controller.FairRoundScheduler;
+import com.example.RPS_client.controller.GameController;
+import com.example.RPS_client.controller.RoundPlayer;
+import com.example.RPS_client.gateway.RPSGateway;
+import java.io.InputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+public class RPSGatewayTest {
+
+    @Test
+    void playBatch_OverTcp_ShouldReturnResultsOfBackend() throws Exception {
+        // Arrange
+        GameController backend = new GameController(new RPSServerEmulator(1));
+        RPSGateway gateway = new RPSGateway(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), List.of(backend));
+        gateway.start();
+        Socket socket = new Socket(InetAddress.getLoopbackAddress(), gateway.port());
+        GameController remote = new GameController(new StreamTransport(socket.getInputStream(), socket.getOutputStream()));
+        List<RoundDTO> rounds = new ArrayList<>();
+        for (int i = 0; i < 40; i++) {
+            rounds.add(new RoundDTO(RPSMode.MAN_VS_MAN, RPSPlayer.Move.values()[i % 3], RPSPlayer.Move.values()[i / 3 % 3]));
+        }
+
+        // Act
+        boolean binary = remote.enableBinaryProtocol();
+        List<GameDTO> results = remote.playBatch(rounds);
+        remote.close();
+        gateway.close();
+        backend.close();
+
+        // Assert
+        assertFalse(binary);
+        assertEquals(40, results.size());
+        for (int i = 0; i < rounds.size(); i++) {
+            assertEquals(rounds.get(i).player1Move(), results.get(i).player1Move());
+            assertEquals(rounds.get(i).player2Move(), results.get(i).player2Move());
+        }
+    }
+
+    @Test
+    void gateway_ManyConcurrentConnections_ShouldAnswerEveryRoundInOrder() throws Exception {
+        // Arrange
+        List<RoundPlayer> backends = List.of(
+                new GameController(new RPSServerEmulator(1)), new GameController(new RPSServerEmulator(2)));
+
+        // Act & Assert
+        assertEveryRoundAnswered(backends);
+    }
+
+    @Test
+    void gateway_ScheduledBackendsSmallerThanLoad_ShouldHoldRoundsBackInsteadOfFailingThem() throws Exception {
+        // Arrange
+        FairRoundScheduler first = new FairRoundScheduler(new GameController(new RPSServerEmulator(1)), 16, 4, 2);
+        FairRoundScheduler second = new FairRoundScheduler(new GameController(new RPSServerEmulator(2)), 16, 4, 2);
+
+        // Act & Assert
+        assertEveryRoundAnswered(List.of(first, second));
+        first.close();
+        second.close();
+    }
+
+    private static void assertEveryRoundAnswered(List<RoundPlayer> backends) throws Exception {
+        RPSGateway gateway = new RPSGateway(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), backends);
+        gateway.start();
+        int connections = 1000;
+        List<Socket> sockets = new ArrayList<>();
+
+        for (int i = 0; i < connections; i++) {
+            Socket socket = new Socket(InetAddress.getLoopbackAddress(), gateway.port());
+            String move = RPSPlayer.Move.values()[i % 3].name();
+            socket.getOutputStream().write(("MAN_VS_MAN," + move + ",ROCK\nNONSENSE\nMAN_VS_MAN,PAPER," + move + "\n")
+                    .getBytes(StandardCharsets.US_ASCII));
+            sockets.add(socket);
+        }
+        int openConnections = gateway.connectionCount();
+        List<String> responses = new ArrayList<>();
+        for (Socket socket : sockets) {
+            socket.shutdownOutput();
+            responses.add(readAll(socket.getInputStream()));
+            socket.close();
+        }
+        gateway.close();
+
+        assertTrue(openConnections > connections / 2, "Only " + openConnections + " connections open");
+        for (int i = 0; i < connections; i++) {
+            String move = RPSPlayer.Move.values()[i % 3].name();
+            String[] answers = responses.get(i).split("\\|");
+            assertEquals(3, answers.length, responses.get(i));
+            assertTrue(answers[0].endsWith("," + move + ",ROCK"), answers[0]);
+            assertEquals("ERROR", answers[1]);
+            assertTrue(answers[2].endsWith(",PAPER," + move), answers[2]);
+        }
+    }
+
+    private static String readAll(InputStream inputStream) throws Exception {
+        return new String(inputStream.readAllBytes(), StandardCharsets.US_ASCII);
+    }
+}
@@ -0,0 +1,85 @@
+package com.example.RPS_client;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.example.RPS_client.RPSGame.RPSMode;
+import com.example.RPS_client.RPSGame.RPSPlayer;
+import com.example.RPS_client.communication.RPSServerEmulator;
+import com.example.RPS_client.communication.StreamTransport;
+import com.example.RPS_client.controller.GameController;
+import com.example.RPS_client.metrics.LatencyHistogram;
+import com.example.RPS_client.metrics.RPSMetrics;
+import java.io.ByteArrayInputStream;
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import org.junit.jupiter.api.Test;
+
+public class RPSMetricsTest {
+
+    @Test
+    void percentile_UniformLatencies_ShouldStayWithinBucketPrecision() {
+        // Arrange
+        LatencyHistogram histogram = new LatencyHistogram();
+
+        // Act
+        for (long nanos = 1; nanos <= 100_000; nanos++) {
+            histogram.record(nanos);
+        }
+
+        // Assert
+        assertEquals(100_000, histogram.getCount());
+        assertEquals(50_000, histogram.percentile(0.5), 50_000 * 0.125);
+        assertEquals(99_000, histogram.percentile(0.99), 99_000 * 0.125);
+        assertEquals(100_000, histogram.percentile(1.0));
+        assertEquals(0, new LatencyHistogram().percentile(0.5));
+    }
+
+    @Test
+    void sendModeAndMoves_OverEmulator_ShouldRecordRoundsAndBytes() throws Exception {
+        // Arrange
+        RPSMetrics metrics = RPSMetrics.instance();
+        long rounds = metrics.getRounds();
+        long latencies = metrics.latency(RPSMode.MAN_VS_AI).getCount();
+        long bytesOut = metrics.getBytesOut();
+        long bytesIn = metrics.getBytesIn();
+        GameController gameController = new GameController(new RPSServerEmulator(1));
+
+        // Act
+        for (int i = 0; i < 10; i++) {
+            gameController.sendModeAndMoves("MAN_VS_AI", RPSPlayer.Move.ROCK, RPSPlayer.Move.PAPER);
+            gameController.receiveResult();
+        }
+        gameController.close();
+
+        // Assert
+        assertTrue(metrics.getRounds() - rounds >= 10);
+        assertTrue(metrics.latency(RPSMode.MAN_VS_AI).getCount() - latencies >= 10);
+        assertTrue(metrics.getBytesOut() - bytesOut >= 10 * "MAN_VS_AI,ROCK,PAPER\n".length());
+        assertTrue(metrics.getBytesIn() > bytesIn);
+    }
+
+    @Test
+    void register_MalformedResponse_ShouldExposeParseFailureOverJmx() throws Exception {
+        // Arrange
+        RPSMetrics metrics = RPSMetrics.instance();
+        metrics.register();
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        ObjectName link = new ObjectName(RPSMetrics.DOMAIN + ":type=Link");
+        long failures = (Long) server.getAttribute(link, "ParseFailures");
+        GameController gameController = new GameController(new StreamTransport(
+                new ByteArrayInputStream("GARBAGE|".getBytes(StandardCharsets.US_ASCII)), OutputStream.nullOutputStream()));
+
+        // Act
+        assertThrows(IllegalArgumentException.class, gameController::receiveResult);
+        metrics.register();
+
+        // Assert
+        assertTrue((Long) server.getAttribute(link, "ParseFailures") > failures);
+        assertTrue(server.isRegistered(new ObjectName(RPSMetrics.DOMAIN + ":type=Latency,mode=AI_VS_AI")));
+    }
+}
@@ -0,0 +1,176 @@
+package com.example.RPS_client;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.example.RPS_client.DTO.GameDTO;
+import com.example.RPS_client.DTO.MultiGameDTO;
+import com.example.RPS_client.DTO.RoundDTO;
+import com.example.RPS_client.RPSGame.RPSMode;
+import com.example.RPS_client.RPSGame.RPSPlayer;
+import com.example.RPS_client.communication.Communication;
+import com.example.RPS_client.communication.RPSServerEmulator;
+import com.example.RPS_client.communication.StreamTransport;
+import com.example.RPS_client.communication.TextProtocol;
+import com.example.RPS_client.controller.GameController;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class RPSServerEmulatorTest {
+    private GameController gameController;
+
+    @BeforeEach
+    void setUp() {
+        gameController = new GameController(new RPSServerEmulator(42L));
+    }
+
+    @AfterEach
+    void tearDown() {
+        gameController.close();
+    }
+
+    @Test
+    void sendModeAndMoves_ManVsMan_ShouldReturnWinner() throws IOException {
+        // Act
+        gameController.sendModeAndMoves(RPSMode.MAN_VS_MAN.name(), RPSPlayer.Move.ROCK, RPSPlayer.Move.SCISSORS);
+        GameDTO response = gameController.receiveResult();
+
+        // Assert
+        assertEquals("Player 1", response.gameResult());
+        assertEquals(RPSPlayer.Move.ROCK, response.player1Move());
+        assertEquals(RPSPlayer.Move.SCISSORS, response.player2Move());
+    }
+
+    @Test
+    void sendModeAndMoves_SameMoves_ShouldReturnDraw() throws IOException {
+        // Act
+        gameController.sendModeAndMoves(RPSMode.MAN_VS_MAN.name(), RPSPlayer.Move.PAPER, RPSPlayer.Move.PAPER);
+        GameDTO response = gameController.receiveResult();
+
+        // Assert
+        assertEquals("DRAW", response.gameResult());
+    }
+
+    @Test
+    void sendModeAndMoves_ManVsAi_ShouldNameAiAsSecondPlayer() throws IOException {
+        for (int round = 0; round < 50; round++) {
+            // Act
+            gameController.sendModeAndMoves(RPSMode.MAN_VS_AI.name(), RPSPlayer.Move.PAPER, RPSPlayer.Move.ROCK);
+            GameDTO response = gameController.receiveResult();
+
+            // Assert
+            assertNotNull(response.player2Move());
+            assertEquals(RPSPlayer.Move.PAPER, response.player1Move());
+            assertTrue(response.gameResult().equals("DRAW") || response.gameResult().equals("Player 1")
+                    || response.gameResult().equals("AI"));
+        }
+    }
+
+    @Test
+    void playBatch_MoreRoundsThanFrameLimit_ShouldReturnResultPerRound() throws IOException {
+        // Arrange
+        List<RoundDTO> rounds = new ArrayList<>();
+        for (int i = 0; i < GameController.MAX_BATCH_ROUNDS * 2 + 3; i++) {
+            rounds.add(new RoundDTO(RPSMode.MAN_VS_MAN, RPSPlayer.Move.values()[i % 3], RPSPlayer.Move.ROCK));
+        }
+
+        // Act
+        List<GameDTO> results = gameController.playBatch(rounds);
+
+        // Assert
+        assertEquals(rounds.size(), results.size());
+        for (int i = 0; i < rounds.size(); i++) {
+            assertEquals(rounds.get(i).player1Move(), results.get(i).player1Move());
+        }
+        assertEquals("DRAW", results.get(0).gameResult());
+        assertEquals("Player 1", results.get(1).gameResult());
+        assertEquals("Player 2", results.get(2).gameResult());
+
+        // Single-round frames keep working after a batch.
+        gameController.sendModeAndMoves(RPSMode.MAN_VS_MAN.name(), RPSPlayer.Move.SCISSORS, RPSPlayer.Move.PAPER);
+        assertEquals("Player 1", gameController.receiveResult().gameResult());
+    }
+
+    @Test
+    void enableBinaryProtocol_EmulatorSupportsIt_ShouldPlayBinaryRounds() throws IOException {
+        // Act
+        boolean enabled = gameController.enableBinaryProtocol();
+        gameController.sendModeAndMoves(RPSMode.MAN_VS_MAN.name(), RPSPlayer.Move.PAPER, RPSPlayer.Move.SCISSORS);
+        GameDTO single = gameController.receiveResult();
+        List<GameDTO> batch = gameController.playBatch(List.of(
+                new RoundDTO(RPSMode.MAN_VS_MAN, RPSPlayer.Move.ROCK, RPSPlayer.Move.ROCK),
+                new RoundDTO(RPSMode.MAN_VS_MAN, RPSPlayer.Move.SCISSORS, RPSPlayer.Move.PAPER)));
+
+        // Assert
+        assertTrue(enabled);
+        assertEquals(new GameDTO("Player 2", RPSPlayer.Move.PAPER, RPSPlayer.Move.SCISSORS), single);
+        assertEquals("DRAW", batch.get(0).gameResult());
+        assertEquals("Player 1", batch.get(1).gameResult());
+    }
+
+    @Test
+    void negotiateBinary_TextOnlyServer_ShouldFallBackToText() throws IOException {
+        // Arrange
+        ByteArrayInputStream input = new ByteArrayInputStream("DRAW,ROCK,ROCK|".getBytes(StandardCharsets.US_ASCII));
+        Communication communication = new Communication(new StreamTransport(input, new ByteArrayOutputStream()));
+
+        // Act & Assert
+        assertFalse(communication.negotiateBinary());
+    }
+
+    @Test
+    void streamTransport_AllOk_ShouldExchangeMessages() throws IOException {
+        // Arrange
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        ByteArrayInputStream input = new ByteArrayInputStream("Player 2,ROCK,PAPER|".getBytes(StandardCharsets.US_ASCII));
+        Communication communication = new Communication(new StreamTransport(input, output));
+
+        // Act
+        communication.sendMessage("MAN_VS_MAN,ROCK,PAPER\n");
+        String response = communication.receiveMessageUntil("|");
+
+        // Assert
+        assertEquals("MAN_VS_MAN,ROCK,PAPER\n", output.toString(StandardCharsets.US_ASCII));
+        assertEquals("Player 2,ROCK,PAPER", response);
+    }
+
+    @Test
+    void sendModeAndMoves_UnknownMode_ShouldPlayManVsManLikeFirmware() throws IOException {
+        // Act
+        gameController.sendModeAndMoves("UNKNOWN_MODE", RPSPlayer.Move.PAPER, RPSPlayer.Move.SCISSORS);
+        GameDTO response = gameController.receiveResult();
+
+        // Assert
+        assertEquals("Player 2", response.gameResult());
+        assertEquals(RPSPlayer.Move.SCISSORS, response.player2Move());
+    }
+
+    @Test
+    void playMulti_ThousandsOfPlayersWithTwoMoves_ShouldReportPaperPlayersAsWinners() throws IOException {
+        // Arrange
+        RPSPlayer.Move[] moves = new RPSPlayer.Move[TextProtocol.MAX_MULTI_PLAYERS];
+        for (int i = 0; i < moves.length; i++) {
+            moves[i] = i % 3 == 0 ? RPSPlayer.Move.PAPER : RPSPlayer.Move.ROCK;
+        }
+
+        // Act
+        MultiGameDTO result = gameController.playMulti(moves);
+
+        // Assert
+        assertEquals(moves.length, result.players());
+        assertEquals(1366, result.moveCount(RPSPlayer.Move.PAPER.ordinal()));
+        assertEquals(1366, result.winnerCount());
+        for (int i = 0; i < moves.length; i++) {
+            assertEquals(moves[i] == RPSPlayer.Move.PAPER, result.isWinner(i));
+        }
+    }
+}
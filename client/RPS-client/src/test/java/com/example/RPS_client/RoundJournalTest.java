@@ -0,0 +1,75 @@
+package com.example.RPS_client;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.example.RPS_client.DTO.GameDTO;
+import com.example.RPS_client.DTO.JournalEntryDTO;
+import com.example.RPS_client.RPSGame.RPSMode;
+import com.example.RPS_client.RPSGame.RPSPlayer;
+import com.example.RPS_client.storage.RoundJournal;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class RoundJournalTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void append_ReopenedJournal_ShouldReadBackEveryRound() throws Exception {
+        // Arrange
+        Path file = tempDir.resolve("rounds.journal");
+        RPSPlayer.Move[] moves = RPSPlayer.Move.values();
+        int rounds = 40_000;
+
+        // Act
+        try (RoundJournal journal = new RoundJournal(file)) {
+            for (int i = 0; i < rounds; i++) {
+                journal.append(RPSMode.MAN_VS_MAN, new GameDTO("Player 1", moves[i % 3], moves[(i + 2) % 3]), 1000L + i);
+            }
+        }
+
+        // Assert
+        try (RoundJournal journal = new RoundJournal(file)) {
+            assertEquals(rounds, journal.size());
+            JournalEntryDTO entry = journal.read(12_345);
+            assertEquals(new JournalEntryDTO(12_345, 13_345, RPSMode.MAN_VS_MAN,
+                    new GameDTO("Player 1", RPSPlayer.Move.ROCK, RPSPlayer.Move.SCISSORS)), entry);
+            assertEquals(12_345, journal.findByTimestamp(13_345));
+            assertEquals(0, journal.findByTimestamp(0));
+            assertEquals(rounds, journal.findByTimestamp(Long.MAX_VALUE));
+            assertThrows(IndexOutOfBoundsException.class, () -> journal.read(rounds));
+        }
+    }
+
+    @Test
+    void open_TornLastRecord_ShouldRecoverRoundsBeforeIt() throws Exception {
+        // Arrange
+        Path file = tempDir.resolve("rounds.journal");
+        try (RoundJournal journal = new RoundJournal(file, 1)) {
+            for (int i = 0; i < 3; i++) {
+                journal.append(RPSMode.MAN_VS_AI, new GameDTO("AI", RPSPlayer.Move.ROCK, RPSPlayer.Move.PAPER));
+            }
+        }
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.wrap(new byte[]{0x55}), RoundJournal.HEADER_SIZE + 2L * RoundJournal.RECORD_SIZE + 17);
+        }
+
+        // Act
+        try (RoundJournal journal = new RoundJournal(file)) {
+            long recovered = journal.size();
+            long appended = journal.append(RPSMode.AI_VS_AI, new GameDTO("DRAW", RPSPlayer.Move.PAPER, RPSPlayer.Move.PAPER));
+
+            // Assert
+            assertEquals(2, recovered);
+            assertEquals(2, appended);
+            assertEquals("DRAW", journal.read(2).result().gameResult());
+            assertEquals(RPSMode.MAN_VS_AI, journal.read(1).mode());
+        }
+    }
+}
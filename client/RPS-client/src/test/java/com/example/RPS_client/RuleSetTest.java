@@ -0,0 +1,99 @@
+package com.example.RPS_client;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.example.RPS_client.DTO.MultiGameDTO;
+import com.example.RPS_client.engine.RPSRules;
+import com.example.RPS_client.engine.RuleSet;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+public class RuleSetTest {
+
+    @Test
+    void outcome_BuiltInRuleSets_ShouldMatchTheirRules() {
+        // Arrange
+        RuleSet rpsls = RuleSet.RPSLS;
+        RuleSet rps101 = RuleSet.RPS_101;
+
+        // Assert
+        for (int move1 = 0; move1 < RPSRules.MOVES; move1++) {
+            for (int move2 = 0; move2 < RPSRules.MOVES; move2++) {
+                assertEquals(RPSRules.outcome(move1, move2), RuleSet.CLASSIC.outcome(move1, move2));
+                assertEquals(RPSRules.outcome(move1, move2), rpsls.outcome(move1, move2));
+            }
+        }
+        assertEquals(RPSRules.PLAYER_1, rpsls.outcome(rpsls.moveIndex("SPOCK"), rpsls.moveIndex("ROCK")));
+        assertEquals(RPSRules.PLAYER_2, rpsls.outcome(rpsls.moveIndex("PAPER"), rpsls.moveIndex("LIZARD")));
+        for (int move1 = 0; move1 < rps101.size(); move1++) {
+            int wins = 0;
+            int losses = 0;
+            for (int move2 = 0; move2 < rps101.size(); move2++) {
+                int outcome = rps101.outcome(move1, move2);
+                wins += outcome == RPSRules.PLAYER_1 ? 1 : 0;
+                losses += outcome == RPSRules.PLAYER_2 ? 1 : 0;
+            }
+            assertEquals(50, wins);
+            assertEquals(50, losses);
+        }
+    }
+
+    @Test
+    void packMoves_RoundTrip_ShouldUseMinimalBits() {
+        // Arrange
+        RuleSet rules = RuleSet.RPS_101;
+        int[] moves = {0, 100, 57, 1, 64, 99, 3, 42, 77};
+        byte[] packed = new byte[rules.packedLength(moves.length)];
+        int[] unpacked = new int[moves.length];
+
+        // Act
+        int length = rules.packMoves(moves, moves.length, packed);
+        rules.unpackMoves(packed, moves.length, unpacked);
+
+        // Assert
+        assertEquals(7, rules.bitsPerMove());
+        assertEquals(2, RuleSet.CLASSIC.bitsPerMove());
+        assertEquals(3, RuleSet.RPSLS.bitsPerMove());
+        assertEquals(8, length);
+        assertArrayEquals(moves, unpacked);
+    }
+
+    @Test
+    void define_MovesBeatingEachOther_ShouldThrowIllegalArgumentException() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> RuleSet.define("Broken", List.of("A", "B"),
+                Map.of("A", List.of("B"), "B", List.of("A"))));
+        assertThrows(IllegalArgumentException.class, () -> RuleSet.define("Unknown", List.of("A", "B"),
+                Map.of("A", List.of("C"))));
+    }
+
+    @Test
+    void resolve_ManyPlayers_ShouldCountMovesAndMarkWinners() {
+        // Arrange
+        RuleSet rpsls = RuleSet.RPSLS;
+        int rock = rpsls.moveIndex("ROCK");
+        int scissors = rpsls.moveIndex("SCISSORS");
+        int lizard = rpsls.moveIndex("LIZARD");
+        int paper = rpsls.moveIndex("PAPER");
+
+        // Act
+        MultiGameDTO twoMoves = RuleSet.CLASSIC.resolve(new int[]{0, 2, 2, 0, 2}, 5);
+        MultiGameDTO allMoves = RuleSet.CLASSIC.resolve(new int[]{0, 1, 2, 0}, 4);
+        MultiGameDTO sameMove = RuleSet.CLASSIC.resolve(new int[]{1, 1, 1}, 3);
+        MultiGameDTO rockUnbeaten = rpsls.resolve(new int[]{scissors, rock, lizard, rock}, 4);
+        MultiGameDTO noneUnbeaten = rpsls.resolve(new int[]{scissors, rock, paper}, 3);
+
+        // Assert
+        assertEquals(BitSet.valueOf(new long[]{0b01001}), twoMoves.winners());
+        assertEquals(3, twoMoves.moveCount(2));
+        assertTrue(allMoves.isDraw());
+        assertTrue(sameMove.isDraw());
+        assertEquals(BitSet.valueOf(new long[]{0b1010}), rockUnbeaten.winners());
+        assertTrue(noneUnbeaten.isDraw());
+    }
+}
@@ -3,6 +3,7 @@ package com.example.RPS_client;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -28,6 +29,7 @@ public class SerialCommunicationTest {
         mockInputStream = mock(InputStream.class);
         mockOutputStream = mock(OutputStream.class);
 
+        when(serialPort.openPort()).thenReturn(true);
         when(serialPort.getInputStream()).thenReturn(mockInputStream);
         when(serialPort.getOutputStream()).thenReturn(mockOutputStream);
 
@@ -52,7 +54,7 @@ public class SerialCommunicationTest {
         // Arrange
         String expectedExceptionMessage = "No data received from server";
 
-        when(mockInputStream.read(any(byte[].class))).thenReturn(-1);
+        when(mockInputStream.read(any(byte[].class), anyInt(), anyInt())).thenReturn(-1);
 
         // Act & Assert
         IOException exception = assertThrows(IOException.class, () -> serialCommunication.receiveMessage());
@@ -77,7 +79,7 @@ public class SerialCommunicationTest {
         String expectedExceptionMessage = "No data received from server";
         String delimiter = "\n";
 
-        when(mockInputStream.read(any(byte[].class))).thenReturn(-1);
+        when(mockInputStream.read(any(byte[].class), anyInt(), anyInt())).thenReturn(-1);
 
         // Act & Assert
         IOException exception = assertThrows(IOException.class, () -> serialCommunication.receiveMessageUntil(delimiter));
@@ -0,0 +1,38 @@
+package com.example.RPS_client;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.example.RPS_client.DTO.GameDTO;
+import com.example.RPS_client.RPSGame.Outcome;
+import com.example.RPS_client.RPSGame.RPSPlayer;
+import com.example.RPS_client.communication.TextProtocol;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.Test;
+
+public class TextProtocolTest {
+
+    @Test
+    void parseResult_PaddedFrameInsideBuffer_ShouldReturnSharedInstance() {
+        // Arrange
+        byte[] buffer = "xx Player 2,PAPER,SCISSORS\r\nyy".getBytes(StandardCharsets.US_ASCII);
+
+        // Act
+        GameDTO result = TextProtocol.parseResult(buffer, 2, buffer.length - 4);
+
+        // Assert
+        assertSame(GameDTO.of(Outcome.PLAYER_2, RPSPlayer.Move.PAPER, RPSPlayer.Move.SCISSORS), result);
+    }
+
+    @Test
+    void parseResult_MalformedFrames_ShouldThrowIllegalArgumentException() {
+        // Arrange
+        String[] frames = {"", "DRAW", "DRAW,ROCK", "Player,ROCK,ROCK", "AI,ROCK,ROCKS", "AI,ROCK,ROCK,PAPER"};
+
+        // Act & Assert
+        for (String frame : frames) {
+            byte[] bytes = frame.getBytes(StandardCharsets.US_ASCII);
+            assertThrows(IllegalArgumentException.class, () -> TextProtocol.parseResult(bytes, 0, bytes.length));
+        }
+    }
+}
@@ -0,0 +1,137 @@
+package com.example.RPS_client;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.example.RPS_client.DTO.GameDTO;
+import com.example.RPS_client.DTO.RoundDTO;
+import com.example.RPS_client.RPSGame.RPSMode;
+import com.example.RPS_client.RPSGame.RPSPlayer;
+import com.example.RPS_client.communication.CaptureTransport;
+import com.example.RPS_client.communication.RPSServerEmulator;
+import com.example.RPS_client.communication.ReplayTransport;
+import com.example.RPS_client.controller.FairRoundScheduler;
+import com.example.RPS_client.controller.GameController;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class TrafficCaptureTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void replay_CapturedSession_ShouldReturnSameResults() throws Exception {
+        // Arrange
+        Path captureFile = tempDir.resolve("session.rpscap");
+        List<RoundDTO> rounds = new ArrayList<>();
+        for (int i = 0; i < 40; i++) {
+            rounds.add(new RoundDTO(RPSMode.MAN_VS_MAN, RPSPlayer.Move.values()[i % 3], RPSPlayer.Move.values()[i / 3 % 3]));
+        }
+        GameController recording = new GameController(new CaptureTransport(new RPSServerEmulator(1), captureFile));
+        List<GameDTO> recorded = recording.playBatch(rounds);
+        recording.close();
+
+        // Act
+        GameController replaying = new GameController(new ReplayTransport(captureFile,
+                ReplayTransport.Pace.AS_FAST_AS_POSSIBLE));
+        List<GameDTO> replayed = new ArrayList<>();
+        for (int i = 0; i < rounds.size(); i++) {
+            replayed.add(replaying.receiveResult());
+        }
+
+        // Assert
+        assertEquals(recorded, replayed);
+        assertThrows(RuntimeException.class, replaying::receiveResult);
+        replaying.close();
+    }
+
+    @Test
+    void replay_ClicksWithOtherMoves_ShouldReturnCapturedResultsInOrder() throws Exception {
+        // Arrange
+        Path captureFile = tempDir.resolve("ui.rpscap");
+        GameController recording = new GameController(new CaptureTransport(new RPSServerEmulator(1), captureFile));
+        List<GameDTO> recorded = new ArrayList<>();
+        for (int i = 0; i < 6; i++) {
+            recorded.add(recording.playAsync(RPSMode.MAN_VS_MAN, RPSPlayer.Move.values()[i % 3],
+                    RPSPlayer.Move.ROCK).get(5, TimeUnit.SECONDS));
+            recording.pingAsync().get(5, TimeUnit.SECONDS);
+        }
+        recording.close();
+        GameController replaying = GameController.replay(captureFile, ReplayTransport.Pace.AS_FAST_AS_POSSIBLE);
+        FairRoundScheduler scheduler = new FairRoundScheduler(replaying);
+
+        // Act
+        List<GameDTO> replayed = new ArrayList<>();
+        for (int i = 0; i < recorded.size(); i++) {
+            replayed.add(scheduler.playAsync(RPSMode.MAN_VS_MAN, RPSPlayer.Move.SCISSORS, RPSPlayer.Move.PAPER)
+                    .get(5, TimeUnit.SECONDS));
+        }
+        CompletableFuture<GameDTO> exhausted = scheduler.playAsync(RPSMode.MAN_VS_MAN, RPSPlayer.Move.ROCK,
+                RPSPlayer.Move.ROCK);
+
+        // Assert
+        assertEquals(recorded, replayed);
+        assertThrows(ExecutionException.class, () -> exhausted.get(5, TimeUnit.SECONDS));
+        scheduler.close();
+        replaying.close();
+    }
+
+    @Test
+    void replay_OriginalPace_ShouldKeepInterArrivalTimes() throws Exception {
+        // Arrange
+        Path captureFile = tempDir.resolve("paced.rpscap");
+        CaptureTransport capture = new CaptureTransport(new RPSServerEmulator(1), captureFile);
+        capture.getOutputStream().write("MAN_VS_MAN,ROCK,PAPER\n".getBytes());
+        capture.getInputStream().read(new byte[64]);
+        Thread.sleep(100);
+        capture.getOutputStream().write("MAN_VS_MAN,PAPER,PAPER\n".getBytes());
+        capture.getInputStream().read(new byte[64]);
+        capture.close();
+        byte[] buffer = new byte[64];
+
+        // Act
+        ReplayTransport replay = new ReplayTransport(captureFile, ReplayTransport.Pace.ORIGINAL);
+        int first = replay.getInputStream().read(buffer);
+        long start = System.nanoTime();
+        int second = replay.getInputStream().read(buffer);
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        // Assert
+        assertTrue(first > 0 && second > 0);
+        assertTrue(elapsedMillis >= 80, "Second chunk released after " + elapsedMillis + " ms");
+        assertEquals(-1, replay.getInputStream().read(buffer));
+    }
+
+    @Test
+    void replay_TruncatedOrForeignFile_ShouldEndCleanlyOrBeRejected() throws Exception {
+        // Arrange
+        Path captureFile = tempDir.resolve("truncated.rpscap");
+        CaptureTransport capture = new CaptureTransport(new RPSServerEmulator(1), captureFile);
+        capture.getOutputStream().write("MAN_VS_MAN,ROCK,ROCK\n".getBytes());
+        int length = capture.getInputStream().read(new byte[64]);
+        capture.close();
+        byte[] bytes = Files.readAllBytes(captureFile);
+        Files.write(captureFile, Arrays.copyOf(bytes, bytes.length - 2));
+
+        // Act
+        ReplayTransport replay = new ReplayTransport(captureFile, ReplayTransport.Pace.AS_FAST_AS_POSSIBLE);
+
+        // Assert
+        assertTrue(length > 0);
+        assertEquals(-1, replay.getInputStream().read(new byte[64]));
+        assertThrows(IOException.class, () -> new ReplayTransport(
+                new ByteArrayInputStream("RESULT,ROCK,ROCK|".getBytes()), ReplayTransport.Pace.ORIGINAL));
+    }
+}
@@ -114,75 +114,221 @@ void setup() {
   randomSeed(analogRead(0));  ///< Initialize the random number generator.
 }
 
+/**
+ * @brief Prefix of a batch frame carrying several rounds.
+ * @details A batch frame looks like "BATCH:MODE,MOVE1,MOVE2;MODE,MOVE1,MOVE2\n".
+ */
+const String BATCH_PREFIX = "BATCH:";
+
+/**
+ * @brief Maximum number of rounds accepted in one batch frame.
+ * @details Bounds the size of the frame held in RAM; the client splits larger batches.
+ */
+const int MAX_BATCH_ROUNDS = 16;
+
+/**
+ * @brief Handshake request of a client asking for the binary protocol.
+ */
+const String BINARY_HANDSHAKE = "BIN?";
+
+/**
+ * @brief Marker bit set on every binary request and response byte.
+ * @details Request byte: 1 | 0 | mode(2) | move1(2) | move2(2).
+ * Response byte: 1 | 0 | outcome(2) | move1(2) | move2(2), outcome 0 = draw, 1 = Player 1, 2 = Player 2, 3 = AI.
+ */
+const byte BINARY_MARKER = 0x80;
+
+/**
+ * @brief Time to wait for the next byte of a binary burst, in milliseconds.
+ * @details At 9600 bps a byte takes about 1 ms, so a short wait keeps a burst in one response window.
+ */
+const unsigned long BINARY_BURST_TIMEOUT = 5;
+
 /**
  * @brief Main loop function.
- * @details Processes input from the serial port, converting it into game mode and moves. Executes the game according to the selected mode (Human vs Human, Human vs AI, AI vs AI) and outputs the result.
+ * @details Processes input from the serial port. A single-round frame "MODE,MOVE1,MOVE2" is answered with one
+ * result; a batch frame "BATCH:round;round;..." is answered with one "|"-terminated result per round.
+ * Bytes with the high bit set are binary rounds and are answered with one binary result byte each.
+ * The delay before accepting the next input is applied once per frame.
  */
 void loop() {
   if (Serial.available() > 0) {
+    if (Serial.peek() & BINARY_MARKER) {
+      playBinaryBurst();
+      delay(2000);  ///< Delay for 2 seconds before accepting the next input.
+      return;
+    }
+
     String input = Serial.readStringUntil('\n');  ///< Reads the input string until a newline character.
 
-    // Splits the input string into parts.
-    int delimiterIndex1 = input.indexOf(',');
-    int delimiterIndex2 = input.indexOf(',', delimiterIndex1 + 1);
+    if (input == BINARY_HANDSHAKE) {
+      Serial.print("BIN");  ///< Confirms binary support; the handshake is not a round, so no delay.
+      Serial.print("|");
+      return;
+    }
+
+    if (input.startsWith(BATCH_PREFIX)) {
+      int start = BATCH_PREFIX.length();
+      int rounds = 0;
+
+      // Plays every ";"-separated round of the batch and sends its result immediately.
+      while (start <= (int) input.length() && rounds < MAX_BATCH_ROUNDS) {
+        int end = input.indexOf(';', start);
+        if (end < 0) {
+          end = input.length();
+        }
+
+        Serial.print(playRound(input.substring(start, end)));
+        Serial.print("|");
+
+        rounds++;
+        start = end + 1;
+      }
+    } else {
+      Serial.print(playRound(input));  ///< Send the result to the serial output.
+      Serial.print("|");
+    }
+
+    delay(2000);  ///< Delay for 2 seconds before accepting the next input.
+  }
+}
+
+/**
+ * @brief Plays consecutive binary rounds.
+ * @details Reads binary request bytes while they keep arriving, up to MAX_BATCH_ROUNDS, and answers each one
+ * with a binary result byte.
+ */
+void playBinaryBurst() {
+  int rounds = 0;
+
+  while (rounds < MAX_BATCH_ROUNDS && waitForByte(BINARY_BURST_TIMEOUT) && (Serial.peek() & BINARY_MARKER)) {
+    byte request = Serial.read();
+    Serial.write(playBinaryRound(request));
+    rounds++;
+  }
+}
+
+/**
+ * @brief Waits until a byte is available on the serial port.
+ * @param timeout Maximum time to wait, in milliseconds.
+ * @return True if a byte is available.
+ */
+bool waitForByte(unsigned long timeout) {
+  unsigned long start = millis();
+  while (Serial.available() == 0) {
+    if (millis() - start >= timeout) {
+      return false;
+    }
+  }
+  return true;
+}
+
+/**
+ * @brief Plays a single binary round.
+ * @param request The request byte: marker | mode(2) | move1(2) | move2(2).
+ * @return The response byte: marker | outcome(2) | move1(2) | move2(2).
+ */
+byte playBinaryRound(byte request) {
+  // Out-of-range values fall back to the same defaults as the text protocol.
+  byte modeBits = (request >> 4) & 0x03;
+  byte move1Bits = (request >> 2) & 0x03;
+  byte move2Bits = request & 0x03;
+
+  RPSMode mode = modeBits <= AI_VS_AI ? static_cast<RPSMode>(modeBits) : MAN_VS_MAN;
+  Move player1Move = move1Bits <= SCISSORS ? static_cast<Move>(move1Bits) : ROCK;
+  Move player2Move = move2Bits <= SCISSORS ? static_cast<Move>(move2Bits) : ROCK;
+
+  if (mode == MAN_VS_AI) {
+    player2Move = generateAIMove();
+  } else if (mode == AI_VS_AI) {
+    player1Move = generateAIMove();
+    player2Move = generateAIMove();
+  }
+
+  RPSPlayer player1("Player 1", player1Move);
+  RPSPlayer player2(mode == MAN_VS_AI ? "AI" : "Player 2", player2Move);
+
+  RPSGame game(player1, player2);
+  RPSPlayer* winner = game.play();
+
+  byte outcome = 0;
+  if (winner != nullptr) {
+    if (winner->getName() == "Player 1") {
+      outcome = 1;
+    } else {
+      outcome = (mode == MAN_VS_AI) ? 3 : 2;
+    }
+  }
+
+  return BINARY_MARKER | (outcome << 4) | (player1Move << 2) | player2Move;
+}
 
-    String modeString = input.substring(0, delimiterIndex1);
-    String move1String = input.substring(delimiterIndex1 + 1, delimiterIndex2);
-    String move2String = input.substring(delimiterIndex2 + 1);
+/**
+ * @brief Plays a single round.
+ * @details Converts the "MODE,MOVE1,MOVE2" string into game mode and moves and executes the game according to the
+ * selected mode (Human vs Human, Human vs AI, AI vs AI).
+ * @param input The round as a string.
+ * @return The result of the round as "RESULT,MOVE1,MOVE2".
+ */
+String playRound(String input) {
+  // Splits the input string into parts.
+  int delimiterIndex1 = input.indexOf(',');
+  int delimiterIndex2 = input.indexOf(',', delimiterIndex1 + 1);
 
-    // Converts strings to game mode and moves.
-    RPSMode mode = stringToRPSMode(modeString);
-    Move player1Move;
-    Move player2Move;
+  String modeString = input.substring(0, delimiterIndex1);
+  String move1String = input.substring(delimiterIndex1 + 1, delimiterIndex2);
+  String move2String = input.substring(delimiterIndex2 + 1);
 
-    String response;
+  // Converts strings to game mode and moves.
+  RPSMode mode = stringToRPSMode(modeString);
+  Move player1Move;
+  Move player2Move;
 
-    // Human vs Human mode.
-    if (mode == MAN_VS_MAN) {
-      player1Move = stringToMove(move1String);
-      player2Move = stringToMove(move2String);
+  String response;
 
-      RPSPlayer player1("Player 1", player1Move);
-      RPSPlayer player2("Player 2", player2Move);
+  // Human vs Human mode.
+  if (mode == MAN_VS_MAN) {
+    player1Move = stringToMove(move1String);
+    player2Move = stringToMove(move2String);
 
-      RPSGame game(player1, player2);
-      RPSPlayer* winner = game.play();
+    RPSPlayer player1("Player 1", player1Move);
+    RPSPlayer player2("Player 2", player2Move);
 
-      response = convertResponse(winner, player1Move, player2Move);
+    RPSGame game(player1, player2);
+    RPSPlayer* winner = game.play();
 
-    } 
-    // Human vs AI mode.
-    else if (mode == MAN_VS_AI) {
-      player1Move = stringToMove(move1String);
-      Move aiMove = generateAIMove();
+    response = convertResponse(winner, player1Move, player2Move);
 
-      RPSPlayer player("Player 1", player1Move);
-      RPSPlayer ai("AI", aiMove);
+  } 
+  // Human vs AI mode.
+  else if (mode == MAN_VS_AI) {
+    player1Move = stringToMove(move1String);
+    Move aiMove = generateAIMove();
 
-      RPSGame game(player, ai);
-      RPSPlayer* winner = game.play();
+    RPSPlayer player("Player 1", player1Move);
+    RPSPlayer ai("AI", aiMove);
 
-      response = convertResponse(winner, player1Move, aiMove);
+    RPSGame game(player, ai);
+    RPSPlayer* winner = game.play();
 
-    } 
-    // AI vs AI mode.
-    else if (mode == AI_VS_AI) {
-      Move ai1Move = generateAIMove();
-      Move ai2Move = generateAIMove();
+    response = convertResponse(winner, player1Move, aiMove);
 
-      RPSPlayer ai1("Player 1", ai1Move);
-      RPSPlayer ai2("Player 2", ai2Move);
+  } 
+  // AI vs AI mode.
+  else if (mode == AI_VS_AI) {
+    Move ai1Move = generateAIMove();
+    Move ai2Move = generateAIMove();
 
-      RPSGame game(ai1, ai2);
-      RPSPlayer* winner = game.play();
+    RPSPlayer ai1("Player 1", ai1Move);
+    RPSPlayer ai2("Player 2", ai2Move);
 
-      response = convertResponse(winner, ai1Move, ai2Move);
-    }
+    RPSGame game(ai1, ai2);
+    RPSPlayer* winner = game.play();
 
-    Serial.print(response);  ///< Send the result to the serial output.
-    Serial.print("|");
-    delay(2000);  ///< Delay for 2 seconds before accepting the next input.
+    response = convertResponse(winner, ai1Move, ai2Move);
   }
+
+  return response;
 }
 
 /**